@@ -2,16 +2,45 @@ package br.com.board.taskboard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
+import java.io.IOException;
+import java.util.Arrays;
+
+import br.com.board.taskboard.config.RunMode;
+import br.com.board.taskboard.daemon.DaemonClient;
+import br.com.board.taskboard.daemon.DaemonServer;
+import br.com.board.taskboard.dto.ScriptSummary;
+import br.com.board.taskboard.script.ScriptRunner;
 import br.com.board.taskboard.view.MainMenu;
 
 @SpringBootApplication
 public class TaskboardApplication {
 
-	public static void main(String[] args) {
-		SpringApplication.run(TaskboardApplication.class, args)
-		.getBean(MainMenu.class)
-            .start();
+	public static void main(String[] args) throws IOException {
+		// O cliente do daemon não sobe o contexto: só repassa o comando pelo socket
+		if (args.length > 0 && args[0].equals("client")) {
+			System.exit(DaemonClient.run(Arrays.copyOfRange(args, 1, args.length)));
+		}
+
+		RunMode mode = RunMode.resolve(args);
+		SpringApplication application = new SpringApplication(TaskboardApplication.class);
+		application.setWebApplicationType(mode.getWebApplicationType());
+		application.setDefaultProperties(mode.defaultProperties());
+		ConfigurableApplicationContext context = application.run(args);
+
+		// No modo server a aplicação segue atendendo pelo servidor HTTP
+		if (mode == RunMode.CONSOLE) {
+			context.getBean(MainMenu.class).start();
+		} else if (mode == RunMode.SCRIPT) {
+			ScriptRunner scriptRunner = context.getBean(ScriptRunner.class);
+			ScriptSummary summary = scriptRunner.run(context.getEnvironment().getProperty("taskboard.script.file"));
+			scriptRunner.printSummary(summary);
+			// Código de saída 1 quando algum comando falhou, para uso em pipelines
+			System.exit(SpringApplication.exit(context, () -> summary.failures().isEmpty() ? 0 : 1));
+		} else if (mode == RunMode.DAEMON) {
+			context.getBean(DaemonServer.class).serve();
+		}
 	}
 
 }
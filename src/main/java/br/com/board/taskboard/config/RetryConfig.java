@@ -0,0 +1,10 @@
+package br.com.board.taskboard.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+// O interceptor de retry fica por fora do @Transactional (ordem padrão do @EnableRetry)
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
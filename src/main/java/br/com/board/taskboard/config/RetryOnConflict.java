@@ -0,0 +1,32 @@
+package br.com.board.taskboard.config;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Repete a operação quando outra transação gravou o mesmo cartão (lock otimista, deadlock ou timeout de lock).
+// O retry envolve o @Transactional, então cada tentativa relê o cartão em uma transação nova.
+// Esgotadas as tentativas, a ConcurrencyFailureException chega ao chamador.
+// Chamado dentro de uma transação já aberta (ex.: lote do ScriptRunner), não repete: a transação externa já está
+// marcada para rollback, então a exceção sobe direto e quem abriu a transação decide como refazer.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(
+        retryFor = ConcurrencyFailureException.class,
+        exceptionExpression = "!T(org.springframework.transaction.support.TransactionSynchronizationManager)"
+                + ".isActualTransactionActive()",
+        maxAttemptsExpression = "${taskboard.retry.max-attempts:5}",
+        backoff = @Backoff(
+                delayExpression = "${taskboard.retry.delay-ms:10}",
+                maxDelayExpression = "${taskboard.retry.max-delay-ms:200}",
+                multiplier = 2,
+                random = true))
+public @interface RetryOnConflict {
+}
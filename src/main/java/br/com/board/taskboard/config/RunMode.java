@@ -0,0 +1,54 @@
+package br.com.board.taskboard.config;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Locale;
+import java.util.Map;
+
+// Modo de execução escolhido por --taskboard.mode=..., -Dtaskboard.mode=... ou TASKBOARD_MODE.
+// É lido antes de o contexto subir porque decide se o servidor HTTP embutido é criado.
+public enum RunMode {
+
+    // Menu interativo no terminal, sem servidor HTTP
+    CONSOLE(WebApplicationType.NONE),
+    // API HTTP em JSON (/api/...), atendida em virtual threads
+    SERVER(WebApplicationType.SERVLET),
+    // Comandos lidos de taskboard.script.file (ou da entrada padrão) e aplicados em lotes
+    SCRIPT(WebApplicationType.NONE),
+    // Contexto aquecido atendendo comandos por socket Unix (ver DaemonClient)
+    DAEMON(WebApplicationType.NONE);
+
+    public static final String PROPERTY = "taskboard.mode";
+
+    private final WebApplicationType webApplicationType;
+
+    RunMode(WebApplicationType webApplicationType) {
+        this.webApplicationType = webApplicationType;
+    }
+
+    public WebApplicationType getWebApplicationType() {
+        return webApplicationType;
+    }
+
+    // Padrões do modo, abaixo de application.properties e da linha de comando: o job do fluxo cumulativo e a
+    // reconstrução pendente dos histogramas só rodam sozinhos onde a aplicação fica no ar atendendo consultas
+    public Map<String, Object> defaultProperties() {
+        return this == SERVER || this == DAEMON
+                ? Map.of("taskboard.cfd.refresh-cron", "0 */5 * * * *",
+                         "taskboard.cycle-time.backfill-on-startup", "true")
+                : Map.of();
+    }
+
+    public static RunMode resolve(String[] args) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        String mode = environment.getProperty(PROPERTY, CONSOLE.name());
+        try {
+            return valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Modo de execução inválido: " + mode + " (use console, server, script ou daemon)");
+        }
+    }
+}
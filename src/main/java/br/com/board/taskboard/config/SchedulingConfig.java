@@ -0,0 +1,10 @@
+package br.com.board.taskboard.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Jobs de manutenção (@Scheduled); cada um tem o próprio cron e fica desligado com "-"
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,30 @@
+package br.com.board.taskboard.controller;
+
+import br.com.board.taskboard.dto.ApiError;
+import br.com.board.taskboard.exception.TaskboardException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// Traduz as exceções dos serviços para respostas JSON, como o menu faz com as mensagens no console
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // Regras de negócio e registros inexistentes: a mensagem do serviço vai direto para o cliente
+    @ExceptionHandler(TaskboardException.class)
+    public ResponseEntity<ApiError> handleTaskboardException(TaskboardException e) {
+        return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    // Cartão disputado mesmo depois dos retries: o cliente pode tentar de novo
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ApiError> handleConcurrencyFailure(ConcurrencyFailureException e) {
+        return error(HttpStatus.CONFLICT, "O cartão foi alterado por outra operação. Tente novamente.");
+    }
+
+    private ResponseEntity<ApiError> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(new ApiError(status.value(), message));
+    }
+}
@@ -0,0 +1,218 @@
+package br.com.board.taskboard.controller;
+
+import br.com.board.taskboard.dto.BlockHistoryReport;
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.BoardRequest;
+import br.com.board.taskboard.dto.CardColumnTimeReport;
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.CardSearchResult;
+import br.com.board.taskboard.dto.ColumnBlockCount;
+import br.com.board.taskboard.dto.ColumnOccupancy;
+import br.com.board.taskboard.dto.ColumnTimePercentiles;
+import br.com.board.taskboard.dto.ColumnTimeReport;
+import br.com.board.taskboard.dto.CumulativeFlowPoint;
+import br.com.board.taskboard.dto.CumulativeFlowRefresh;
+import br.com.board.taskboard.dto.DeliveryForecast;
+import br.com.board.taskboard.dto.HistoryCursor;
+import br.com.board.taskboard.dto.HistoryPage;
+import br.com.board.taskboard.dto.MovementTimeReport;
+import br.com.board.taskboard.dto.NewCardDTO;
+import br.com.board.taskboard.dto.TaskStatusDTO;
+import br.com.board.taskboard.dto.TimePercentiles;
+import br.com.board.taskboard.dto.WipLimitRequest;
+import br.com.board.taskboard.service.BlockHistoryService;
+import br.com.board.taskboard.service.BoardService;
+import br.com.board.taskboard.service.CardMovementService;
+import br.com.board.taskboard.service.CardSearchService;
+import br.com.board.taskboard.service.CardService;
+import br.com.board.taskboard.service.CumulativeFlowService;
+import br.com.board.taskboard.service.CycleTimeService;
+import br.com.board.taskboard.service.DeliveryForecastService;
+import br.com.board.taskboard.service.TaskStatusService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Operações de quadro: colunas, criação de cartões e relatórios por quadro
+@RestController
+@RequestMapping("/api/boards")
+public class BoardController {
+
+    private final BoardService boardService;
+    private final TaskStatusService taskStatusService;
+    private final CardService cardService;
+    private final CardMovementService cardMovementService;
+    private final BlockHistoryService blockHistoryService;
+    private final CumulativeFlowService cumulativeFlowService;
+    private final CycleTimeService cycleTimeService;
+    private final DeliveryForecastService deliveryForecastService;
+    private final CardSearchService cardSearchService;
+
+    @Autowired
+    public BoardController(BoardService boardService, TaskStatusService taskStatusService, CardService cardService,
+                           CardMovementService cardMovementService, BlockHistoryService blockHistoryService,
+                           CumulativeFlowService cumulativeFlowService, CycleTimeService cycleTimeService,
+                           DeliveryForecastService deliveryForecastService, CardSearchService cardSearchService) {
+        this.boardService = boardService;
+        this.taskStatusService = taskStatusService;
+        this.cardService = cardService;
+        this.cardMovementService = cardMovementService;
+        this.blockHistoryService = blockHistoryService;
+        this.cumulativeFlowService = cumulativeFlowService;
+        this.cycleTimeService = cycleTimeService;
+        this.deliveryForecastService = deliveryForecastService;
+        this.cardSearchService = cardSearchService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public BoardDTO createBoard(@RequestBody BoardRequest request) {
+        return boardService.createBoard(request.name());
+    }
+
+    @GetMapping
+    public List<BoardDTO> getAllBoards() {
+        return boardService.getAllBoards();
+    }
+
+    @GetMapping("/{boardId}")
+    public BoardDTO getBoard(@PathVariable Long boardId) {
+        return boardService.getBoardById(boardId);
+    }
+
+    @GetMapping("/{boardId}/columns")
+    public List<TaskStatusDTO> listColumns(@PathVariable Long boardId) {
+        return taskStatusService.listColumns(boardId);
+    }
+
+    @GetMapping("/{boardId}/occupancy")
+    public List<ColumnOccupancy> columnOccupancy(@PathVariable Long boardId) {
+        return taskStatusService.columnOccupancy(boardId);
+    }
+
+    // Fluxo cumulativo diário já materializado pelo job (taskboard.cfd.refresh-cron) ou por /cfd/refresh
+    @GetMapping("/{boardId}/cfd")
+    public List<CumulativeFlowPoint> cumulativeFlow(@PathVariable Long boardId,
+                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return cumulativeFlowService.cumulativeFlow(boardId, from, to);
+    }
+
+    // Aplica as movimentações desde a última atualização do fluxo cumulativo, de todos os quadros
+    @PostMapping("/cfd/refresh")
+    public CumulativeFlowRefresh refreshCumulativeFlow() {
+        return cumulativeFlowService.refresh();
+    }
+
+    // Descarta o fluxo cumulativo materializado e o recalcula a partir de todo o histórico
+    @PostMapping("/cfd/rebuild")
+    public CumulativeFlowRefresh rebuildCumulativeFlow() {
+        return cumulativeFlowService.rebuild();
+    }
+
+    // Percentis (p50/p85/p95) de tempo de ciclo; vários quadros juntos em /cycle-time?boardIds=1,2
+    @GetMapping("/{boardId}/cycle-time")
+    public TimePercentiles cycleTime(@PathVariable Long boardId) {
+        return cycleTimeService.cycleTime(boardId);
+    }
+
+    @GetMapping("/cycle-time")
+    public TimePercentiles portfolioCycleTime(@RequestParam List<Long> boardIds) {
+        return cycleTimeService.portfolioCycleTime(boardIds);
+    }
+
+    // Recalcula os histogramas de tempo de ciclo e de permanência a partir de todo o histórico
+    @PostMapping("/cycle-time/rebuild")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void rebuildCycleTime() {
+        cycleTimeService.rebuild();
+    }
+
+    @GetMapping("/{boardId}/column-time")
+    public List<ColumnTimePercentiles> columnTime(@PathVariable Long boardId) {
+        return cycleTimeService.columnTime(boardId);
+    }
+
+    // Monte Carlo sobre a vazão diária; sem cards, usa os cartões ainda em aberto no quadro
+    @GetMapping("/{boardId}/forecast")
+    public DeliveryForecast forecast(@PathVariable Long boardId, @RequestParam(required = false) Integer cards) {
+        return deliveryForecastService.forecast(boardId, cards);
+    }
+
+    // Busca textual em título e descrição, sem diferenciar acentos e maiúsculas; todos os termos precisam aparecer
+    @GetMapping("/{boardId}/search")
+    public List<CardSearchResult> search(@PathVariable Long boardId, @RequestParam String q,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        return cardSearchService.search(boardId, q, limit);
+    }
+
+    @PutMapping("/{boardId}/columns/{columnId}/wip-limit")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void setWipLimit(@PathVariable Long boardId, @PathVariable Long columnId,
+                            @RequestBody WipLimitRequest request) {
+        taskStatusService.setWipLimit(boardId, columnId, request.limit());
+    }
+
+    @PostMapping("/{boardId}/cards")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CardDTO createCard(@PathVariable Long boardId, @RequestBody NewCardDTO request) {
+        return cardService.createCard(boardId, request.getTitle(), request.getDescription());
+    }
+
+    @PostMapping("/{boardId}/cards/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<CardDTO> createCards(@PathVariable Long boardId, @RequestBody List<NewCardDTO> request) {
+        return cardService.createCards(boardId, request);
+    }
+
+    // Sempre paginado: sem page devolve a primeira página; size vai de 1 a 100
+    @GetMapping("/{boardId}/time-in-column")
+    public List<MovementTimeReport> cardTimeInColumn(@PathVariable Long boardId,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "20") int size) {
+        return cardMovementService.cardTimeInColumn(boardId, page, size);
+    }
+
+    @GetMapping("/{boardId}/time-by-column")
+    public List<ColumnTimeReport> timeByColumn(@PathVariable Long boardId) {
+        return cardMovementService.timeByColumn(boardId);
+    }
+
+    @GetMapping("/{boardId}/time-by-card-and-column")
+    public List<CardColumnTimeReport> timeByCardAndColumn(@PathVariable Long boardId) {
+        return cardMovementService.timeByCardAndColumn(boardId);
+    }
+
+    @GetMapping("/{boardId}/active-blocks")
+    public List<BlockHistoryReport> activeBlocks(@PathVariable Long boardId) {
+        return blockHistoryService.activeBlocksByBoard(boardId);
+    }
+
+    @GetMapping("/{boardId}/active-blocks/by-column")
+    public List<ColumnBlockCount> activeBlockCountByColumn(@PathVariable Long boardId) {
+        return blockHistoryService.activeBlockCountByColumn(boardId);
+    }
+
+    // Paginação por chave: o cliente repete afterDate/afterId do campo "next" da página anterior
+    @GetMapping("/{boardId}/cards/{cardId}/blocks")
+    public HistoryPage<BlockHistoryReport> cardBlockHistory(
+            @PathVariable Long boardId, @PathVariable Long cardId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterDate,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") int size) {
+        return blockHistoryService.cardBlockHistory(boardId, cardId, HistoryCursor.of(afterDate, afterId), size);
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.board.taskboard.controller;
+
+import br.com.board.taskboard.dto.BlockHistoryDTO;
+import br.com.board.taskboard.dto.BulkMoveRequest;
+import br.com.board.taskboard.dto.BulkOperationResultDTO;
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.CardFilter;
+import br.com.board.taskboard.dto.CardIdsRequest;
+import br.com.board.taskboard.dto.CardMovementDTO;
+import br.com.board.taskboard.dto.CardPage;
+import br.com.board.taskboard.dto.HistoryCursor;
+import br.com.board.taskboard.dto.HistoryPage;
+import br.com.board.taskboard.dto.MoveCardRequest;
+import br.com.board.taskboard.dto.ReasonRequest;
+import br.com.board.taskboard.model.Status;
+import br.com.board.taskboard.service.CardMovementService;
+import br.com.board.taskboard.service.CardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+// Operações sobre cartões já criados; a criação fica em /api/boards/{boardId}/cards
+@RestController
+@RequestMapping("/api/cards")
+public class CardController {
+
+    private final CardService cardService;
+    private final CardMovementService cardMovementService;
+
+    @Autowired
+    public CardController(CardService cardService, CardMovementService cardMovementService) {
+        this.cardService = cardService;
+        this.cardMovementService = cardMovementService;
+    }
+
+    // Filtros combináveis (quadro ou coluna obrigatório); page, size e sort=campo,asc|desc como no Spring Data
+    @GetMapping
+    public CardPage findCards(
+            @RequestParam(required = false) Long boardId,
+            @RequestParam(required = false) Long columnId,
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Boolean blocked,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore,
+            @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
+        return cardService.findCards(
+                new CardFilter(boardId, columnId, status, blocked, createdFrom, createdBefore), pageable);
+    }
+
+    @GetMapping("/{cardId}")
+    public CardDTO findById(@PathVariable Long cardId) {
+        return cardService.findById(cardId);
+    }
+
+    @PostMapping("/{cardId}/move")
+    public CardDTO moveCard(@PathVariable Long cardId, @RequestBody MoveCardRequest request) {
+        return cardService.moveCard(cardId, request.targetStatusId());
+    }
+
+    @PostMapping("/move")
+    public BulkOperationResultDTO moveCards(@RequestBody BulkMoveRequest request) {
+        return cardService.moveCards(request.cardIds(), request.targetStatusId());
+    }
+
+    @PostMapping("/{cardId}/block")
+    public BlockHistoryDTO blockCard(@PathVariable Long cardId, @RequestBody ReasonRequest request) {
+        return cardService.blockCard(cardId, request.reason());
+    }
+
+    @PostMapping("/{cardId}/unblock")
+    public BlockHistoryDTO unblockCard(@PathVariable Long cardId, @RequestBody ReasonRequest request) {
+        return cardService.unblockCard(cardId, request.reason());
+    }
+
+    @DeleteMapping("/{cardId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteCard(@PathVariable Long cardId) {
+        cardService.deleteCard(cardId);
+    }
+
+    @PostMapping("/delete")
+    public BulkOperationResultDTO deleteCards(@RequestBody CardIdsRequest request) {
+        return cardService.deleteCards(request.cardIds());
+    }
+
+    // Paginação por chave: o cliente repete afterDate/afterId do campo "next" da página anterior
+    @GetMapping("/{cardId}/movements")
+    public HistoryPage<CardMovementDTO> listMovements(
+            @PathVariable Long cardId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterDate,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") int size) {
+        return cardMovementService.listMovements(cardId, HistoryCursor.of(afterDate, afterId), size);
+    }
+}
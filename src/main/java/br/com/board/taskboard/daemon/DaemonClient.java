@@ -0,0 +1,137 @@
+package br.com.board.taskboard.daemon;
+
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Cliente do daemon: não sobe o contexto Spring, só envia os comandos pelo socket e imprime a resposta.
+// Uso: taskboard client move 10 20  (sem comando, envia o que vier pela entrada padrão)
+public final class DaemonClient {
+
+    public static final String SOCKET_PROPERTY = "taskboard.daemon.socket";
+
+    private DaemonClient() {
+    }
+
+    static final Set<PosixFilePermission> OWNER_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+    static final Set<PosixFilePermission> OWNER_SOCKET = PosixFilePermissions.fromString("rw-------");
+
+    // Sem configuração o socket fica num diretório do próprio usuário, nunca no /tmp compartilhado:
+    // qualquer usuário que conecte no socket executa comandos com as credenciais do banco do daemon
+    public static Path socketPath(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        String runtimeDirectory = System.getenv("XDG_RUNTIME_DIR");
+        Path directory = runtimeDirectory == null || runtimeDirectory.isBlank()
+                ? Path.of(System.getProperty("user.home"), ".taskboard")
+                : Path.of(runtimeDirectory);
+        return directory.resolve("taskboard.sock");
+    }
+
+    // Cria o diretório do socket acessível só ao dono; diretórios já existentes não são alterados
+    static void createSocketDirectory(Path socket) throws IOException {
+        Path directory = socket.toAbsolutePath().getParent();
+        if (Files.isDirectory(directory)) {
+            return;
+        }
+        if (posix()) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_DIRECTORY));
+        } else {
+            Files.createDirectories(directory);
+        }
+    }
+
+    static void restrictToOwner(Path socket) throws IOException {
+        if (posix()) {
+            Files.setPosixFilePermissions(socket, OWNER_SOCKET);
+        }
+    }
+
+    // Recusa um socket criado por outro usuário: ele receberia os comandos enviados por este
+    static void checkOwner(Path socket) throws IOException {
+        if (!Files.exists(socket)) {
+            return;
+        }
+        UserPrincipal owner = Files.getOwner(socket);
+        UserPrincipal current = FileSystems.getDefault().getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!owner.equals(current)) {
+            throw new IOException("o socket pertence a outro usuário (" + owner.getName() + ")");
+        }
+    }
+
+    private static boolean posix() {
+        return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    }
+
+    // Retorna o código de saída: 0 se tudo foi aplicado, 1 se algum comando falhou, 2 sem daemon
+    public static int run(String[] args) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        Path socket = socketPath(environment.getProperty(SOCKET_PROPERTY));
+
+        List<String> words = Arrays.stream(args).filter(arg -> !arg.startsWith("--")).toList();
+        try {
+            String script = words.isEmpty()
+                    ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)).lines()
+                            .collect(Collectors.joining("\n"))
+                    : words.stream().map(DaemonClient::quote).collect(Collectors.joining(" "));
+            return send(socket, script, System.out);
+        } catch (IOException e) {
+            System.err.println("Daemon indisponível em " + socket + ": " + e.getMessage()
+                    + " (inicie com --taskboard.mode=daemon)");
+            return 2;
+        }
+    }
+
+    public static int send(Path socket, String script, PrintStream out) throws IOException {
+        checkOwner(socket);
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+            Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+            writer.write(script);
+            writer.write('\n');
+            writer.flush();
+            // Fim do script: o daemon executa ao ler o EOF
+            channel.shutdownOutput();
+
+            BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+            String status = reader.readLine();
+            if (status == null) {
+                throw new IOException("conexão encerrada sem resposta");
+            }
+            out.println(status);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                out.println(line);
+            }
+            return status.startsWith(DaemonServer.OK) ? 0 : 1;
+        }
+    }
+
+    // Palavras com espaço chegam separadas do shell; voltam entre aspas para o ScriptParser
+    private static String quote(String word) {
+        return word.chars().anyMatch(Character::isWhitespace) ? '"' + word + '"' : word;
+    }
+}
@@ -0,0 +1,142 @@
+package br.com.board.taskboard.daemon;
+
+import br.com.board.taskboard.dto.ScriptFailure;
+import br.com.board.taskboard.dto.ScriptSummary;
+import br.com.board.taskboard.script.ScriptRunner;
+import br.com.board.taskboard.util.ConsolePrinter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.ConnectException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Modo daemon: mantém o contexto aquecido e atende comandos no formato do modo script por um
+// socket Unix local. Cada conexão envia um ou mais comandos, fecha a escrita e recebe o resultado.
+@Component
+public class DaemonServer implements DisposableBean {
+
+    static final String OK = "OK";
+    static final String ERROR = "ERRO";
+
+    private final ScriptRunner scriptRunner;
+    private final Path socketPath;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile ServerSocketChannel serverChannel;
+
+    @Autowired
+    public DaemonServer(ScriptRunner scriptRunner, @Value("${taskboard.daemon.socket:}") String socket) {
+        this.scriptRunner = scriptRunner;
+        this.socketPath = DaemonClient.socketPath(socket);
+    }
+
+    public Path getSocketPath() {
+        return socketPath;
+    }
+
+    // Abre o socket; depois deste método os clientes já conseguem conectar
+    public synchronized void bind() throws IOException {
+        if (serverChannel != null) {
+            return;
+        }
+        // Só apaga o arquivo deixado por uma execução que não terminou limpa; um daemon ativo aceita a conexão
+        DaemonClient.createSocketDirectory(socketPath);
+        if (Files.exists(socketPath)) {
+            DaemonClient.checkOwner(socketPath);
+            if (accepting(socketPath)) {
+                throw new IOException("Já existe um daemon em execução em " + socketPath);
+            }
+            Files.deleteIfExists(socketPath);
+        }
+        ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        serverChannel = channel;
+        channel.bind(UnixDomainSocketAddress.of(socketPath));
+        // O bind cria o arquivo com a umask do processo; só o dono pode conectar
+        DaemonClient.restrictToOwner(socketPath);
+        ConsolePrinter.printInfo("Daemon aguardando comandos em " + socketPath);
+    }
+
+    // A sondagem envia um script vazio e lê a resposta, para o daemon ativo não registrar conexão interrompida
+    private static boolean accepting(Path socketPath) throws IOException {
+        try (SocketChannel probe = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            probe.shutdownOutput();
+            ByteBuffer response = ByteBuffer.allocate(256);
+            while (probe.read(response.clear()) >= 0) {
+                // descarta a resposta até o daemon fechar a conexão
+            }
+            return true;
+        } catch (ConnectException e) {
+            return false;
+        }
+    }
+
+    // Bloqueia atendendo conexões até o contexto ser fechado
+    public void serve() throws IOException {
+        bind();
+        ServerSocketChannel channel = serverChannel;
+        while (channel.isOpen()) {
+            SocketChannel client;
+            try {
+                client = channel.accept();
+            } catch (ClosedChannelException e) {
+                break;
+            }
+            executor.execute(() -> handle(client));
+        }
+    }
+
+    private void handle(SocketChannel client) {
+        try (client) {
+            BufferedReader reader = new BufferedReader(Channels.newReader(client, StandardCharsets.UTF_8));
+            Writer writer = Channels.newWriter(client, StandardCharsets.UTF_8);
+            String response;
+            try {
+                response = format(scriptRunner.run(reader));
+            } catch (RuntimeException e) {
+                response = ERROR + " " + e.getMessage() + "\n";
+            }
+            writer.write(response);
+            writer.flush();
+        } catch (IOException e) {
+            ConsolePrinter.printError("Erro na conexão com o cliente do daemon: " + e.getMessage());
+        }
+    }
+
+    private String format(ScriptSummary summary) {
+        StringBuilder response = new StringBuilder();
+        response.append(summary.failures().isEmpty() ? OK : ERROR)
+                .append(' ').append(summary.succeeded()).append('/').append(summary.commands())
+                .append(" comando(s) aplicado(s) em ")
+                .append(String.format("%.1f", summary.elapsedNanos() / 1e6)).append(" ms\n");
+        for (ScriptFailure failure : summary.failures()) {
+            response.append("linha ").append(failure.line()).append(": ").append(failure.command())
+                    .append(" -> ").append(failure.message()).append('\n');
+        }
+        return response.toString();
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        ServerSocketChannel channel = serverChannel;
+        if (channel != null) {
+            channel.close();
+            Files.deleteIfExists(socketPath);
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.board.taskboard.dto;
+
+// Corpo das respostas de erro da API HTTP
+public record ApiError(int status, String message) {
+}
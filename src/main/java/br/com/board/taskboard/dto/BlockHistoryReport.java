@@ -0,0 +1,8 @@
+package br.com.board.taskboard.dto;
+
+import java.time.LocalDateTime;
+
+// Linha do relatório de bloqueios; a duração (horas) é calculada no banco, até agora se o bloqueio segue aberto
+public record BlockHistoryReport(Long id, Long cardId, LocalDateTime blockedDate, String blockedReason,
+                                 LocalDateTime unblockedDate, String unblockedReason, double blockedDuration) {
+}
@@ -0,0 +1,22 @@
+package br.com.board.taskboard.dto;
+
+import br.com.board.taskboard.model.Status;
+
+import java.util.List;
+import java.util.Optional;
+
+// Layout de colunas de um quadro, ordenado por prioridade
+public record BoardLayout(Long boardId, List<ColumnLayout> columns) {
+
+    public boolean isEmpty() {
+        return columns.isEmpty();
+    }
+
+    public Optional<ColumnLayout> initialColumn() {
+        return columns.stream().filter(column -> column.status() == Status.INICIAL).findFirst();
+    }
+
+    public Optional<ColumnLayout> column(Long columnId) {
+        return columns.stream().filter(column -> column.id().equals(columnId)).findFirst();
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.board.taskboard.dto;
+
+public record BoardRequest(String name) {
+}
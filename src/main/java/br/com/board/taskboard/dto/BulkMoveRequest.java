@@ -0,0 +1,6 @@
+package br.com.board.taskboard.dto;
+
+import java.util.List;
+
+public record BulkMoveRequest(List<Long> cardIds, Long targetStatusId) {
+}
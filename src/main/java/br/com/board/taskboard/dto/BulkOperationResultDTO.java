@@ -0,0 +1,14 @@
+package br.com.board.taskboard.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class BulkOperationResultDTO {
+    private List<Long> processedIds = new ArrayList<>();
+    private Map<Long, String> rejected = new LinkedHashMap<>(); // ID do cartão -> motivo da rejeição
+}
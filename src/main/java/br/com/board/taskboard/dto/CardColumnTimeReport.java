@@ -0,0 +1,6 @@
+package br.com.board.taskboard.dto;
+
+// Tempo agregado por (cartão, coluna), calculado no banco (horas)
+public record CardColumnTimeReport(Long cardId, Long taskStatusId, long movementCount,
+                                   double totalHours, double averageHours, double maxHours) {
+}
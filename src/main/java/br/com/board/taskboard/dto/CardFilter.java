@@ -0,0 +1,11 @@
+package br.com.board.taskboard.dto;
+
+import java.time.LocalDateTime;
+
+import br.com.board.taskboard.model.Status;
+
+// Critérios da listagem de cartões; campos nulos não filtram. createdFrom é inclusivo e createdBefore exclusivo.
+// Toda consulta precisa de quadro ou coluna, o que mantém cada combinação dentro de um índice de card.
+public record CardFilter(Long boardId, Long taskStatusId, Status status, Boolean blocked,
+                         LocalDateTime createdFrom, LocalDateTime createdBefore) {
+}
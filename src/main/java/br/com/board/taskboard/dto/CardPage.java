@@ -0,0 +1,7 @@
+package br.com.board.taskboard.dto;
+
+import java.util.List;
+
+// Página da listagem filtrada de cartões (page começa em 0)
+public record CardPage(List<CardDTO> items, int page, int size, long totalElements, int totalPages) {
+}
@@ -0,0 +1,5 @@
+package br.com.board.taskboard.dto;
+
+// Cartão encontrado na busca textual, do mais relevante para o menos
+public record CardSearchResult(Long cardId, String title, Long taskStatusId, double score) {
+}
@@ -0,0 +1,5 @@
+package br.com.board.taskboard.dto;
+
+// Campos indexados na busca textual de cartões
+public record CardText(Long id, Long boardId, String title, String description) {
+}
@@ -0,0 +1,5 @@
+package br.com.board.taskboard.dto;
+
+// Quantidade de bloqueios em aberto por coluna, calculada no banco
+public record ColumnBlockCount(Long taskStatusId, String columnName, long activeBlocks) {
+}
@@ -0,0 +1,7 @@
+package br.com.board.taskboard.dto;
+
+import br.com.board.taskboard.model.Status;
+
+// Linha da projeção de colunas: dados da coluna + ID de um cartão (null se a coluna estiver vazia)
+public record ColumnCardRow(Long taskStatusId, String name, int priority, Status status, Long cardId) {
+}
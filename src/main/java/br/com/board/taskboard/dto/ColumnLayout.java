@@ -0,0 +1,7 @@
+package br.com.board.taskboard.dto;
+
+import br.com.board.taskboard.model.Status;
+
+// Dados imutáveis de uma coluna, suficientes para validar criação e movimentação de cartões
+public record ColumnLayout(Long id, Status status, int priority, Long boardId, Integer wipLimit) {
+}
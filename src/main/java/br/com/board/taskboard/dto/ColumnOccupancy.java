@@ -0,0 +1,8 @@
+package br.com.board.taskboard.dto;
+
+import br.com.board.taskboard.model.Status;
+
+// Ocupação de uma coluna lida dos contadores, sem tocar na tabela de cartões
+public record ColumnOccupancy(Long taskStatusId, String name, int priority, Status status, long cardCount,
+                              long blockedCount, Integer wipLimit) {
+}
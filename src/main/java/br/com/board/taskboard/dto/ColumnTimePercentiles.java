@@ -0,0 +1,5 @@
+package br.com.board.taskboard.dto;
+
+// Percentis do tempo de permanência de cada coluna do quadro
+public record ColumnTimePercentiles(Long taskStatusId, String name, TimePercentiles percentiles) {
+}
@@ -0,0 +1,6 @@
+package br.com.board.taskboard.dto;
+
+// Tempo agregado por coluna, calculado no banco (horas)
+public record ColumnTimeReport(Long taskStatusId, String columnName, long movementCount,
+                               double totalHours, double averageHours, double maxHours) {
+}
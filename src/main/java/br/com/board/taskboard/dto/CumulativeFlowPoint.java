@@ -0,0 +1,7 @@
+package br.com.board.taskboard.dto;
+
+import java.time.LocalDate;
+
+// Cartões na coluna no fim do dia; no dia corrente, até a última atualização do job
+public record CumulativeFlowPoint(LocalDate date, Long taskStatusId, String columnName, long cardCount) {
+}
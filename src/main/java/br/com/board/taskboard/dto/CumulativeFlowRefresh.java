@@ -0,0 +1,7 @@
+package br.com.board.taskboard.dto;
+
+import java.time.LocalDateTime;
+
+// Resultado de uma execução do job de CFD: janela aplicada e quantas variações (coluna, dia) entraram
+public record CumulativeFlowRefresh(LocalDateTime from, LocalDateTime to, int deltas, boolean rebuilt) {
+}
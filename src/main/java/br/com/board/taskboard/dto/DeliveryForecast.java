@@ -0,0 +1,10 @@
+package br.com.board.taskboard.dto;
+
+import java.time.LocalDate;
+
+// Datas em que os cartões estarão entregues com 50%, 85% e 95% de chance, pela vazão dos últimos historyDays dias.
+// unfinishedTrials conta as tentativas que não entregaram tudo em ThroughputSimulation.MAX_DAYS; um percentil
+// que cai nelas fica null (sem previsão dentro do horizonte).
+public record DeliveryForecast(int cardCount, int trials, int historyDays, int unfinishedTrials, LocalDate p50Date,
+                               LocalDate p85Date, LocalDate p95Date) {
+}
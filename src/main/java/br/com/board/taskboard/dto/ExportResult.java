@@ -0,0 +1,7 @@
+package br.com.board.taskboard.dto;
+
+import java.nio.file.Path;
+
+// Arquivos gerados pela exportação do histórico de um quadro e quantas linhas cada um recebeu
+public record ExportResult(Path movementsFile, long movementCount, Path blocksFile, long blockCount) {
+}
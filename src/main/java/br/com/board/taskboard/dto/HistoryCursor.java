@@ -0,0 +1,12 @@
+package br.com.board.taskboard.dto;
+
+import java.time.LocalDateTime;
+
+// Posição da paginação por chave (keyset): data e ID da última linha já entregue
+public record HistoryCursor(LocalDateTime date, Long id) {
+
+    // Cursor montado a partir de parâmetros opcionais: sem data ou ID, a leitura começa da primeira página
+    public static HistoryCursor of(LocalDateTime date, Long id) {
+        return date == null || id == null ? null : new HistoryCursor(date, id);
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.board.taskboard.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+// Página de histórico; next é null quando não há mais linhas depois desta
+public record HistoryPage<T>(List<T> items, HistoryCursor next) {
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    // rows vem da consulta com limite size + 1: a linha extra só indica que existe próxima página
+    public static <T> HistoryPage<T> of(List<T> rows, int size, Function<T, HistoryCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new HistoryPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new HistoryPage<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.board.taskboard.dto;
+
+public record LayoutCacheStats(long hitCount, long missCount, double hitRate, long evictionCount, long size) {
+}
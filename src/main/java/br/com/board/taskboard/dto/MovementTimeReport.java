@@ -0,0 +1,8 @@
+package br.com.board.taskboard.dto;
+
+import java.time.LocalDateTime;
+
+// Linha do relatório de tempo por coluna; as horas são calculadas no banco, até agora se o cartão segue na coluna
+public record MovementTimeReport(Long id, Long cardId, Long taskStatusId, LocalDateTime entryDate,
+                                 LocalDateTime exitDate, double timeInHours) {
+}
@@ -0,0 +1,13 @@
+package br.com.board.taskboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewCardDTO {
+    private String title;
+    private String description;
+}
@@ -0,0 +1,5 @@
+package br.com.board.taskboard.dto;
+
+// Comando de script que não foi aplicado: linha do arquivo, texto original e motivo
+public record ScriptFailure(int line, String command, String message) {
+}
@@ -0,0 +1,12 @@
+package br.com.board.taskboard.dto;
+
+import java.util.List;
+
+// Resultado de uma execução em modo script; replayedChunks conta os lotes refeitos comando a comando
+public record ScriptSummary(int commands, int succeeded, List<ScriptFailure> failures, int chunks,
+                            int replayedChunks, long elapsedNanos) {
+
+    public double commandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : commands / (elapsedNanos / 1e9);
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.board.taskboard.dto;
+
+// Percentis de duração em horas, calculados do histograma (erro relativo abaixo de 0,4%)
+public record TimePercentiles(long count, double p50Hours, double p85Hours, double p95Hours) {
+}
@@ -0,0 +1,5 @@
+package br.com.board.taskboard.dto;
+
+// limit nulo remove o limite da coluna
+public record WipLimitRequest(Integer limit) {
+}
@@ -33,6 +33,10 @@ public class BlockHistory {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Card card;
 
+    // Cópia do quadro do cartão, para a paginação do histórico por quadro não depender do join
+    @Column(nullable = false)
+    private Long boardId;
+
     @Column(nullable = false)
     private LocalDateTime blockedDate;
 
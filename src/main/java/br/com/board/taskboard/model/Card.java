@@ -7,12 +7,16 @@ import java.util.List;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -24,9 +28,15 @@ import lombok.NoArgsConstructor;
 public class Card {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "card_id")
+    @TableGenerator(name = "card_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "card", allocationSize = 50) // pooled: permite inserts em lote
     private Long id;
 
+    // Lock otimista: duas transações que leem o mesmo cartão não conseguem gravar as duas
+    @Version
+    private long version;
+
     @Column(nullable = false)
     private String title;
     private String description;
@@ -41,6 +51,15 @@ public class Card {
     @JoinColumn(name = "task_status_id")
     private TaskStatus taskStatus;
 
+    // Ponteiros para a movimentação aberta e o bloqueio ativo (evitam buscar por exit_date/unblocked_date nulos)
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "current_movement_id")
+    private CardMovement currentMovement;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "active_block_id")
+    private BlockHistory activeBlock;
+
     @OneToMany(mappedBy = "card", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CardMovement> movements = new ArrayList<>();
 
@@ -13,6 +13,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.TableGenerator;
 
 import lombok.Data;
 
@@ -23,7 +24,9 @@ import lombok.Data;
 public class CardMovement {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "card_movement_id")
+    @TableGenerator(name = "card_movement_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "card_movement", allocationSize = 50) // pooled: permite inserts em lote
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
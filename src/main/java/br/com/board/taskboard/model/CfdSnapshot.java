@@ -0,0 +1,33 @@
+package br.com.board.taskboard.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Quantidade de cartões na coluna no fim do dia (fluxo cumulativo)
+@Entity
+@IdClass(CfdSnapshotId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CfdSnapshot {
+
+    @Id
+    @Column(name = "task_status_id")
+    private Long taskStatusId;
+
+    @Id
+    private LocalDate snapshotDate;
+
+    @Column(nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private long cardCount;
+}
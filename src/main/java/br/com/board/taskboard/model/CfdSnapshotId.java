@@ -0,0 +1,17 @@
+package br.com.board.taskboard.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CfdSnapshotId implements Serializable {
+
+    private Long taskStatusId;
+    private LocalDate snapshotDate;
+}
@@ -0,0 +1,24 @@
+package br.com.board.taskboard.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Instante até o qual o histórico de movimentações já está aplicado em cfd_snapshot
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CfdWatermark {
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private LocalDateTime processedUntil;
+}
@@ -0,0 +1,27 @@
+package br.com.board.taskboard.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Ocupação da coluna mantida incrementalmente pelo CardService. Fica em tabela própria porque TaskStatus
+// está no cache de segundo nível: um UPDATE em task_status a cada operação de cartão invalidaria a região.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnCounter {
+
+    @Id
+    @Column(name = "task_status_id")
+    private Long taskStatusId;
+
+    @Column(nullable = false)
+    private long cardCount;
+
+    @Column(nullable = false)
+    private long blockedCount;
+}
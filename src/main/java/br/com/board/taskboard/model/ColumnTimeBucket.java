@@ -0,0 +1,28 @@
+package br.com.board.taskboard.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Faixa do histograma de tempo de permanência na coluna (ver DurationHistogram)
+@Entity
+@IdClass(ColumnTimeBucketId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnTimeBucket {
+
+    @Id
+    @Column(name = "task_status_id")
+    private Long taskStatusId;
+
+    @Id
+    private Integer bucket;
+
+    @Column(nullable = false)
+    private long sampleCount;
+}
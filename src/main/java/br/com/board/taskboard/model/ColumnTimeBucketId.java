@@ -0,0 +1,16 @@
+package br.com.board.taskboard.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnTimeBucketId implements Serializable {
+
+    private Long taskStatusId;
+    private Integer bucket;
+}
@@ -0,0 +1,28 @@
+package br.com.board.taskboard.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Faixa do histograma de tempo de ciclo do quadro (ver DurationHistogram)
+@Entity
+@IdClass(CycleTimeBucketId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CycleTimeBucket {
+
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Id
+    private Integer bucket;
+
+    @Column(nullable = false)
+    private long sampleCount;
+}
@@ -1,19 +1,95 @@
 package br.com.board.taskboard.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
+import br.com.board.taskboard.dto.BlockHistoryReport;
+import br.com.board.taskboard.dto.ColumnBlockCount;
 import br.com.board.taskboard.model.BlockHistory;
 import br.com.board.taskboard.model.Board;
 import br.com.board.taskboard.model.Card;
 
 public interface BlockHistoryRepository extends JpaRepository<BlockHistory, Long>{
 
+    // Consultas só de leitura: entidades carregadas sem snapshot para dirty checking
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<BlockHistory> findByCard(Card card);
     Optional<BlockHistory> findByCardAndUnblockedDateIsNull(Card card);
-    List<BlockHistory> findByCardTaskStatusBoard(Board board);
-    void deleteByCardId(Long cardId);
+
+    // Joins internos filtrando por task_status.board_id: a derivação gerava left joins até board e varria a tabela
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select b from BlockHistory b join b.card c join c.taskStatus ts where ts.board = :board")
+    List<BlockHistory> findByCardTaskStatusBoard(@Param("board") Board board);
+
+    // Exportação: lido aos poucos do cursor (fetch size) em vez de materializar a lista; exige transação aberta
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select b from BlockHistory b join b.card c join c.taskStatus ts where ts.board = :board")
+    Stream<BlockHistory> streamByBoard(@Param("board") Board board);
+
+    // Relatórios montados direto no record, sem carregar entidades; duração em horas até :now se em aberto
+    @Query("select new br.com.board.taskboard.dto.BlockHistoryReport(b.id, c.id, b.blockedDate, b.blockedReason, " +
+           "b.unblockedDate, b.unblockedReason, ((coalesce(b.unblockedDate, :now) - b.blockedDate) by minute) / 60.0) " +
+           "from BlockHistory b join b.card c join c.taskStatus ts where ts.board = :board order by b.id")
+    List<BlockHistoryReport> findReportByBoard(@Param("board") Board board, @Param("now") LocalDateTime now);
+
+    @Query("select new br.com.board.taskboard.dto.BlockHistoryReport(b.id, b.card.id, b.blockedDate, b.blockedReason, " +
+           "b.unblockedDate, b.unblockedReason, ((coalesce(b.unblockedDate, :now) - b.blockedDate) by minute) / 60.0) " +
+           "from BlockHistory b where b.card = :card order by b.id")
+    List<BlockHistoryReport> findReportByCard(@Param("card") Card card, @Param("now") LocalDateTime now);
+
+    // Paginação por chave em (blockedDate, id): cada página custa o mesmo, independente da posição no histórico
+    @Query("select new br.com.board.taskboard.dto.BlockHistoryReport(b.id, b.card.id, b.blockedDate, b.blockedReason, " +
+           "b.unblockedDate, b.unblockedReason, ((coalesce(b.unblockedDate, :now) - b.blockedDate) by minute) / 60.0) " +
+           "from BlockHistory b where b.card = :card order by b.blockedDate, b.id")
+    List<BlockHistoryReport> findReportPageByCard(@Param("card") Card card, @Param("now") LocalDateTime now,
+                                                  Limit limit);
+
+    @Query("select new br.com.board.taskboard.dto.BlockHistoryReport(b.id, b.card.id, b.blockedDate, b.blockedReason, " +
+           "b.unblockedDate, b.unblockedReason, ((coalesce(b.unblockedDate, :now) - b.blockedDate) by minute) / 60.0) " +
+           "from BlockHistory b where b.card = :card " +
+           "and (b.blockedDate > :afterDate or (b.blockedDate = :afterDate and b.id > :afterId)) " +
+           "order by b.blockedDate, b.id")
+    List<BlockHistoryReport> findReportPageByCardAfter(@Param("card") Card card, @Param("now") LocalDateTime now,
+                                                       @Param("afterDate") LocalDateTime afterDate,
+                                                       @Param("afterId") Long afterId, Limit limit);
+
+    // Por quadro a chave começa em boardId (índice board_id, blocked_date, id): o histórico dos outros quadros
+    // não entra na leitura de nenhuma página. boardId no order by e blockedDate >= :afterDate deixam a ordem e o
+    // início da página com o índice, que então para depois de size + 1 linhas
+    @Query("select new br.com.board.taskboard.dto.BlockHistoryReport(b.id, b.card.id, b.blockedDate, b.blockedReason, " +
+           "b.unblockedDate, b.unblockedReason, ((coalesce(b.unblockedDate, :now) - b.blockedDate) by minute) / 60.0) " +
+           "from BlockHistory b where b.boardId = :boardId order by b.boardId, b.blockedDate, b.id")
+    List<BlockHistoryReport> findReportPageByBoard(@Param("boardId") Long boardId, @Param("now") LocalDateTime now,
+                                                   Limit limit);
+
+    @Query("select new br.com.board.taskboard.dto.BlockHistoryReport(b.id, b.card.id, b.blockedDate, b.blockedReason, " +
+           "b.unblockedDate, b.unblockedReason, ((coalesce(b.unblockedDate, :now) - b.blockedDate) by minute) / 60.0) " +
+           "from BlockHistory b where b.boardId = :boardId and b.blockedDate >= :afterDate " +
+           "and (b.blockedDate > :afterDate or b.id > :afterId) " +
+           "order by b.boardId, b.blockedDate, b.id")
+    List<BlockHistoryReport> findReportPageByBoardAfter(@Param("boardId") Long boardId, @Param("now") LocalDateTime now,
+                                                        @Param("afterDate") LocalDateTime afterDate,
+                                                        @Param("afterId") Long afterId, Limit limit);
+
+    // Só os bloqueios em aberto: o custo não cresce com o histórico de bloqueios encerrados
+    @Query("select new br.com.board.taskboard.dto.BlockHistoryReport(b.id, c.id, b.blockedDate, b.blockedReason, " +
+           "b.unblockedDate, b.unblockedReason, ((:now - b.blockedDate) by minute) / 60.0) " +
+           "from BlockHistory b join b.card c join c.taskStatus ts " +
+           "where ts.board = :board and b.unblockedDate is null order by b.blockedDate, b.id")
+    List<BlockHistoryReport> findActiveReportByBoard(@Param("board") Board board, @Param("now") LocalDateTime now);
 
 }
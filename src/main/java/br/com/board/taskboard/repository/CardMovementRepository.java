@@ -1,19 +1,138 @@
 package br.com.board.taskboard.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
+import br.com.board.taskboard.dto.CardColumnTimeReport;
+import br.com.board.taskboard.dto.ColumnTimeReport;
+import br.com.board.taskboard.dto.MovementTimeReport;
 import br.com.board.taskboard.model.Board;
 import br.com.board.taskboard.model.Card;
 import br.com.board.taskboard.model.CardMovement;
 
 public interface CardMovementRepository extends JpaRepository<CardMovement, Long> {
 
+    // Consultas só de leitura: entidades carregadas sem snapshot para dirty checking
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<CardMovement> findByCard(Card card);
     Optional<CardMovement> findByCardAndExitDateIsNull(Card card);
-    List<CardMovement> findByCardTaskStatusBoard(Board board);
-    void deleteByCardId(Long cardId);
+
+    // Paginação por chave em (entryDate, id): cada página custa o mesmo, independente da posição no histórico
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select m from CardMovement m where m.card = :card order by m.entryDate, m.id")
+    List<CardMovement> findPageByCard(@Param("card") Card card, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select m from CardMovement m where m.card = :card " +
+           "and (m.entryDate > :afterDate or (m.entryDate = :afterDate and m.id > :afterId)) " +
+           "order by m.entryDate, m.id")
+    List<CardMovement> findPageByCardAfter(@Param("card") Card card, @Param("afterDate") LocalDateTime afterDate,
+                                           @Param("afterId") Long afterId, Limit limit);
+
+    // Joins internos filtrando por task_status.board_id: a derivação gerava left joins até board e varria a tabela
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select m from CardMovement m join m.card c join c.taskStatus ts where ts.board = :board")
+    List<CardMovement> findByCardTaskStatusBoard(@Param("board") Board board);
+
+    // Exportação: lido aos poucos do cursor (fetch size) em vez de materializar a lista; exige transação aberta
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select m from CardMovement m join m.card c join c.taskStatus ts where ts.board = :board")
+    Stream<CardMovement> streamByBoard(@Param("board") Board board);
+
+    // Relatório por linha montado direto no record, sem carregar entidades; horas até :now se em aberto
+    @Query("select new br.com.board.taskboard.dto.MovementTimeReport(m.id, c.id, m.taskStatus.id, m.entryDate, " +
+           "m.exitDate, ((coalesce(m.exitDate, :now) - m.entryDate) by minute) / 60.0) " +
+           "from CardMovement m join m.card c join c.taskStatus ts where ts.board = :board order by m.id")
+    List<MovementTimeReport> findTimeReportByBoard(@Param("board") Board board, @Param("now") LocalDateTime now);
+
+    @Query(value = "select new br.com.board.taskboard.dto.MovementTimeReport(m.id, c.id, m.taskStatus.id, m.entryDate, " +
+                   "m.exitDate, ((coalesce(m.exitDate, :now) - m.entryDate) by minute) / 60.0) " +
+                   "from CardMovement m join m.card c join c.taskStatus ts where ts.board = :board order by m.id",
+           countQuery = "select count(m) from CardMovement m join m.card c join c.taskStatus ts where ts.board = :board")
+    Page<MovementTimeReport> findTimeReportPageByBoard(@Param("board") Board board, @Param("now") LocalDateTime now,
+                                                       Pageable pageable);
+
+    // Agregações feitas no banco: diferença de timestamps em minutos, convertida para horas
+    @Query("select new br.com.board.taskboard.dto.ColumnTimeReport(ts.id, ts.name, count(m), " +
+           "sum((coalesce(m.exitDate, :now) - m.entryDate) by minute) / 60.0, " +
+           "avg((coalesce(m.exitDate, :now) - m.entryDate) by minute) / 60.0, " +
+           "max((coalesce(m.exitDate, :now) - m.entryDate) by minute) / 60.0) " +
+           "from CardMovement m join m.taskStatus ts where ts.board = :board " +
+           "group by ts.id, ts.name, ts.priority order by ts.priority")
+    List<ColumnTimeReport> sumTimeByColumn(@Param("board") Board board, @Param("now") LocalDateTime now);
+
+    @Query("select new br.com.board.taskboard.dto.CardColumnTimeReport(m.card.id, ts.id, count(m), " +
+           "sum((coalesce(m.exitDate, :now) - m.entryDate) by minute) / 60.0, " +
+           "avg((coalesce(m.exitDate, :now) - m.entryDate) by minute) / 60.0, " +
+           "max((coalesce(m.exitDate, :now) - m.entryDate) by minute) / 60.0) " +
+           "from CardMovement m join m.taskStatus ts where ts.board = :board " +
+           "group by m.card.id, ts.id order by m.card.id, ts.id")
+    List<CardColumnTimeReport> sumTimeByCardAndColumn(@Param("board") Board board, @Param("now") LocalDateTime now);
+
+    // {coluna, entrada} das movimentações abertas, antes de o moveCards fechá-las
+    @Query("select m.taskStatus.id, m.entryDate from CardMovement m where m.card.id in :cardIds and m.exitDate is null")
+    List<Object[]> findOpenEntriesByCardIds(@Param("cardIds") List<Long> cardIds);
+
+    // Amostras dos histogramas de duração: {coluna, entrada, saída} de cada movimentação fechada.
+    // A diferença é calculada em Java, igual ao registro incremental do CardService.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select m.taskStatus.id, m.entryDate, m.exitDate from CardMovement m where m.exitDate is not null")
+    Stream<Object[]> streamColumnDurations();
+
+    // ... e {quadro, criação do cartão, entrada na coluna FINAL}
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select ts.board.id, c.createdAt, m.entryDate from CardMovement m join m.card c " +
+           "join m.taskStatus ts where ts.status = br.com.board.taskboard.model.Status.FINAL")
+    Stream<Object[]> streamCycleDurations();
+
+    @Query("select m.taskStatus.id, m.entryDate, m.exitDate from CardMovement m " +
+           "where m.card.id in :cardIds and m.exitDate is not null")
+    List<Object[]> findColumnDurationsByCardIds(@Param("cardIds") List<Long> cardIds);
+
+    @Query("select ts.board.id, c.createdAt, m.entryDate from CardMovement m join m.card c " +
+           "join m.taskStatus ts where c.id in :cardIds and ts.status = br.com.board.taskboard.model.Status.FINAL")
+    List<Object[]> findCycleDurationsByCardIds(@Param("cardIds") List<Long> cardIds);
+
+    // Vazão diária do quadro: {data, entradas na coluna FINAL} em [from, to), incluindo cartões já apagados
+    @Query(value = "select e.delivery_date, count(*) from (" +
+                   "select cast(m.entry_date as date) as delivery_date from card_movement m " +
+                   "    join task_status s on s.id = m.task_status_id " +
+                   "    where s.board_id = :boardId and s.status = 'FINAL' and m.entry_date >= :from and m.entry_date < :to " +
+                   "union all select cast(r.entry_date as date) from removed_card_movement r " +
+                   "    join task_status s on s.id = r.task_status_id " +
+                   "    where s.board_id = :boardId and s.status = 'FINAL' and r.entry_date >= :from and r.entry_date < :to" +
+                   ") e group by e.delivery_date",
+           nativeQuery = true)
+    List<Object[]> findDailyDeliveries(@Param("boardId") Long boardId, @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update CardMovement m set m.exitDate = :exitDate where m.card.id in :cardIds and m.exitDate is null")
+    int closeOpenMovements(@Param("cardIds") List<Long> cardIds, @Param("exitDate") LocalDateTime exitDate);
+
+    // Antes de apagar cartões: guarda o histórico para o fluxo cumulativo, saindo da coluna atual em :removedAt
+    @Modifying
+    @Query(value = "insert into removed_card_movement (id, task_status_id, entry_date, exit_date) " +
+                   "select m.id, m.task_status_id, m.entry_date, coalesce(m.exit_date, :removedAt) " +
+                   "from card_movement m where m.card_id in (:cardIds)",
+           nativeQuery = true)
+    int archiveMovementsOfCards(@Param("cardIds") List<Long> cardIds, @Param("removedAt") LocalDateTime removedAt);
 
 }
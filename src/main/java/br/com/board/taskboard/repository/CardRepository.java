@@ -2,14 +2,73 @@ package br.com.board.taskboard.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.LockModeType;
 
+import br.com.board.taskboard.dto.CardText;
 import br.com.board.taskboard.model.Card;
 import br.com.board.taskboard.model.TaskStatus;
 
-public interface CardRepository extends JpaRepository<Card, Long>{
+// Listagens com filtros dinâmicos: JpaSpecificationExecutor com os critérios de CardSpecifications
+public interface CardRepository extends JpaRepository<Card, Long>, JpaSpecificationExecutor<Card> {
 
     List<Card> findByTaskStatus(TaskStatus taskStatus);
 
+    // Carga do índice de busca em páginas por chave, sem materializar entidades
+    @Query("select new br.com.board.taskboard.dto.CardText(c.id, c.taskStatus.board.id, c.title, c.description) " +
+           "from Card c where c.id > :afterId order by c.id")
+    List<CardText> findTextPageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Operações em lote travam os cartões na leitura: as regras são validadas sobre o estado que será gravado
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Card c where c.id in :cardIds order by c.id") // ordem fixa evita deadlock entre lotes
+    List<Card> findAllForUpdateByIdIn(@Param("cardIds") List<Long> cardIds);
+
+    // Troca a coluna e aponta cada cartão para a sua movimentação aberta em um único UPDATE;
+    // "versioned" incrementa a versão, então escritas otimistas concorrentes nesses cartões falham
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned Card c set c.taskStatus = :target, " +
+           "c.currentMovement = (select m from CardMovement m where m.card = c and m.exitDate is null) " +
+           "where c.id in :cardIds")
+    int updateTaskStatusAndCurrentMovement(@Param("cardIds") List<Long> cardIds, @Param("target") TaskStatus target);
+
+    // Os ponteiros referenciam card_movement/block_history, que são apagados pelo ON DELETE CASCADE do cartão
+    @Modifying(flushAutomatically = true)
+    @Query("update Card c set c.currentMovement = null, c.activeBlock = null where c.id in :cardIds")
+    int clearHistoryPointers(@Param("cardIds") List<Long> cardIds);
+
+    // Movimentações e bloqueios saem pelas FKs com ON DELETE CASCADE, sem carregar entidades
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Card c where c.id in :cardIds")
+    int deleteAllByIdIn(@Param("cardIds") List<Long> cardIds);
+
+    @Query(value = "select count(*) from card c " +
+                   "where coalesce(c.current_movement_id, 0) <> coalesce((select max(m.id) from card_movement m " +
+                   "    where m.card_id = c.id and m.exit_date is null), 0) " +
+                   "or coalesce(c.active_block_id, 0) <> coalesce((select max(b.id) from block_history b " +
+                   "    where b.card_id = c.id and b.unblocked_date is null), 0)",
+           nativeQuery = true)
+    long countInconsistentPointers();
+
+    // Reconstrói os ponteiros a partir do histórico, tocando só as linhas divergentes
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update card c set " +
+                   "current_movement_id = (select max(m.id) from card_movement m " +
+                   "    where m.card_id = c.id and m.exit_date is null), " +
+                   "active_block_id = (select max(b.id) from block_history b " +
+                   "    where b.card_id = c.id and b.unblocked_date is null) " +
+                   "where coalesce(c.current_movement_id, 0) <> coalesce((select max(m.id) from card_movement m " +
+                   "    where m.card_id = c.id and m.exit_date is null), 0) " +
+                   "or coalesce(c.active_block_id, 0) <> coalesce((select max(b.id) from block_history b " +
+                   "    where b.card_id = c.id and b.unblocked_date is null), 0)",
+           nativeQuery = true)
+    int rebuildPointers();
+
 }
@@ -0,0 +1,64 @@
+package br.com.board.taskboard.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import br.com.board.taskboard.dto.CardFilter;
+import br.com.board.taskboard.model.Card;
+import br.com.board.taskboard.model.Status;
+
+// Critérios combináveis para CardRepository.findAll(Specification, Pageable). Quadro e status usam o mesmo join
+// implícito com task_status (card.taskStatus), então qualquer combinação vira uma única consulta.
+public final class CardSpecifications {
+
+    private CardSpecifications() {
+    }
+
+    public static Specification<Card> matching(CardFilter filter) {
+        Specification<Card> specification = Specification.unrestricted();
+        if (filter.boardId() != null) {
+            specification = specification.and(inBoard(filter.boardId()));
+        }
+        if (filter.taskStatusId() != null) {
+            specification = specification.and(inColumn(filter.taskStatusId()));
+        }
+        if (filter.status() != null) {
+            specification = specification.and(withStatus(filter.status()));
+        }
+        if (filter.blocked() != null) {
+            specification = specification.and(blocked(filter.blocked()));
+        }
+        if (filter.createdFrom() != null) {
+            specification = specification.and(createdFrom(filter.createdFrom()));
+        }
+        if (filter.createdBefore() != null) {
+            specification = specification.and(createdBefore(filter.createdBefore()));
+        }
+        return specification;
+    }
+
+    public static Specification<Card> inBoard(Long boardId) {
+        return (root, query, cb) -> cb.equal(root.get("taskStatus").get("board").get("id"), boardId);
+    }
+
+    public static Specification<Card> inColumn(Long taskStatusId) {
+        return (root, query, cb) -> cb.equal(root.get("taskStatus").get("id"), taskStatusId);
+    }
+
+    public static Specification<Card> withStatus(Status status) {
+        return (root, query, cb) -> cb.equal(root.get("taskStatus").get("status"), status);
+    }
+
+    public static Specification<Card> blocked(boolean blocked) {
+        return (root, query, cb) -> cb.equal(root.get("blocked"), blocked);
+    }
+
+    public static Specification<Card> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<Card> createdBefore(LocalDateTime before) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), before);
+    }
+}
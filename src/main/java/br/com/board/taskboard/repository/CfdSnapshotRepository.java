@@ -0,0 +1,72 @@
+package br.com.board.taskboard.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import br.com.board.taskboard.dto.CumulativeFlowPoint;
+import br.com.board.taskboard.model.CfdSnapshot;
+import br.com.board.taskboard.model.CfdSnapshotId;
+
+public interface CfdSnapshotRepository extends JpaRepository<CfdSnapshot, CfdSnapshotId> {
+
+    // Entradas (+1) e saídas (-1) com instante em [from, upTo], de cartões existentes e apagados.
+    // Uma única consulta: a exclusão de um cartão não faz o mesmo evento aparecer nas duas tabelas.
+    String EVENTS = "select e.task_status_id, s.board_id, e.event_date, sum(e.delta) from (" +
+            "select m.task_status_id, cast(m.entry_date as date) as event_date, 1 as delta from card_movement m " +
+            "    where m.entry_date >= :from and m.entry_date <= :upTo " +
+            "union all select m.task_status_id, cast(m.exit_date as date), -1 from card_movement m " +
+            "    where m.exit_date >= :from and m.exit_date <= :upTo " +
+            "union all select r.task_status_id, cast(r.entry_date as date), 1 from removed_card_movement r " +
+            "    where r.entry_date >= :from and r.entry_date <= :upTo " +
+            "union all select r.task_status_id, cast(r.exit_date as date), -1 from removed_card_movement r " +
+            "    where r.exit_date >= :from and r.exit_date <= :upTo" +
+            ") e join task_status s on s.id = e.task_status_id ";
+    String EVENTS_GROUPING = "group by e.task_status_id, s.board_id, e.event_date order by e.task_status_id, e.event_date";
+
+    // {task_status_id, board_id, data, variação}, ordenado por coluna e data
+    @Query(value = EVENTS + EVENTS_GROUPING, nativeQuery = true)
+    List<Object[]> findEventDeltas(@Param("from") LocalDateTime from, @Param("upTo") LocalDateTime upTo);
+
+    @Query(value = EVENTS + "where s.board_id = :boardId " + EVENTS_GROUPING, nativeQuery = true)
+    List<Object[]> findEventDeltasByBoard(@Param("from") LocalDateTime from, @Param("upTo") LocalDateTime upTo,
+                                          @Param("boardId") Long boardId);
+
+    // Abre o dia para todas as colunas com a contagem do dia anterior (0 para colunas sem histórico)
+    @Modifying
+    @Query(value = "insert into cfd_snapshot (task_status_id, snapshot_date, board_id, card_count) " +
+                   "select s.id, :day, s.board_id, coalesce((select p.card_count from cfd_snapshot p " +
+                   "    where p.task_status_id = s.id and p.snapshot_date = :previousDay), 0) " +
+                   "from task_status s where not exists (select 1 from cfd_snapshot x " +
+                   "    where x.task_status_id = s.id and x.snapshot_date = :day)",
+           nativeQuery = true)
+    int carryForward(@Param("day") LocalDate day, @Param("previousDay") LocalDate previousDay);
+
+    // Uma variação no dia vale para ele e para todos os dias seguintes já materializados
+    @Modifying
+    @Query("update CfdSnapshot c set c.cardCount = c.cardCount + :delta " +
+           "where c.taskStatusId = :taskStatusId and c.snapshotDate >= :day")
+    int addFrom(@Param("taskStatusId") Long taskStatusId, @Param("day") LocalDate day, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CfdSnapshot")
+    int deleteAllSnapshots();
+
+    @Modifying
+    @Query("delete from CfdSnapshot c where c.snapshotDate >= :day")
+    int deleteFrom(@Param("day") LocalDate day);
+
+    List<CfdSnapshot> findByBoardId(Long boardId);
+
+    @Query("select new br.com.board.taskboard.dto.CumulativeFlowPoint(c.snapshotDate, c.taskStatusId, ts.name, c.cardCount) " +
+           "from CfdSnapshot c join TaskStatus ts on ts.id = c.taskStatusId " +
+           "where c.boardId = :boardId and c.snapshotDate between :from and :to " +
+           "order by c.snapshotDate, ts.priority")
+    List<CumulativeFlowPoint> findFlow(@Param("boardId") Long boardId, @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to);
+}
@@ -0,0 +1,20 @@
+package br.com.board.taskboard.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+import br.com.board.taskboard.model.CfdWatermark;
+
+public interface CfdWatermarkRepository extends JpaRepository<CfdWatermark, Integer> {
+
+    // Trava a marca d'água: duas execuções do job (ex.: duas instâncias) não aplicam a mesma janela
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from CfdWatermark w where w.id = :id")
+    Optional<CfdWatermark> findForUpdate(@Param("id") Integer id);
+}
@@ -0,0 +1,83 @@
+package br.com.board.taskboard.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import br.com.board.taskboard.dto.ColumnBlockCount;
+import br.com.board.taskboard.dto.ColumnOccupancy;
+import br.com.board.taskboard.model.ColumnCounter;
+
+public interface ColumnCounterRepository extends JpaRepository<ColumnCounter, Long> {
+
+    // Incremento feito pelo banco: transações concorrentes nunca regravam um valor lido antes
+    @Modifying
+    @Query("update ColumnCounter k set k.cardCount = k.cardCount + :cardDelta, " +
+           "k.blockedCount = k.blockedCount + :blockedDelta where k.taskStatusId = :taskStatusId")
+    int adjust(@Param("taskStatusId") Long taskStatusId, @Param("cardDelta") long cardDelta,
+               @Param("blockedDelta") long blockedDelta);
+
+    // Só incrementa se a coluna continuar dentro do limite; retorna 0 quando o limite seria ultrapassado.
+    // O UPDATE trava a linha do contador, então entradas concorrentes na mesma coluna são avaliadas
+    // uma de cada vez sobre o valor já gravado, sem travar as demais colunas do quadro
+    @Modifying
+    @Query("update ColumnCounter k set k.cardCount = k.cardCount + :cardDelta " +
+           "where k.taskStatusId = :taskStatusId and k.cardCount + :cardDelta <= :wipLimit")
+    int adjustWithinLimit(@Param("taskStatusId") Long taskStatusId, @Param("cardDelta") long cardDelta,
+                          @Param("wipLimit") long wipLimit);
+
+    @Modifying
+    @Query(value = "insert into column_counter (task_status_id, card_count, blocked_count) " +
+                   "select s.id, 0, 0 from task_status s where s.board_id = :boardId " +
+                   "and not exists (select 1 from column_counter k where k.task_status_id = s.id)",
+           nativeQuery = true)
+    int createForBoard(@Param("boardId") Long boardId);
+
+    @Query("select new br.com.board.taskboard.dto.ColumnOccupancy(" +
+           "ts.id, ts.name, ts.priority, ts.status, k.cardCount, k.blockedCount, ts.wipLimit) " +
+           "from TaskStatus ts join ColumnCounter k on k.taskStatusId = ts.id " +
+           "where ts.board.id = :boardId order by ts.priority")
+    List<ColumnOccupancy> findOccupancyByBoardId(@Param("boardId") Long boardId);
+
+    // Bloqueios ativos por coluna lidos dos contadores, sem percorrer os cartões do quadro
+    @Query("select new br.com.board.taskboard.dto.ColumnBlockCount(ts.id, ts.name, k.blockedCount) " +
+           "from TaskStatus ts join ColumnCounter k on k.taskStatusId = ts.id " +
+           "where ts.board.id = :boardId order by ts.priority")
+    List<ColumnBlockCount> findBlockCountsByBoardId(@Param("boardId") Long boardId);
+
+    @Query(value = "select count(*) from task_status s " +
+                   "left join column_counter k on k.task_status_id = s.id " +
+                   "where k.task_status_id is null " +
+                   "or k.card_count <> (select count(*) from card c where c.task_status_id = s.id) " +
+                   "or k.blocked_count <> (select count(*) from card c " +
+                   "    where c.task_status_id = s.id and c.blocked = true)",
+           nativeQuery = true)
+    long countInconsistent();
+
+    // Quadros com algum contador ausente ou divergente, para a correção quadro a quadro
+    @Query(value = "select distinct s.board_id from task_status s " +
+                   "left join column_counter k on k.task_status_id = s.id " +
+                   "where k.task_status_id is null " +
+                   "or k.card_count <> (select count(*) from card c where c.task_status_id = s.id) " +
+                   "or k.blocked_count <> (select count(*) from card c " +
+                   "    where c.task_status_id = s.id and c.blocked = true) " +
+                   "order by s.board_id",
+           nativeQuery = true)
+    List<Long> findInconsistentBoardIds();
+
+    // Recalcula a partir dos cartões as colunas de um quadro, tocando só os contadores divergentes
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update column_counter k set " +
+                   "card_count = (select count(*) from card c where c.task_status_id = k.task_status_id), " +
+                   "blocked_count = (select count(*) from card c " +
+                   "    where c.task_status_id = k.task_status_id and c.blocked = true) " +
+                   "where k.task_status_id in (select s.id from task_status s where s.board_id = :boardId) " +
+                   "and (k.card_count <> (select count(*) from card c where c.task_status_id = k.task_status_id) " +
+                   "or k.blocked_count <> (select count(*) from card c " +
+                   "    where c.task_status_id = k.task_status_id and c.blocked = true))",
+           nativeQuery = true)
+    int rebuildMismatchedForBoard(@Param("boardId") Long boardId);
+}
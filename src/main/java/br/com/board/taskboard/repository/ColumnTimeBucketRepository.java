@@ -0,0 +1,29 @@
+package br.com.board.taskboard.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import br.com.board.taskboard.model.ColumnTimeBucket;
+import br.com.board.taskboard.model.ColumnTimeBucketId;
+
+public interface ColumnTimeBucketRepository extends JpaRepository<ColumnTimeBucket, ColumnTimeBucketId> {
+
+    // Incremento atômico da faixa, criando a linha na primeira amostra
+    @Modifying
+    @Query(value = "insert into column_time_bucket (task_status_id, bucket, sample_count) " +
+                   "values (:taskStatusId, :bucket, :count) " +
+                   "on duplicate key update sample_count = sample_count + :count",
+           nativeQuery = true)
+    int add(@Param("taskStatusId") Long taskStatusId, @Param("bucket") int bucket, @Param("count") long count);
+
+    @Query("select b from ColumnTimeBucket b, TaskStatus ts where ts.id = b.taskStatusId and ts.board.id = :boardId")
+    List<ColumnTimeBucket> findByBoardId(@Param("boardId") Long boardId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ColumnTimeBucket")
+    int deleteAllBuckets();
+}
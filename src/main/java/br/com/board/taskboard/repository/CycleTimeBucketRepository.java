@@ -0,0 +1,36 @@
+package br.com.board.taskboard.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import br.com.board.taskboard.model.CycleTimeBucket;
+import br.com.board.taskboard.model.CycleTimeBucketId;
+
+public interface CycleTimeBucketRepository extends JpaRepository<CycleTimeBucket, CycleTimeBucketId> {
+
+    // Incremento atômico da faixa, criando a linha na primeira amostra
+    @Modifying
+    @Query(value = "insert into cycle_time_bucket (board_id, bucket, sample_count) values (:boardId, :bucket, :count) " +
+                   "on duplicate key update sample_count = sample_count + :count",
+           nativeQuery = true)
+    int add(@Param("boardId") Long boardId, @Param("bucket") int bucket, @Param("count") long count);
+
+    List<CycleTimeBucket> findByBoardIdIn(Collection<Long> boardIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CycleTimeBucket")
+    int deleteAllBuckets();
+
+    // Marcador da V13: histórico anterior aos histogramas ainda não reconstruído
+    @Query(value = "select count(*) from duration_histogram_backfill", nativeQuery = true)
+    long countPendingBackfill();
+
+    @Modifying
+    @Query(value = "delete from duration_histogram_backfill", nativeQuery = true)
+    int clearPendingBackfill();
+}
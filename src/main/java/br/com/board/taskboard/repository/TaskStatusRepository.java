@@ -4,14 +4,41 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
+import br.com.board.taskboard.dto.ColumnCardRow;
+import br.com.board.taskboard.dto.ColumnLayout;
 import br.com.board.taskboard.model.Board;
 import br.com.board.taskboard.model.Status;
 import br.com.board.taskboard.model.TaskStatus;
 
 public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
 
+    // Resultado guardado no cache de consultas; qualquer escrita em task_status invalida a região
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "taskStatusByBoard")
+    })
     List<TaskStatus> findByBoardOrderByPriority(Board board);
     Optional<TaskStatus> findByBoardAndStatus(Board board, Status status);
 
+    // Uma única consulta com os campos da coluna e os IDs dos cartões, sem carregar as entidades Card
+    @Query("select new br.com.board.taskboard.dto.ColumnCardRow(ts.id, ts.name, ts.priority, ts.status, c.id) " +
+           "from TaskStatus ts left join Card c on c.taskStatus = ts " +
+           "where ts.board = :board order by ts.priority, c.id")
+    List<ColumnCardRow> findColumnCardRows(@Param("board") Board board);
+
+    // Layout usado pelo BoardLayoutCache: só os campos necessários para validar criação e movimentação
+    @Query("select new br.com.board.taskboard.dto.ColumnLayout(ts.id, ts.status, ts.priority, ts.board.id, ts.wipLimit) " +
+           "from TaskStatus ts where ts.board.id = :boardId order by ts.priority")
+    List<ColumnLayout> findLayoutByBoardId(@Param("boardId") Long boardId);
+
+    @Query("select ts.board.id from TaskStatus ts where ts.id = :id")
+    Optional<Long> findBoardIdById(@Param("id") Long id);
+
 }
@@ -0,0 +1,15 @@
+package br.com.board.taskboard.script;
+
+import java.util.List;
+
+// Comando já validado pelo ScriptParser; os argumentos numéricos foram conferidos na leitura
+public record ScriptCommand(int line, String text, ScriptOperation operation, List<String> args) {
+
+    public Long id(int index) {
+        return Long.valueOf(args.get(index));
+    }
+
+    public String text(int index) {
+        return index < args.size() ? args.get(index) : null;
+    }
+}
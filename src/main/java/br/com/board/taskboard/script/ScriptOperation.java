@@ -0,0 +1,50 @@
+package br.com.board.taskboard.script;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+// Comandos aceitos no modo script, com a quantidade de argumentos e quais deles são IDs
+public enum ScriptOperation {
+
+    BOARD("board", "board <nome>", 1, 1, 0),
+    CARD("card", "card <quadro> <título> [descrição]", 2, 3, 1),
+    MOVE("move", "move <cartão> <coluna>", 2, 2, 2),
+    BLOCK("block", "block <cartão> <motivo>", 2, 2, 1),
+    UNBLOCK("unblock", "unblock <cartão> <motivo>", 2, 2, 1),
+    DELETE("delete", "delete <cartão>", 1, 1, 1);
+
+    private final String keyword;
+    private final String usage;
+    private final int minArgs;
+    private final int maxArgs;
+    // Os primeiros idArgs argumentos precisam ser IDs numéricos
+    private final int idArgs;
+
+    ScriptOperation(String keyword, String usage, int minArgs, int maxArgs, int idArgs) {
+        this.keyword = keyword;
+        this.usage = usage;
+        this.minArgs = minArgs;
+        this.maxArgs = maxArgs;
+        this.idArgs = idArgs;
+    }
+
+    public String getUsage() {
+        return usage;
+    }
+
+    public int getMinArgs() {
+        return minArgs;
+    }
+
+    public int getMaxArgs() {
+        return maxArgs;
+    }
+
+    public int getIdArgs() {
+        return idArgs;
+    }
+
+    public static Optional<ScriptOperation> fromKeyword(String keyword) {
+        return Arrays.stream(values()).filter(operation -> operation.keyword.equalsIgnoreCase(keyword)).findFirst();
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.board.taskboard.script;
+
+import br.com.board.taskboard.dto.ScriptFailure;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Lê o script inteiro antes de executar qualquer comando. Uma linha por comando; linhas vazias e
+// iniciadas por # são ignoradas; argumentos com espaço vão entre aspas duplas ("Título do cartão").
+public class ScriptParser {
+
+    public record ParsedScript(List<ScriptCommand> commands, List<ScriptFailure> errors) {
+    }
+
+    public ParsedScript parse(BufferedReader reader) throws IOException {
+        List<ScriptCommand> commands = new ArrayList<>();
+        List<ScriptFailure> errors = new ArrayList<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String text = line.strip();
+            if (text.isEmpty() || text.startsWith("#")) {
+                continue;
+            }
+            try {
+                commands.add(parseLine(lineNumber, text));
+            } catch (IllegalArgumentException e) {
+                errors.add(new ScriptFailure(lineNumber, text, e.getMessage()));
+            }
+        }
+        return new ParsedScript(commands, errors);
+    }
+
+    private ScriptCommand parseLine(int lineNumber, String text) {
+        List<String> tokens = tokenize(text);
+        ScriptOperation operation = ScriptOperation.fromKeyword(tokens.get(0))
+                .orElseThrow(() -> new IllegalArgumentException("Comando desconhecido: " + tokens.get(0)));
+        List<String> args = tokens.subList(1, tokens.size());
+        if (args.size() < operation.getMinArgs() || args.size() > operation.getMaxArgs()) {
+            throw new IllegalArgumentException("Uso: " + operation.getUsage());
+        }
+        for (int i = 0; i < operation.getIdArgs(); i++) {
+            try {
+                Long.parseLong(args.get(i));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("ID inválido '" + args.get(i) + "'. Uso: " + operation.getUsage());
+            }
+        }
+        return new ScriptCommand(lineNumber, text, operation, List.copyOf(args));
+    }
+
+    private List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        boolean hasToken = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+                hasToken = true;
+            } else if (Character.isWhitespace(c) && !quoted) {
+                if (hasToken) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                    hasToken = false;
+                }
+            } else {
+                current.append(c);
+                hasToken = true;
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Aspas sem fechamento");
+        }
+        if (hasToken) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+}
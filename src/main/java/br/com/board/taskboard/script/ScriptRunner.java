@@ -0,0 +1,128 @@
+package br.com.board.taskboard.script;
+
+import br.com.board.taskboard.dto.ScriptFailure;
+import br.com.board.taskboard.dto.ScriptSummary;
+import br.com.board.taskboard.exception.TaskboardException;
+import br.com.board.taskboard.service.BoardService;
+import br.com.board.taskboard.service.CardService;
+import br.com.board.taskboard.util.ConsolePrinter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Modo script: aplica os comandos em lotes, cada lote em uma única transação.
+// Se algum comando do lote falha, o lote volta inteiro e é refeito comando a comando,
+// cada um na transação do próprio serviço (com retry), para aplicar os válidos e apontar os que falharam.
+// Dentro do lote o @RetryOnConflict não repete: um conflito desfaz o lote e vai direto para essa reexecução.
+@Component
+public class ScriptRunner {
+
+    private final BoardService boardService;
+    private final CardService cardService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    @Autowired
+    public ScriptRunner(BoardService boardService, CardService cardService,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${taskboard.script.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("taskboard.script.chunk-size deve ser maior que zero: " + chunkSize);
+        }
+        this.boardService = boardService;
+        this.cardService = cardService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    // Sem arquivo (ou com "-") os comandos vêm da entrada padrão
+    public ScriptSummary run(String file) {
+        try (BufferedReader reader = file == null || file.isBlank() || file.equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Path.of(file), StandardCharsets.UTF_8)) {
+            return run(reader);
+        } catch (IOException e) {
+            throw new TaskboardException("Erro ao ler o script " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    public ScriptSummary run(BufferedReader reader) throws IOException {
+        ScriptParser.ParsedScript script = new ScriptParser().parse(reader);
+        List<ScriptCommand> commands = script.commands();
+        List<ScriptFailure> failures = new ArrayList<>(script.errors());
+
+        int succeeded = 0;
+        int chunks = 0;
+        int replayedChunks = 0;
+        long start = System.nanoTime();
+        for (int from = 0; from < commands.size(); from += chunkSize) {
+            List<ScriptCommand> chunk = commands.subList(from, Math.min(from + chunkSize, commands.size()));
+            chunks++;
+            try {
+                transactionTemplate.executeWithoutResult(status -> chunk.forEach(this::execute));
+                succeeded += chunk.size();
+            } catch (RuntimeException e) {
+                replayedChunks++;
+                for (ScriptCommand command : chunk) {
+                    try {
+                        execute(command);
+                        succeeded++;
+                    } catch (RuntimeException commandFailure) {
+                        failures.add(new ScriptFailure(command.line(), command.text(), message(commandFailure)));
+                    }
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        failures.sort(Comparator.comparingInt(ScriptFailure::line));
+        return new ScriptSummary(commands.size() + script.errors().size(), succeeded, failures, chunks,
+                replayedChunks, elapsed);
+    }
+
+    public void printSummary(ScriptSummary summary) {
+        System.out.println("=== Resumo do Script ===");
+        System.out.println("Comandos: " + summary.commands() + " (" + summary.succeeded() + " aplicados, "
+                + summary.failures().size() + " com falha)");
+        System.out.println("Lotes: " + summary.chunks() + " de até " + chunkSize + " comandos ("
+                + summary.replayedChunks() + " refeitos comando a comando)");
+        System.out.printf("Tempo: %d ms (%.0f comandos/s)%n", summary.elapsedNanos() / 1_000_000,
+                summary.commandsPerSecond());
+        if (summary.failures().isEmpty()) {
+            ConsolePrinter.printSuccess("Todos os comandos foram aplicados.");
+            return;
+        }
+        ConsolePrinter.printError("Falhas:");
+        for (ScriptFailure failure : summary.failures()) {
+            ConsolePrinter.printError("  linha " + failure.line() + ": " + failure.command() + " -> "
+                    + failure.message());
+        }
+    }
+
+    private void execute(ScriptCommand command) {
+        switch (command.operation()) {
+            case BOARD -> boardService.createBoard(command.text(0));
+            case CARD -> cardService.createCard(command.id(0), command.text(1), command.text(2));
+            case MOVE -> cardService.moveCard(command.id(0), command.id(1));
+            case BLOCK -> cardService.blockCard(command.id(0), command.text(1));
+            case UNBLOCK -> cardService.unblockCard(command.id(0), command.text(1));
+            case DELETE -> cardService.deleteCard(command.id(0));
+        }
+    }
+
+    private String message(RuntimeException e) {
+        return e instanceof TaskboardException ? e.getMessage() : e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+}
@@ -1,87 +1,105 @@
 package br.com.board.taskboard.service;
 
 
+import br.com.board.taskboard.dto.BlockHistoryReport;
+import br.com.board.taskboard.dto.ColumnBlockCount;
+import br.com.board.taskboard.dto.HistoryCursor;
+import br.com.board.taskboard.dto.HistoryPage;
 import br.com.board.taskboard.exception.TaskboardException;
 import br.com.board.taskboard.model.Board;
 import br.com.board.taskboard.model.Card;
-import br.com.board.taskboard.model.BlockHistory;
 import br.com.board.taskboard.repository.BlockHistoryRepository;
 import br.com.board.taskboard.repository.BoardRepository;
 import br.com.board.taskboard.repository.CardRepository;
+import br.com.board.taskboard.repository.ColumnCounterRepository;
 import br.com.board.taskboard.util.DateUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class BlockHistoryService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BlockHistoryRepository blockHistoryRepository;
     private final BoardRepository boardRepository;
     private final CardRepository cardRepository;
+    private final ColumnCounterRepository columnCounterRepository;
 
     @Autowired
     public BlockHistoryService(BlockHistoryRepository blockHistoryRepository, BoardRepository boardRepository,
-                              CardRepository cardRepository) {
+                              CardRepository cardRepository, ColumnCounterRepository columnCounterRepository) {
         this.blockHistoryRepository = blockHistoryRepository;
         this.boardRepository = boardRepository;
         this.cardRepository = cardRepository;
+        this.columnCounterRepository = columnCounterRepository;
     }
 
-    public List<Map<String, Object>> cardBlockHistory(Long boardId, Long cardId) {
+    @Transactional(readOnly = true)
+    public List<BlockHistoryReport> cardBlockHistory(Long boardId, Long cardId) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new TaskboardException("Quadro não encontrado com o ID: " + boardId));
 
-        List<BlockHistory> blockHistories;
         if (cardId != null) {
             Card card = cardRepository.findById(cardId)
                     .orElseThrow(() -> new TaskboardException("Cartão não encontrado com o ID: " + cardId));
             if (!card.getTaskStatus().getBoard().getId().equals(boardId)) {
                 throw new TaskboardException("Cartão com ID " + cardId + " não pertence ao quadro com ID " + boardId);
             }
-            blockHistories = blockHistoryRepository.findByCard(card);
-        } else 
-        {
-            blockHistories = blockHistoryRepository.findByCardTaskStatusBoard(board);
+            return blockHistoryRepository.findReportByCard(card, DateUtil.now());
+        }
+        return blockHistoryRepository.findReportByBoard(board, DateUtil.now());
+    }
+
+    // Histórico paginado por chave; after == null devolve a primeira página
+    @Transactional(readOnly = true)
+    public HistoryPage<BlockHistoryReport> cardBlockHistory(Long boardId, Long cardId, HistoryCursor after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new TaskboardException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE + ".");
+        }
+        if (!boardRepository.existsById(boardId)) {
+            throw new TaskboardException("Quadro não encontrado com o ID: " + boardId);
         }
 
-        return blockHistories.stream()
-        .map(history -> {
-            Map<String, Object> result = new HashMap<>();
-            result.put("id", history.getId());
-            result.put("cardId", history.getCard().getId());
-            result.put("blockedDate", history.getBlockedDate());
-            result.put("blockedReason", history.getBlockedReason());
-            result.put("unblockedDate", history.getUnblockedDate());
-            result.put("unblockedReason", history.getUnblockedReason());
-            double blockDuration = DateUtil.calculateHours(history.getBlockedDate(), history.getUnblockedDate());
-            result.put("blockedDuration", blockDuration);
-            return result;
-        }).collect(Collectors.toList());
+        LocalDateTime now = DateUtil.now();
+        Limit limit = Limit.of(size + 1);
+        List<BlockHistoryReport> rows;
+        if (cardId != null) {
+            Card card = cardRepository.findById(cardId)
+                    .orElseThrow(() -> new TaskboardException("Cartão não encontrado com o ID: " + cardId));
+            if (!card.getTaskStatus().getBoard().getId().equals(boardId)) {
+                throw new TaskboardException("Cartão com ID " + cardId + " não pertence ao quadro com ID " + boardId);
+            }
+            rows = after == null
+                    ? blockHistoryRepository.findReportPageByCard(card, now, limit)
+                    : blockHistoryRepository.findReportPageByCardAfter(card, now, after.date(), after.id(), limit);
+        } else {
+            rows = after == null
+                    ? blockHistoryRepository.findReportPageByBoard(boardId, now, limit)
+                    : blockHistoryRepository.findReportPageByBoardAfter(boardId, now, after.date(), after.id(), limit);
+        }
+        return HistoryPage.of(rows, size, row -> new HistoryCursor(row.blockedDate(), row.id()));
     }
 
-    public List<Map<String, Object>> activeBlocksByBoard(Long boardId) {
+    @Transactional(readOnly = true)
+    public List<BlockHistoryReport> activeBlocksByBoard(Long boardId) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new TaskboardException("Quadro não encontrado com o ID: " + boardId));
 
-        List<BlockHistory> blockHistories = blockHistoryRepository.findByCardTaskStatusBoard(board);
-        return blockHistories.stream()
-                .filter(history -> history.getUnblockedDate() == null)
-                .map(history -> {
-                    Map<String, Object> result = new HashMap<>();
-                    result.put("id", history.getId());
-                    result.put("cardId", history.getCard().getId());
-                    result.put("blockedDate", history.getBlockedDate());
-                    result.put("blockedReason", history.getBlockedReason());
-                    result.put("unblockedDate", history.getUnblockedDate());
-                    result.put("unblockedReason", history.getUnblockedReason());
-                    double blockDuration = DateUtil.calculateHours(history.getBlockedDate(), null);
-                    result.put("blockedDuration", blockDuration);
-                    return result;
-                }).collect(Collectors.toList());
+        return blockHistoryRepository.findActiveReportByBoard(board, DateUtil.now());
+    }
+
+    // Lido de column_counter, mantido junto com o flag blocked de cada cartão
+    @Transactional(readOnly = true)
+    public List<ColumnBlockCount> activeBlockCountByColumn(Long boardId) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new TaskboardException("Quadro não encontrado com o ID: " + boardId);
+        }
+        return columnCounterRepository.findBlockCountsByBoardId(boardId);
     }
-}
\ No newline at end of file
+}
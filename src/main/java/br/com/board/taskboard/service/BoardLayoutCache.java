@@ -0,0 +1,104 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardLayout;
+import br.com.board.taskboard.dto.ColumnLayout;
+import br.com.board.taskboard.dto.LayoutCacheStats;
+import br.com.board.taskboard.repository.TaskStatusRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+// Cache em memória do layout de colunas de cada quadro, com limite de tamanho e expiração por tempo.
+// Criação e movimentação de cartões validam coluna inicial, quadro e prioridade sem consultar task_status.
+@Component
+public class BoardLayoutCache {
+
+    // Um quadro tem poucas colunas; o índice coluna -> quadro comporta esse múltiplo de quadros
+    static final int COLUMNS_PER_BOARD = 8;
+
+    private final TaskStatusRepository taskStatusRepository;
+    private final Cache<Long, BoardLayout> layoutsByBoard;
+    // Uma coluna nunca troca de quadro, então esse índice não precisa ser invalidado
+    private final Cache<Long, Long> boardIdsByColumn;
+
+    @Autowired
+    public BoardLayoutCache(TaskStatusRepository taskStatusRepository,
+                            @Value("${taskboard.cache.layout.maximum-size:1000}") long maximumSize,
+                            @Value("${taskboard.cache.layout.expire-after-write:10m}") Duration expireAfterWrite) {
+        this(taskStatusRepository, maximumSize, expireAfterWrite, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    BoardLayoutCache(TaskStatusRepository taskStatusRepository, long maximumSize, Duration expireAfterWrite,
+                     Ticker ticker, Executor executor) {
+        this.taskStatusRepository = taskStatusRepository;
+        this.layoutsByBoard = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .build();
+        this.boardIdsByColumn = Caffeine.newBuilder()
+                .maximumSize(maximumSize * COLUMNS_PER_BOARD)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .executor(executor)
+                .build();
+    }
+
+    // Quadro inexistente resulta em layout vazio, que não é guardado no cache
+    public BoardLayout layout(Long boardId) {
+        BoardLayout layout = layoutsByBoard.get(boardId, id -> {
+            BoardLayout loaded = new BoardLayout(id, taskStatusRepository.findLayoutByBoardId(id));
+            return loaded.isEmpty() ? null : loaded;
+        });
+        return layout != null ? layout : new BoardLayout(boardId, List.of());
+    }
+
+    public Optional<ColumnLayout> column(Long columnId) {
+        Long boardId = boardIdsByColumn.get(columnId,
+                id -> taskStatusRepository.findBoardIdById(id).orElse(null));
+        if (boardId == null) {
+            return Optional.empty();
+        }
+        return layout(boardId).column(columnId);
+    }
+
+    // Descarta o layout na hora e de novo após o commit, para que nenhuma leitura concorrente
+    // da transação em andamento recoloque no cache um layout antigo
+    public void invalidate(Long boardId) {
+        layoutsByBoard.invalidate(boardId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    layoutsByBoard.invalidate(boardId);
+                }
+            });
+        }
+    }
+
+    public LayoutCacheStats stats() {
+        CacheStats stats = layoutsByBoard.stats();
+        return new LayoutCacheStats(stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(),
+                layoutsByBoard.estimatedSize());
+    }
+
+    // Aplica as remoções pendentes; usado nos testes para ler contagens exatas
+    void cleanUp() {
+        layoutsByBoard.cleanUp();
+        boardIdsByColumn.cleanUp();
+    }
+}
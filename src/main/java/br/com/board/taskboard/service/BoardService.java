@@ -15,7 +15,7 @@ import br.com.board.taskboard.model.TaskStatus;
 import br.com.board.taskboard.repository.BoardRepository;
 
 import br.com.board.taskboard.util.DateUtil;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class BoardService {
@@ -63,6 +63,7 @@ public class BoardService {
     }
 
    
+    @Transactional(readOnly = true)
     public List<BoardDTO> getAllBoards() {
         List<Board> boards = boardRepository.findAll();
         return boards.stream()
@@ -81,6 +82,7 @@ public class BoardService {
     }
 
    
+    @Transactional(readOnly = true)
     public BoardDTO getBoardById(Long id) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new TaskboardException("Quadro não encontrado com o ID: " + id));
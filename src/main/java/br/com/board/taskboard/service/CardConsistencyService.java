@@ -0,0 +1,74 @@
+package br.com.board.taskboard.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.board.taskboard.repository.CardRepository;
+import br.com.board.taskboard.repository.ColumnCounterRepository;
+import br.com.board.taskboard.util.ConsolePrinter;
+import org.springframework.transaction.annotation.Transactional;
+
+// Confere e reconstrói os ponteiros Card.currentMovement/activeBlock a partir do histórico
+// e os contadores de ocupação das colunas a partir dos cartões
+@Service
+public class CardConsistencyService {
+
+    private final CardRepository cardRepository;
+    private final ColumnCounterRepository columnCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean repairOnVerify;
+
+    @Autowired
+    public CardConsistencyService(CardRepository cardRepository, ColumnCounterRepository columnCounterRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${taskboard.counters.verify-repair:false}") boolean repairOnVerify) {
+        this.cardRepository = cardRepository;
+        this.columnCounterRepository = columnCounterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.repairOnVerify = repairOnVerify;
+    }
+
+    @Transactional(readOnly = true)
+    public long countInconsistentCards() {
+        return cardRepository.countInconsistentPointers();
+    }
+
+    @Transactional
+    public int rebuildPointers() {
+        return cardRepository.rebuildPointers();
+    }
+
+    @Transactional(readOnly = true)
+    public long countInconsistentCounters() {
+        return columnCounterRepository.countInconsistent();
+    }
+
+    // Retorna quantos contadores foram criados ou corrigidos. Cada quadro divergente é corrigido na sua
+    // própria transação, para não travar os contadores de todos os quadros de uma vez
+    public int rebuildCounters() {
+        int fixed = 0;
+        for (Long boardId : columnCounterRepository.findInconsistentBoardIds()) {
+            fixed += transactionTemplate.execute(status -> columnCounterRepository.createForBoard(boardId)
+                    + columnCounterRepository.rebuildMismatchedForBoard(boardId));
+        }
+        return fixed;
+    }
+
+    // Job de verificação (taskboard.counters.verify-cron); desligado por padrão. Só relata a divergência;
+    // a correção roda aqui apenas com taskboard.counters.verify-repair=true, senão chame rebuildCounters
+    @Scheduled(cron = "${taskboard.counters.verify-cron:-}")
+    public void verifyCounters() {
+        long inconsistent = columnCounterRepository.countInconsistent();
+        if (inconsistent == 0) {
+            return;
+        }
+        ConsolePrinter.printWarning("Contadores de coluna divergentes dos cartões: " + inconsistent);
+        if (repairOnVerify) {
+            ConsolePrinter.printWarning("Contadores de coluna corrigidos: " + rebuildCounters());
+        }
+    }
+}
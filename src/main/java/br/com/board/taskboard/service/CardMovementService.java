@@ -1,6 +1,11 @@
 package br.com.board.taskboard.service;
 
+import br.com.board.taskboard.dto.CardColumnTimeReport;
 import br.com.board.taskboard.dto.CardMovementDTO;
+import br.com.board.taskboard.dto.ColumnTimeReport;
+import br.com.board.taskboard.dto.HistoryCursor;
+import br.com.board.taskboard.dto.HistoryPage;
+import br.com.board.taskboard.dto.MovementTimeReport;
 import br.com.board.taskboard.exception.TaskboardException;
 import br.com.board.taskboard.model.Board;
 import br.com.board.taskboard.model.Card;
@@ -10,16 +15,19 @@ import br.com.board.taskboard.repository.CardRepository;
 import br.com.board.taskboard.repository.CardMovementRepository;
 import br.com.board.taskboard.util.DateUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class CardMovementService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CardMovementRepository cardMovementRepository;
     private final BoardRepository boardRepository;
     private final CardRepository cardRepository;
@@ -32,25 +40,47 @@ public class CardMovementService {
         this.cardRepository = cardRepository;
     }
 
-    public List<Map<String, Object>> cardTimeInColumn(Long boardId) {
+    @Transactional(readOnly = true)
+    public List<MovementTimeReport> cardTimeInColumn(Long boardId) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new TaskboardException("Quadro não encontrado com o ID: " + boardId));
 
-        List<CardMovement> movements = cardMovementRepository.findByCardTaskStatusBoard(board);
-        return movements.stream()
-        .map(movement -> {
-            Map<String, Object> result = new HashMap<>();
-            result.put("id", movement.getId());
-            result.put("cardId", movement.getCard().getId());
-            result.put("taskStatusId", movement.getTaskStatus().getId());
-            result.put("entryDate", movement.getEntryDate());
-            result.put("exitDate", movement.getExitDate());
-            double timeInHours = DateUtil.calculateHours(movement.getEntryDate(), movement.getExitDate());
-            result.put("timeInHours", timeInHours);
-            return result;
-        }).collect(Collectors.toList());
+        return cardMovementRepository.findTimeReportByBoard(board, DateUtil.now());
+    }
+
+    // Versão paginada da listagem por linha, para quadros com histórico longo
+    @Transactional(readOnly = true)
+    public List<MovementTimeReport> cardTimeInColumn(Long boardId, int page, int size) {
+        if (page < 0) {
+            throw new TaskboardException("A página não pode ser negativa.");
+        }
+        checkPageSize(size);
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new TaskboardException("Quadro não encontrado com o ID: " + boardId));
+
+        return cardMovementRepository.findTimeReportPageByBoard(board, DateUtil.now(), PageRequest.of(page, size))
+                .getContent();
+    }
+
+    // Total, média e máximo de horas por coluna, agregados no banco (GROUP BY)
+    @Transactional(readOnly = true)
+    public List<ColumnTimeReport> timeByColumn(Long boardId) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new TaskboardException("Quadro não encontrado com o ID: " + boardId));
+
+        return cardMovementRepository.sumTimeByColumn(board, DateUtil.now());
+    }
+
+    // Total, média e máximo de horas por cartão em cada coluna, agregados no banco (GROUP BY)
+    @Transactional(readOnly = true)
+    public List<CardColumnTimeReport> timeByCardAndColumn(Long boardId) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new TaskboardException("Quadro não encontrado com o ID: " + boardId));
+
+        return cardMovementRepository.sumTimeByCardAndColumn(board, DateUtil.now());
     }
 
+    @Transactional(readOnly = true)
     public List<CardMovementDTO> listMovements(Long cardId) {
         Card card = cardRepository.findById(cardId)
                 .orElseThrow(() -> new TaskboardException("Cartão não encontrado com o ID: " + cardId));
@@ -66,4 +96,32 @@ public class CardMovementService {
             return dto;
         }).collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    // Histórico paginado por chave; after == null devolve a primeira página
+    @Transactional(readOnly = true)
+    public HistoryPage<CardMovementDTO> listMovements(Long cardId, HistoryCursor after, int size) {
+        checkPageSize(size);
+        Card card = cardRepository.findById(cardId)
+                .orElseThrow(() -> new TaskboardException("Cartão não encontrado com o ID: " + cardId));
+
+        List<CardMovement> movements = after == null
+                ? cardMovementRepository.findPageByCard(card, Limit.of(size + 1))
+                : cardMovementRepository.findPageByCardAfter(card, after.date(), after.id(), Limit.of(size + 1));
+        List<CardMovementDTO> dtos = movements.stream().map(movement -> {
+            CardMovementDTO dto = new CardMovementDTO();
+            dto.setId(movement.getId());
+            dto.setCardId(movement.getCard().getId());
+            dto.setTaskStatusId(movement.getTaskStatus().getId());
+            dto.setEntryDate(movement.getEntryDate());
+            dto.setExitDate(movement.getExitDate());
+            return dto;
+        }).collect(Collectors.toList());
+        return HistoryPage.of(dtos, size, dto -> new HistoryCursor(dto.getEntryDate(), dto.getId()));
+    }
+
+    private static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new TaskboardException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE + ".");
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package br.com.board.taskboard.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.board.taskboard.dto.CardText;
+import br.com.board.taskboard.repository.CardRepository;
+import br.com.board.taskboard.util.ConsolePrinter;
+import br.com.board.taskboard.util.TextTokenizer;
+
+// Índice invertido em memória sobre título e descrição dos cartões, um por quadro. Cada termo guarda um long[]
+// ordenado com (id do cartão << 8 | peso), então a busca percorre o termo mais raro e confere os outros por
+// busca binária. Mantido pelo CardService após o commit e carregado do banco na subida da aplicação.
+@Component
+public class CardSearchIndex implements SmartInitializingSingleton {
+
+    static final int PAGE_SIZE = 10_000;
+    // Uma ocorrência no título vale o mesmo que três na descrição
+    static final int TITLE_WEIGHT = 3;
+    private static final int WEIGHT_BITS = 8;
+    private static final int MAX_WEIGHT = (1 << WEIGHT_BITS) - 1;
+
+    private final CardRepository cardRepository;
+    private final Object loadLock = new Object();
+    private volatile Map<Long, BoardIndex> boards = new ConcurrentHashMap<>();
+    // Atualizações confirmadas durante uma recarga, reaplicadas no índice novo antes da troca; null fora da recarga
+    private List<Consumer<Map<Long, BoardIndex>>> updatesDuringLoad;
+
+    @Autowired
+    public CardSearchIndex(CardRepository cardRepository) {
+        this.cardRepository = cardRepository;
+    }
+
+    // Carga antes de o servidor HTTP, o daemon ou o console começarem a aceitar escritas
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        int cards = rebuild();
+        if (cards > 0) {
+            ConsolePrinter.printInfo(String.format("Índice de busca: %d cartões em %d ms", cards,
+                    (System.nanoTime() - start) / 1_000_000));
+        }
+    }
+
+    // Recria o índice a partir do banco sem perder as escritas confirmadas durante a leitura
+    public int rebuild() {
+        return load(new CardPages());
+    }
+
+    // Troca o índice inteiro pelo das páginas (cartões em ordem crescente de id); devolve quantos foram indexados
+    // As atualizações passam a ser guardadas antes da primeira página; reaplicar uma que a leitura já viu não
+    // muda nada, porque incluir um cartão presente ou remover um ausente não altera o índice
+    int load(Iterator<List<CardText>> pages) {
+        synchronized (loadLock) {
+            synchronized (this) {
+                updatesDuringLoad = new ArrayList<>();
+            }
+            Map<Long, BoardIndex> rebuilt;
+            try {
+                rebuilt = build(pages);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    updatesDuringLoad = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                updatesDuringLoad.forEach(update -> update.accept(rebuilt));
+                updatesDuringLoad = null;
+                boards = new ConcurrentHashMap<>(rebuilt);
+            }
+            return rebuilt.values().stream().mapToInt(board -> board.documentCount).sum();
+        }
+    }
+
+    // Páginas lidas em sequência e quebradas em termos em paralelo; os termos entram na ordem das páginas,
+    // então cada cartão é acrescentado no fim das listas, que seguem ordenadas por id sem reordenar
+    private Map<Long, BoardIndex> build(Iterator<List<CardText>> pages) {
+        Map<Long, BoardIndex> result = new HashMap<>();
+        ArrayDeque<ForkJoinTask<List<Map<String, Integer>>>> pending = new ArrayDeque<>();
+        ArrayDeque<List<CardText>> pendingPages = new ArrayDeque<>();
+        while (pages.hasNext()) {
+            List<CardText> page = pages.next();
+            pendingPages.add(page);
+            pending.add(ForkJoinPool.commonPool()
+                    .submit(() -> page.stream().map(CardSearchIndex::termWeights).toList()));
+            while (!pending.isEmpty() && pending.peek().isDone()) {
+                absorb(result, pendingPages.poll(), pending.poll().join());
+            }
+        }
+        while (!pending.isEmpty()) {
+            absorb(result, pendingPages.poll(), pending.poll().join());
+        }
+        return result;
+    }
+
+    public void add(List<CardText> cards) {
+        afterCommit(() -> apply(target -> cards.forEach(card ->
+                target.computeIfAbsent(card.boardId(), id -> new BoardIndex()).write(index -> index.add(card)))));
+    }
+
+    public void remove(List<CardText> cards) {
+        afterCommit(() -> apply(target -> cards.forEach(card -> {
+            BoardIndex index = target.get(card.boardId());
+            if (index != null) {
+                index.write(board -> board.remove(card));
+            }
+        })));
+    }
+
+    // Todos os termos da consulta precisam aparecer; a relevância soma peso × idf de cada termo
+    public List<SearchHit> search(Long boardId, String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>();
+        TextTokenizer.forEachToken(query, terms::add);
+        BoardIndex index = boards.get(boardId);
+        if (terms.isEmpty() || index == null || limit < 1) {
+            return List.of();
+        }
+        index.lock.readLock().lock();
+        try {
+            return index.search(terms, limit);
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    // Aplica no índice publicado e, durante uma recarga, guarda para o índice que vai substituí-lo
+    private synchronized void apply(Consumer<Map<Long, BoardIndex>> update) {
+        if (updatesDuringLoad != null) {
+            updatesDuringLoad.add(update);
+        }
+        update.accept(boards);
+    }
+
+    // Fora de transação (testes, carga) aplica na hora; dentro, só se o commit acontecer
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static void absorb(Map<Long, BoardIndex> result, List<CardText> page, List<Map<String, Integer>> weights) {
+        for (int i = 0; i < page.size(); i++) {
+            CardText card = page.get(i);
+            result.computeIfAbsent(card.boardId(), id -> new BoardIndex()).add(card.id(), weights.get(i));
+        }
+    }
+
+    // Peso de cada termo no cartão: ocorrências no título × TITLE_WEIGHT + ocorrências na descrição
+    private static Map<String, Integer> termWeights(CardText card) {
+        Map<String, Integer> weights = new HashMap<>();
+        TextTokenizer.forEachToken(card.title(), term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        TextTokenizer.forEachToken(card.description(), term -> weights.merge(term, 1, Integer::sum));
+        return weights;
+    }
+
+    public record SearchHit(Long cardId, double score) {
+    }
+
+    static final class BoardIndex {
+
+        private final Map<String, Postings> terms = new HashMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private int documentCount;
+
+        void write(Consumer<BoardIndex> action) {
+            lock.writeLock().lock();
+            try {
+                action.accept(this);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void add(CardText card) {
+            add(card.id(), termWeights(card));
+        }
+
+        void add(long cardId, Map<String, Integer> weights) {
+            boolean added = false;
+            for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+                added |= terms.computeIfAbsent(weight.getKey(), t -> new Postings()).add(cardId, weight.getValue());
+            }
+            if (added) {
+                documentCount++;
+            }
+        }
+
+        void remove(CardText card) {
+            boolean removed = false;
+            for (String term : termWeights(card).keySet()) {
+                Postings postings = terms.get(term);
+                if (postings != null && postings.remove(card.id())) {
+                    removed = true;
+                    if (postings.size == 0) {
+                        terms.remove(term);
+                    }
+                }
+            }
+            if (removed) {
+                documentCount--;
+            }
+        }
+
+        List<SearchHit> search(Set<String> queryTerms, int limit) {
+            List<Postings> postingsByTerm = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                Postings postings = terms.get(term);
+                if (postings == null) {
+                    return List.of();
+                }
+                postingsByTerm.add(postings);
+            }
+            postingsByTerm.sort(Comparator.comparingInt(postings -> postings.size));
+            double[] idf = new double[postingsByTerm.size()];
+            for (int i = 0; i < idf.length; i++) {
+                idf[i] = Math.log(1 + (double) documentCount / postingsByTerm.get(i).size);
+            }
+
+            // Os limit melhores ficam num heap de mínimo; empate favorece o cartão mais antigo (menor id)
+            Comparator<SearchHit> ranking = Comparator.comparingDouble(SearchHit::score)
+                    .thenComparing(SearchHit::cardId, Comparator.reverseOrder());
+            PriorityQueue<SearchHit> best = new PriorityQueue<>(limit + 1, ranking);
+            Postings rarest = postingsByTerm.get(0);
+            candidates:
+            for (int i = 0; i < rarest.size; i++) {
+                long cardId = rarest.entries[i] >>> WEIGHT_BITS;
+                double score = idf[0] * (rarest.entries[i] & MAX_WEIGHT);
+                for (int t = 1; t < postingsByTerm.size(); t++) {
+                    int weight = postingsByTerm.get(t).weightOf(cardId);
+                    if (weight == 0) {
+                        continue candidates;
+                    }
+                    score += idf[t] * weight;
+                }
+                best.add(new SearchHit(cardId, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            List<SearchHit> hits = new ArrayList<>(best);
+            hits.sort(ranking.reversed());
+            return hits;
+        }
+    }
+
+    // Lista de um termo: long[] ordenado de (id << WEIGHT_BITS | peso)
+    static final class Postings {
+
+        private long[] entries = new long[4];
+        private int size;
+
+        // false quando o cartão já está na lista
+        boolean add(long cardId, int weight) {
+            long entry = cardId << WEIGHT_BITS | Math.min(weight, MAX_WEIGHT);
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            // Ids novos costumam ser os maiores: o caso comum é acrescentar no fim
+            int position = size == 0 || entries[size - 1] < entry ? size : -find(cardId) - 1;
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(entries, position, entries, position + 1, size - position);
+            entries[position] = entry;
+            size++;
+            return true;
+        }
+
+        boolean remove(long cardId) {
+            int position = find(cardId);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(entries, position + 1, entries, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        int weightOf(long cardId) {
+            int position = find(cardId);
+            return position < 0 ? 0 : (int) (entries[position] & MAX_WEIGHT);
+        }
+
+        // Posição do cartão ou -(ponto de inserção) - 1, como Arrays.binarySearch
+        private int find(long cardId) {
+            int position = Arrays.binarySearch(entries, 0, size, cardId << WEIGHT_BITS);
+            int insertion = -position - 1;
+            if (insertion < size && entries[insertion] >>> WEIGHT_BITS == cardId) {
+                return insertion;
+            }
+            return -insertion - 1;
+        }
+    }
+
+    // Páginas por chave (id) da tabela de cartões
+    private final class CardPages implements Iterator<List<CardText>> {
+
+        // Lida só no primeiro hasNext/next, já dentro da recarga
+        private List<CardText> next;
+
+        @Override
+        public boolean hasNext() {
+            return !peek().isEmpty();
+        }
+
+        @Override
+        public List<CardText> next() {
+            List<CardText> page = peek();
+            if (page.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            next = page.size() < PAGE_SIZE ? List.of()
+                    : cardRepository.findTextPageAfter(page.get(page.size() - 1).id(), Limit.of(PAGE_SIZE));
+            return page;
+        }
+
+        private List<CardText> peek() {
+            if (next == null) {
+                next = cardRepository.findTextPageAfter(0L, Limit.of(PAGE_SIZE));
+            }
+            return next;
+        }
+    }
+}
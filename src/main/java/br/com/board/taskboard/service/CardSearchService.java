@@ -0,0 +1,65 @@
+package br.com.board.taskboard.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.board.taskboard.dto.CardSearchResult;
+import br.com.board.taskboard.exception.TaskboardException;
+import br.com.board.taskboard.model.Card;
+import br.com.board.taskboard.repository.BoardRepository;
+import br.com.board.taskboard.repository.CardRepository;
+import br.com.board.taskboard.service.CardSearchIndex.SearchHit;
+
+// Busca textual nos cartões de um quadro: o índice em memória ranqueia, o banco só completa os dados exibidos
+@Service
+public class CardSearchService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final CardSearchIndex cardSearchIndex;
+    private final CardRepository cardRepository;
+    private final BoardRepository boardRepository;
+
+    @Autowired
+    public CardSearchService(CardSearchIndex cardSearchIndex, CardRepository cardRepository,
+                             BoardRepository boardRepository) {
+        this.cardSearchIndex = cardSearchIndex;
+        this.cardRepository = cardRepository;
+        this.boardRepository = boardRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CardSearchResult> search(Long boardId, String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new TaskboardException("O texto da busca não pode ser vazio.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new TaskboardException("O limite da busca deve estar entre 1 e " + MAX_LIMIT + ".");
+        }
+        if (!boardRepository.existsById(boardId)) {
+            throw new TaskboardException("Quadro não encontrado com o ID: " + boardId);
+        }
+
+        List<SearchHit> hits = cardSearchIndex.search(boardId, query, limit);
+        Map<Long, Card> cardsById = cardRepository.findAllById(hits.stream().map(SearchHit::cardId).toList())
+                .stream()
+                .collect(Collectors.toMap(Card::getId, Function.identity()));
+        List<CardSearchResult> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            // Cartão apagado por uma transação ainda não refletida no índice
+            Card card = cardsById.get(hit.cardId());
+            if (card != null) {
+                results.add(new CardSearchResult(card.getId(), card.getTitle(), card.getTaskStatus().getId(),
+                        hit.score()));
+            }
+        }
+        return results;
+    }
+}
@@ -1,10 +1,17 @@
 package br.com.board.taskboard.service;
 
+import br.com.board.taskboard.config.RetryOnConflict;
 import br.com.board.taskboard.dto.BlockHistoryDTO;
+import br.com.board.taskboard.dto.BoardLayout;
+import br.com.board.taskboard.dto.BulkOperationResultDTO;
 import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.CardFilter;
+import br.com.board.taskboard.dto.CardPage;
+import br.com.board.taskboard.dto.CardText;
+import br.com.board.taskboard.dto.ColumnLayout;
+import br.com.board.taskboard.dto.NewCardDTO;
 import br.com.board.taskboard.exception.TaskboardException;
 import br.com.board.taskboard.model.BlockHistory;
-import br.com.board.taskboard.model.Board;
 import br.com.board.taskboard.model.Card;
 import br.com.board.taskboard.model.CardMovement;
 import br.com.board.taskboard.model.Status;
@@ -13,25 +20,51 @@ import br.com.board.taskboard.repository.BlockHistoryRepository;
 import br.com.board.taskboard.repository.BoardRepository;
 import br.com.board.taskboard.repository.CardMovementRepository;
 import br.com.board.taskboard.repository.CardRepository;
+import br.com.board.taskboard.repository.CardSpecifications;
+import br.com.board.taskboard.repository.ColumnCounterRepository;
 import br.com.board.taskboard.repository.TaskStatusRepository;
 import br.com.board.taskboard.util.DateUtil;
+import br.com.board.taskboard.util.DurationHistogram;
 
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 
 
 
 @Service
 public class CardService {
-  
+
+  private static final int MAX_PAGE_SIZE = 100;
+  // Campos aceitos na ordenação da listagem filtrada
+  private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "title", "createdAt");
 
   private final CardRepository cardRepository;
   private final TaskStatusRepository taskStatusRepository;
   private final CardMovementRepository cardMovementRepository;
   private final BlockHistoryRepository blockHistoryRepository;
   private final BoardRepository boardRepository;
+  private final BoardLayoutCache boardLayoutCache;
+  private final ColumnCounterRepository columnCounterRepository;
+  private final CycleTimeService cycleTimeService;
+  private final CardSearchIndex cardSearchIndex;
 
   
 
@@ -41,17 +74,25 @@ public class CardService {
     TaskStatusRepository taskStatusRepository,
     CardMovementRepository cardMovementRepository,
     BlockHistoryRepository blockHistoryRepository,
-    BoardRepository boardRepository
+    BoardRepository boardRepository,
+    BoardLayoutCache boardLayoutCache,
+    ColumnCounterRepository columnCounterRepository,
+    CycleTimeService cycleTimeService,
+    CardSearchIndex cardSearchIndex
   ) {
     this.cardRepository = cardRepository;
     this.taskStatusRepository = taskStatusRepository;
     this.cardMovementRepository = cardMovementRepository;
     this.blockHistoryRepository = blockHistoryRepository;
     this.boardRepository = boardRepository;
+    this.boardLayoutCache = boardLayoutCache;
+    this.columnCounterRepository = columnCounterRepository;
+    this.cycleTimeService = cycleTimeService;
+    this.cardSearchIndex = cardSearchIndex;
   }
 
   
-  @Transactional
+  @Transactional(readOnly = true)
     public CardDTO findById(Long cardId) {
         Card card = cardRepository
                 .findById(cardId)
@@ -72,6 +113,50 @@ public class CardService {
         return cardDTO;
     }
 
+  // Listagem filtrada: os critérios viram um único SELECT (mais o COUNT da paginação), sem carregar o quadro todo
+  @Transactional(readOnly = true)
+  public CardPage findCards(CardFilter filter, Pageable pageable) {
+    if (filter == null || (filter.boardId() == null && filter.taskStatusId() == null)) {
+      throw new TaskboardException("Informe o quadro ou a coluna para filtrar os cartões.");
+    }
+    if (filter.createdFrom() != null && filter.createdBefore() != null
+        && !filter.createdFrom().isBefore(filter.createdBefore())) {
+      throw new TaskboardException("A data inicial de criação deve ser anterior à data final.");
+    }
+    if (pageable.getPageSize() > MAX_PAGE_SIZE) {
+      throw new TaskboardException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE + ".");
+    }
+    for (Sort.Order order : pageable.getSort()) {
+      if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+        throw new TaskboardException("Ordenação não suportada: " + order.getProperty()
+            + ". Use id, title ou createdAt.");
+      }
+    }
+
+    // O id desempata a ordenação, para a mesma linha não aparecer em duas páginas
+    Sort sort = pageable.getSort().getOrderFor("id") == null
+        ? pageable.getSort().and(Sort.by("id"))
+        : pageable.getSort();
+    Page<Card> page = cardRepository.findAll(CardSpecifications.matching(filter),
+        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort));
+
+    List<CardDTO> items = page.getContent().stream()
+      .map(card -> {
+        CardDTO cardDTO = new CardDTO();
+        cardDTO.setId(card.getId());
+        cardDTO.setTitle(card.getTitle());
+        cardDTO.setDescription(card.getDescription());
+        cardDTO.setCreatedAt(card.getCreatedAt());
+        cardDTO.setBlocked(card.isBlocked());
+        cardDTO.setBlockedReason(card.getBlockedReason());
+        cardDTO.setUnblockedReason(card.getUnblockedReason());
+        cardDTO.setTaskStatusId(card.getTaskStatus().getId());
+        return cardDTO;
+      })
+      .toList();
+    return new CardPage(items, page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+  }
+
 
   @Transactional
   public CardDTO createCard(Long boardId, String title, String description) {
@@ -79,18 +164,8 @@ public class CardService {
       throw new TaskboardException("Título do cartão não pode ser vazio.");
     }
 
-    Board board = boardRepository
-      .findById(boardId)
-      .orElseThrow(() ->
-        new TaskboardException("Quadro não encontrado com o ID: " + boardId)
-      );
-    TaskStatus initialStatus = taskStatusRepository
-      .findByBoardAndStatus(board, Status.INICIAL)
-      .orElseThrow(() ->
-        new TaskboardException(
-          "Coluna Inicial não encontrada para o quadro com ID: " + boardId
-        )
-      );
+    ColumnLayout initialColumn = initialColumn(boardId);
+    TaskStatus initialStatus = taskStatusRepository.getReferenceById(initialColumn.id());
 
     
     Card card = new Card();
@@ -106,7 +181,10 @@ public class CardService {
     movement.setCard(card);
     movement.setTaskStatus(initialStatus);
     movement.setEntryDate(DateUtil.now());
-    cardMovementRepository.save(movement);
+    movement = cardMovementRepository.save(movement);
+    card.setCurrentMovement(movement); // cartão gerenciado: atualizado no flush
+    addCards(initialColumn, 1);
+    cardSearchIndex.add(List.of(searchText(card, boardId)));
 
     
     CardDTO cardDTO = new CardDTO();
@@ -123,6 +201,70 @@ public class CardService {
   }
 
 
+  @Transactional
+  public List<CardDTO> createCards(Long boardId, List<NewCardDTO> newCards) {
+    if (newCards == null || newCards.isEmpty()) {
+      throw new TaskboardException("A lista de cartões não pode ser vazia.");
+    }
+    for (int i = 0; i < newCards.size(); i++) {
+      String title = newCards.get(i).getTitle();
+      if (title == null || title.isEmpty()) {
+        throw new TaskboardException(
+          "Título do cartão não pode ser vazio. Posição na lista: " + i
+        );
+      }
+    }
+
+    // Quadro e coluna inicial são resolvidos uma única vez para todo o lote
+    ColumnLayout initialColumn = initialColumn(boardId);
+    TaskStatus initialStatus = taskStatusRepository.getReferenceById(initialColumn.id());
+
+    LocalDateTime now = DateUtil.now();
+    List<Card> cards = new ArrayList<>(newCards.size());
+    List<CardMovement> movements = new ArrayList<>(newCards.size());
+    for (NewCardDTO newCard : newCards) {
+      Card card = new Card();
+      card.setTitle(newCard.getTitle());
+      card.setDescription(newCard.getDescription());
+      card.setCreatedAt(now);
+      card.setBlocked(false);
+      card.setTaskStatus(initialStatus);
+      cards.add(card);
+
+      CardMovement movement = new CardMovement();
+      movement.setCard(card);
+      movement.setTaskStatus(initialStatus);
+      movement.setEntryDate(now);
+      movements.add(movement);
+    }
+
+    // Os IDs vêm do gerador pooled, então os inserts saem em lotes JDBC no flush
+    cards = cardRepository.saveAll(cards);
+    movements = cardMovementRepository.saveAll(movements);
+    for (int i = 0; i < cards.size(); i++) {
+      cards.get(i).setCurrentMovement(movements.get(i));
+    }
+    addCards(initialColumn, cards.size());
+    cardSearchIndex.add(cards.stream().map(card -> searchText(card, boardId)).toList());
+
+    return cards.stream()
+      .map(card -> {
+        CardDTO cardDTO = new CardDTO();
+        cardDTO.setId(card.getId());
+        cardDTO.setTitle(card.getTitle());
+        cardDTO.setDescription(card.getDescription());
+        cardDTO.setCreatedAt(card.getCreatedAt());
+        cardDTO.setBlocked(card.isBlocked());
+        cardDTO.setBlockedReason(card.getBlockedReason());
+        cardDTO.setUnblockedReason(card.getUnblockedReason());
+        cardDTO.setTaskStatusId(card.getTaskStatus().getId());
+        return cardDTO;
+      })
+      .collect(Collectors.toList());
+  }
+
+
+  @RetryOnConflict
   @Transactional
   public CardDTO moveCard(Long cardId, Long targetStatusId) {
     Card card = cardRepository
@@ -139,16 +281,10 @@ public class CardService {
     }
 
     TaskStatus currentStatus = card.getTaskStatus();
-    TaskStatus targetStatus = taskStatusRepository
-      .findById(targetStatusId)
-      .orElseThrow(() ->
-        new TaskboardException(
-          "Coluna de destino não encontrada com ID: " + targetStatusId
-        )
-      );
+    ColumnLayout targetColumn = targetColumn(targetStatusId);
 
     
-    if (!currentStatus.getBoard().getId().equals(targetStatus.getBoard().getId())) {
+    if (!currentStatus.getBoard().getId().equals(targetColumn.boardId())) {
             throw new TaskboardException(
                     "A coluna de destino não pertence ao mesmo quadro do cartão."
             );
@@ -156,36 +292,58 @@ public class CardService {
 
 
     if (
-      targetStatus.getStatus() != Status.CANCELADA &&
-      targetStatus.getPriority() != currentStatus.getPriority() + 1
+      targetColumn.status() != Status.CANCELADA &&
+      targetColumn.priority() != currentStatus.getPriority() + 1
     ) { // + 1 para mover para a próxima coluna
       throw new TaskboardException(
         "Só é possível mover para a próxima coluna ou para coluna de tasks CANCELADAS."
       );
     }
 
-    CardMovement currentMovement = cardMovementRepository
-      .findByCardAndExitDateIsNull(card)
+    TaskStatus targetStatus = taskStatusRepository.getReferenceById(targetColumn.id());
+
+    // Busca pela chave primária via ponteiro; a consulta por exit_date nulo fica para cartões sem ponteiro
+    // ou com ponteiro desatualizado (movimentação já fechada, cuja data de saída não pode ser sobrescrita)
+    Card movingCard = card;
+    CardMovement currentMovement = Optional
+      .ofNullable(card.getCurrentMovement())
+      .filter(movement -> movement.getExitDate() == null)
+      .or(() -> cardMovementRepository.findByCardAndExitDateIsNull(movingCard))
       .orElseThrow(() ->
         new TaskboardException(
           "Nenhuma movimentação ativa encontrada para o cartão com ID: " +
           cardId
         )
       );
-    currentMovement.setExitDate(DateUtil.now());
+    LocalDateTime now = DateUtil.now();
+    currentMovement.setExitDate(now);
     cardMovementRepository.save(currentMovement);
 
   
     CardMovement newMovement = new CardMovement();
     newMovement.setCard(card);
     newMovement.setTaskStatus(targetStatus);
-    newMovement.setEntryDate(DateUtil.now());
-    cardMovementRepository.save(newMovement);
+    newMovement.setEntryDate(now);
+    newMovement = cardMovementRepository.save(newMovement);
 
   
     card.setTaskStatus(targetStatus);
+    card.setCurrentMovement(newMovement);
     card = cardRepository.save(card);
 
+    TreeMap<Long, DurationHistogram> columnTimes = new TreeMap<>();
+    TreeMap<Long, DurationHistogram> cycleTimes = new TreeMap<>();
+    addDuration(columnTimes, currentStatus.getId(), currentMovement.getEntryDate(), now);
+    if (targetColumn.status() == Status.FINAL) {
+      addDuration(cycleTimes, targetColumn.boardId(), card.getCreatedAt(), now);
+    }
+    cycleTimeService.record(columnTimes, cycleTimes);
+
+    TreeMap<Long, Long> cardDeltas = new TreeMap<>();
+    cardDeltas.merge(currentStatus.getId(), -1L, Long::sum);
+    cardDeltas.merge(targetStatus.getId(), 1L, Long::sum);
+    adjustCardCounts(cardDeltas, targetColumn);
+
    
     CardDTO cardDTO = new CardDTO();
     cardDTO.setId(card.getId());
@@ -201,6 +359,167 @@ public class CardService {
   }
 
   
+  @RetryOnConflict
+  @Transactional
+  public BulkOperationResultDTO moveCards(List<Long> cardIds, Long targetStatusId) {
+    if (cardIds == null || cardIds.isEmpty()) {
+      throw new TaskboardException("A lista de cartões não pode ser vazia.");
+    }
+
+    ColumnLayout targetColumn = targetColumn(targetStatusId);
+
+    // Carrega e trava todos os cartões de uma vez e aplica as mesmas regras do moveCard
+    List<Long> requestedIds = new ArrayList<>(new LinkedHashSet<>(cardIds));
+    Map<Long, Card> cardsById = cardRepository.findAllForUpdateByIdIn(requestedIds).stream()
+      .collect(Collectors.toMap(Card::getId, Function.identity()));
+
+    BulkOperationResultDTO result = new BulkOperationResultDTO();
+    List<Card> cardsToMove = new ArrayList<>();
+    for (Long cardId : requestedIds) {
+      Card card = cardsById.get(cardId);
+      if (card == null) {
+        result.getRejected().put(cardId, "Cartão não encontrado com o ID: " + cardId);
+        continue;
+      }
+      if (card.isBlocked()) {
+        result.getRejected().put(cardId,
+          "O cartão está bloqueado e não pode ser movido. ID do cartão: " + cardId);
+        continue;
+      }
+      TaskStatus currentStatus = card.getTaskStatus();
+      if (!currentStatus.getBoard().getId().equals(targetColumn.boardId())) {
+        result.getRejected().put(cardId,
+          "A coluna de destino não pertence ao mesmo quadro do cartão.");
+        continue;
+      }
+      if (
+        targetColumn.status() != Status.CANCELADA &&
+        targetColumn.priority() != currentStatus.getPriority() + 1
+      ) {
+        result.getRejected().put(cardId,
+          "Só é possível mover para a próxima coluna ou para coluna de tasks CANCELADAS.");
+        continue;
+      }
+      cardsToMove.add(card);
+      result.getProcessedIds().add(cardId);
+    }
+
+    if (cardsToMove.isEmpty()) {
+      return result;
+    }
+
+    TaskStatus targetStatus = taskStatusRepository.getReferenceById(targetColumn.id());
+    LocalDateTime now = DateUtil.now();
+    TreeMap<Long, DurationHistogram> columnTimes = new TreeMap<>();
+    for (Object[] openEntry : cardMovementRepository.findOpenEntriesByCardIds(result.getProcessedIds())) {
+      addDuration(columnTimes, (Long) openEntry[0], (LocalDateTime) openEntry[1], now);
+    }
+    TreeMap<Long, DurationHistogram> cycleTimes = new TreeMap<>();
+    if (targetColumn.status() == Status.FINAL) {
+      for (Card card : cardsToMove) {
+        addDuration(cycleTimes, targetColumn.boardId(), card.getCreatedAt(), now);
+      }
+    }
+
+    // 1 UPDATE fecha as movimentações abertas, os inserts saem em lote e 1 UPDATE troca a coluna
+    cardMovementRepository.closeOpenMovements(result.getProcessedIds(), now);
+
+    List<CardMovement> newMovements = new ArrayList<>(cardsToMove.size());
+    for (Card card : cardsToMove) {
+      CardMovement newMovement = new CardMovement();
+      newMovement.setCard(card);
+      newMovement.setTaskStatus(targetStatus);
+      newMovement.setEntryDate(now);
+      newMovements.add(newMovement);
+    }
+    cardMovementRepository.saveAll(newMovements);
+
+    cardRepository.updateTaskStatusAndCurrentMovement(result.getProcessedIds(), targetStatus);
+    cycleTimeService.record(columnTimes, cycleTimes);
+
+    TreeMap<Long, Long> cardDeltas = new TreeMap<>();
+    for (Card card : cardsToMove) {
+      cardDeltas.merge(card.getTaskStatus().getId(), -1L, Long::sum);
+    }
+    cardDeltas.merge(targetStatus.getId(), (long) cardsToMove.size(), Long::sum);
+    adjustCardCounts(cardDeltas, targetColumn);
+
+    return result;
+  }
+
+  
+  // Coluna inicial vem do BoardLayoutCache; o quadro só é consultado quando não há layout para ele
+  private ColumnLayout initialColumn(Long boardId) {
+    BoardLayout layout = boardLayoutCache.layout(boardId);
+    if (layout.isEmpty() && !boardRepository.existsById(boardId)) {
+      throw new TaskboardException("Quadro não encontrado com o ID: " + boardId);
+    }
+    return layout
+      .initialColumn()
+      .orElseThrow(() ->
+        new TaskboardException(
+          "Coluna Inicial não encontrada para o quadro com ID: " + boardId
+        )
+      );
+  }
+
+  private ColumnLayout targetColumn(Long targetStatusId) {
+    return boardLayoutCache
+      .column(targetStatusId)
+      .orElseThrow(() ->
+        new TaskboardException(
+          "Coluna de destino não encontrada com ID: " + targetStatusId
+        )
+      );
+  }
+
+  // Amostra em minutos para os histogramas de duração (permanência na coluna ou tempo de ciclo)
+  private static void addDuration(TreeMap<Long, DurationHistogram> durations, Long key, LocalDateTime start,
+                                  LocalDateTime end) {
+    if (start != null) {
+      durations.computeIfAbsent(key, k -> new DurationHistogram())
+        .record(Duration.between(start, end).toMinutes());
+    }
+  }
+
+  // Os contadores são atualizados no fim da operação, para a linha ficar travada o mínimo possível,
+  // e em ordem crescente de coluna, para movimentações em sentidos opostos não entrarem em deadlock
+  private void adjustCardCounts(TreeMap<Long, Long> cardDeltas, ColumnLayout targetColumn) {
+    cardDeltas.forEach((taskStatusId, delta) -> {
+      if (delta > 0 && targetColumn != null && targetColumn.id().equals(taskStatusId)) {
+        addCards(targetColumn, delta);
+      } else if (delta != 0) {
+        adjustCounter(taskStatusId, delta, 0);
+      }
+    });
+  }
+
+  // Coluna sem linha em column_counter deixaria de ser contada sem aviso; a operação volta inteira
+  private void adjustCounter(Long taskStatusId, long cardDelta, long blockedDelta) {
+    if (columnCounterRepository.adjust(taskStatusId, cardDelta, blockedDelta) == 0) {
+      throw missingCounter(taskStatusId);
+    }
+  }
+
+  private TaskboardException missingCounter(Long taskStatusId) {
+    return new TaskboardException("Contador da coluna não encontrado. ID da coluna: " + taskStatusId);
+  }
+
+  // Entrada de cartões na coluna: com limite de WIP o contador só sobe se couber, senão a operação inteira volta
+  private void addCards(ColumnLayout column, long count) {
+    if (column.wipLimit() == null) {
+      adjustCounter(column.id(), count, 0);
+    } else if (columnCounterRepository.adjustWithinLimit(column.id(), count, column.wipLimit()) == 0) {
+      if (!columnCounterRepository.existsById(column.id())) {
+        throw missingCounter(column.id());
+      }
+      throw new TaskboardException(
+        "Limite de WIP da coluna atingido (" + column.wipLimit() + " cartões). ID da coluna: " + column.id()
+      );
+    }
+  }
+
+  @RetryOnConflict
   @Transactional
   public BlockHistoryDTO blockCard(Long cardId, String blockReason) {
     if (blockReason == null || blockReason.trim().isEmpty()) {
@@ -227,9 +546,12 @@ public class CardService {
     
     BlockHistory blockHistory = new BlockHistory();
     blockHistory.setCard(card);
+    blockHistory.setBoardId(card.getTaskStatus().getBoard().getId());
     blockHistory.setBlockedDate(DateUtil.now());
     blockHistory.setBlockedReason(blockReason);
     blockHistory = blockHistoryRepository.save(blockHistory);
+    card.setActiveBlock(blockHistory); // cartão gerenciado: atualizado no flush
+    adjustCounter(card.getTaskStatus().getId(), 0, 1);
 
     
     BlockHistoryDTO blockHistoryDTO = new BlockHistoryDTO();
@@ -244,6 +566,7 @@ public class CardService {
   }
 
 
+  @RetryOnConflict
   @Transactional
   public BlockHistoryDTO unblockCard(Long cardId, String unblockReason) {
     if (unblockReason == null || unblockReason.trim().isEmpty()) {
@@ -262,13 +585,18 @@ public class CardService {
       );
     }
 
+    BlockHistory activeBlock = card.getActiveBlock();
     card.setBlocked(false);
     card.setUnblockedReason(unblockReason);
+    card.setActiveBlock(null);
     card = cardRepository.save(card);
 
     
-    BlockHistory blockHistory = blockHistoryRepository
-      .findByCardAndUnblockedDateIsNull(card)
+    Card unblockedCard = card;
+    BlockHistory blockHistory = Optional
+      .ofNullable(activeBlock)
+      .filter(block -> block.getUnblockedDate() == null)
+      .or(() -> blockHistoryRepository.findByCardAndUnblockedDateIsNull(unblockedCard))
       .orElseThrow(() ->
         new TaskboardException(
           "Nenhum histórico de bloqueio ativo encontrado para o cartão com ID: " +
@@ -278,6 +606,7 @@ public class CardService {
     blockHistory.setUnblockedDate(DateUtil.now());
     blockHistory.setUnblockedReason(unblockReason);
     blockHistoryRepository.save(blockHistory);
+    adjustCounter(card.getTaskStatus().getId(), 0, -1);
 
     
     BlockHistoryDTO blockHistoryDTO = new BlockHistoryDTO();
@@ -301,22 +630,71 @@ public class CardService {
             throw new TaskboardException("O cartão está bloqueado e não pode ser deletado. ID: " + cardId);
         }
 
+        Long taskStatusId = card.getTaskStatus().getId();
+        CardText text = searchText(card, card.getTaskStatus().getBoard().getId());
         try {
-            
-            TaskStatus taskStatus = card.getTaskStatus();
-            taskStatus.getCards().removeIf(cardItem -> cardItem.getId().equals(cardId));
-            taskStatusRepository.saveAndFlush(taskStatus); // Forçar o commit da coleção
-         
-            cardMovementRepository.deleteByCardId(cardId);
-            cardMovementRepository.flush();
-            blockHistoryRepository.deleteByCardId(cardId);
-            blockHistoryRepository.flush();
-            
-            cardRepository.deleteById(cardId);
-            cardRepository.flush();
+            List<Long> cardIds = List.of(cardId);
+            cycleTimeService.forgetCards(cardIds);
+            cardMovementRepository.archiveMovementsOfCards(cardIds, DateUtil.now());
+            cardRepository.clearHistoryPointers(cardIds);
+            cardRepository.deleteAllByIdIn(cardIds);
         } catch (Exception e) {
             throw new TaskboardException("Erro ao deletar cartão: " + e.getMessage());
         }
+        adjustCounter(taskStatusId, -1, 0);
+        cardSearchIndex.remove(List.of(text));
     }
 
+  @Transactional
+    public BulkOperationResultDTO deleteCards(List<Long> cardIds) {
+        if (cardIds == null || cardIds.isEmpty()) {
+            throw new TaskboardException("A lista de cartões não pode ser vazia.");
+        }
+
+        List<Long> requestedIds = new ArrayList<>(new LinkedHashSet<>(cardIds));
+        Map<Long, Card> cardsById = cardRepository.findAllById(requestedIds).stream()
+                .collect(Collectors.toMap(Card::getId, Function.identity()));
+
+        BulkOperationResultDTO result = new BulkOperationResultDTO();
+        for (Long cardId : requestedIds) {
+            Card card = cardsById.get(cardId);
+            if (card == null) {
+                result.getRejected().put(cardId, "Cartão não encontrado com o ID: " + cardId);
+            } else if (card.isBlocked()) {
+                result.getRejected().put(cardId,
+                        "O cartão está bloqueado e não pode ser deletado. ID: " + cardId);
+            } else {
+                result.getProcessedIds().add(cardId);
+            }
+        }
+
+        if (result.getProcessedIds().isEmpty()) {
+            return result;
+        }
+
+        TreeMap<Long, Long> cardDeltas = new TreeMap<>();
+        for (Long cardId : result.getProcessedIds()) {
+            cardDeltas.merge(cardsById.get(cardId).getTaskStatus().getId(), -1L, Long::sum);
+        }
+        try {
+            cycleTimeService.forgetCards(result.getProcessedIds());
+            cardMovementRepository.archiveMovementsOfCards(result.getProcessedIds(), DateUtil.now());
+            cardRepository.clearHistoryPointers(result.getProcessedIds());
+            cardRepository.deleteAllByIdIn(result.getProcessedIds());
+        } catch (Exception e) {
+            throw new TaskboardException("Erro ao deletar cartões: " + e.getMessage());
+        }
+        adjustCardCounts(cardDeltas, null);
+        cardSearchIndex.remove(result.getProcessedIds().stream()
+                .map(cardsById::get)
+                .map(card -> searchText(card, card.getTaskStatus().getBoard().getId()))
+                .toList());
+        return result;
+    }
+
+  // Texto indexado pela busca; o índice só é alterado depois do commit
+  private CardText searchText(Card card, Long boardId) {
+    return new CardText(card.getId(), boardId, card.getTitle(), card.getDescription());
+  }
+
 }
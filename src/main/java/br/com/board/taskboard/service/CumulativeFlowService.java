@@ -0,0 +1,212 @@
+package br.com.board.taskboard.service;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.board.taskboard.dto.CumulativeFlowPoint;
+import br.com.board.taskboard.dto.CumulativeFlowRefresh;
+import br.com.board.taskboard.exception.TaskboardException;
+import br.com.board.taskboard.model.CfdSnapshot;
+import br.com.board.taskboard.model.CfdSnapshotId;
+import br.com.board.taskboard.model.CfdWatermark;
+import br.com.board.taskboard.repository.BoardRepository;
+import br.com.board.taskboard.repository.CfdSnapshotRepository;
+import br.com.board.taskboard.repository.CfdWatermarkRepository;
+import br.com.board.taskboard.util.ConsolePrinter;
+import br.com.board.taskboard.util.DateUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// Fluxo cumulativo (CFD) materializado em cfd_snapshot: o job refaz só os dias a partir da marca d'água
+// menos a janela de reprocessamento; a consulta de um intervalo lê as linhas prontas
+@Service
+public class CumulativeFlowService {
+
+    private static final int WATERMARK_ID = 1;
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    // Na reconstrução, a cada FLUSH_EVERY linhas o lote é enviado e o contexto de persistência limpo
+    static final int FLUSH_EVERY = 1_000;
+
+    private final CfdSnapshotRepository cfdSnapshotRepository;
+    private final CfdWatermarkRepository cfdWatermarkRepository;
+    private final BoardRepository boardRepository;
+    // As datas das movimentações são gravadas antes do commit: uma transação confirmada depois da marca d'água
+    // ainda entra no CFD se durar menos que a janela, porque os dias desde (marca d'água - janela) são refeitos
+    private final Duration rescanWindow;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public CumulativeFlowService(CfdSnapshotRepository cfdSnapshotRepository,
+                                 CfdWatermarkRepository cfdWatermarkRepository, BoardRepository boardRepository,
+                                 @Value("${taskboard.cfd.rescan-window:10m}") Duration rescanWindow) {
+        this.cfdSnapshotRepository = cfdSnapshotRepository;
+        this.cfdWatermarkRepository = cfdWatermarkRepository;
+        this.boardRepository = boardRepository;
+        this.rescanWindow = rescanWindow;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CumulativeFlowPoint> cumulativeFlow(Long boardId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new TaskboardException("Intervalo de datas inválido: " + from + " a " + to);
+        }
+        if (!boardRepository.existsById(boardId)) {
+            throw new TaskboardException("Quadro não encontrado com o ID: " + boardId);
+        }
+        // Sem marca d'água o snapshot nunca foi calculado: uma lista vazia pareceria um quadro sem fluxo
+        if (!cfdWatermarkRepository.existsById(WATERMARK_ID)) {
+            throw new TaskboardException("Fluxo cumulativo ainda não materializado.");
+        }
+        return cfdSnapshotRepository.findFlow(boardId, from, to);
+    }
+
+    // Job incremental (taskboard.cfd.refresh-cron); ligado por padrão só nos modos server e daemon
+    @Scheduled(cron = "${taskboard.cfd.refresh-cron:-}")
+    @Transactional
+    public void scheduledRefresh() {
+        CumulativeFlowRefresh refresh = refresh();
+        if (refresh.rebuilt()) {
+            ConsolePrinter.printInfo("Fluxo cumulativo reconstruído até " + refresh.to());
+        }
+    }
+
+    // Atualização sob demanda (menu e API) até o instante atual
+    @Transactional
+    public CumulativeFlowRefresh refresh() {
+        return refresh(DateUtil.now());
+    }
+
+    @Transactional
+    public CumulativeFlowRefresh rebuild() {
+        return rebuild(DateUtil.now());
+    }
+
+    // Refaz os dias desde (marca d'água - janela) com os eventos até upTo; sem marca d'água ainda, reconstrói do zero
+    @Transactional
+    public CumulativeFlowRefresh refresh(LocalDateTime upTo) {
+        CfdWatermark watermark = cfdWatermarkRepository.findForUpdate(WATERMARK_ID).orElse(null);
+        if (watermark == null) {
+            return rebuild(upTo);
+        }
+        LocalDateTime processedUntil = watermark.getProcessedUntil();
+        if (!upTo.isAfter(processedUntil)) {
+            return new CumulativeFlowRefresh(processedUntil, processedUntil, 0, false);
+        }
+
+        // Dias inteiros: as linhas apagadas voltam do dia anterior mais os eventos do dia, sem somar nada duas vezes
+        LocalDate firstDay = processedUntil.minus(rescanWindow).toLocalDate();
+        LocalDateTime from = firstDay.atStartOfDay();
+        // Eventos lidos antes de abrir os dias: toda coluna que aparece neles já existe para o carryForward
+        List<EventDelta> deltas = eventDeltas(cfdSnapshotRepository.findEventDeltas(from, upTo));
+        cfdSnapshotRepository.deleteFrom(firstDay);
+        for (LocalDate day = firstDay; !day.isAfter(upTo.toLocalDate()); day = day.plusDays(1)) {
+            cfdSnapshotRepository.carryForward(day, day.minusDays(1));
+        }
+        for (EventDelta delta : deltas) {
+            cfdSnapshotRepository.addFrom(delta.taskStatusId(), delta.day(), delta.delta());
+        }
+        watermark.setProcessedUntil(upTo);
+        return new CumulativeFlowRefresh(from, upTo, deltas.size(), false);
+    }
+
+    // Descarta o CFD materializado e o recalcula a partir de todo o histórico até upTo
+    @Transactional
+    public CumulativeFlowRefresh rebuild(LocalDateTime upTo) {
+        CfdWatermark watermark = cfdWatermarkRepository.findForUpdate(WATERMARK_ID)
+                .orElseGet(() -> cfdWatermarkRepository.save(new CfdWatermark(WATERMARK_ID, upTo)));
+        watermark.setProcessedUntil(upTo);
+        cfdSnapshotRepository.deleteAllSnapshots();
+
+        List<EventDelta> deltas = eventDeltas(cfdSnapshotRepository.findEventDeltas(BEGINNING, upTo));
+        int[] rows = {0};
+        forEachDailyCount(deltas, upTo.toLocalDate(), snapshot -> {
+            entityManager.persist(snapshot);
+            if (++rows[0] % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        });
+        entityManager.flush();
+        entityManager.clear();
+        return new CumulativeFlowRefresh(BEGINNING, upTo, deltas.size(), true);
+    }
+
+    // Compara o CFD materializado de um quadro com o recalculado do histórico; retorna quantos (coluna, dia) divergem
+    @Transactional(readOnly = true)
+    public int verify(Long boardId) {
+        CfdWatermark watermark = cfdWatermarkRepository.findById(WATERMARK_ID)
+                .orElseThrow(() -> new TaskboardException("Fluxo cumulativo ainda não materializado."));
+        LocalDateTime upTo = watermark.getProcessedUntil();
+
+        Map<CfdSnapshotId, Long> expected = new HashMap<>();
+        forEachDailyCount(eventDeltas(cfdSnapshotRepository.findEventDeltasByBoard(BEGINNING, upTo, boardId)),
+                upTo.toLocalDate(), snapshot -> expected.put(
+                        new CfdSnapshotId(snapshot.getTaskStatusId(), snapshot.getSnapshotDate()), snapshot.getCardCount()));
+        Map<CfdSnapshotId, Long> stored = new HashMap<>();
+        for (CfdSnapshot snapshot : cfdSnapshotRepository.findByBoardId(boardId)) {
+            stored.put(new CfdSnapshotId(snapshot.getTaskStatusId(), snapshot.getSnapshotDate()), snapshot.getCardCount());
+        }
+
+        // Dia sem linha equivale a coluna vazia
+        Set<CfdSnapshotId> keys = new HashSet<>(expected.keySet());
+        keys.addAll(stored.keySet());
+        int mismatches = 0;
+        for (CfdSnapshotId key : keys) {
+            if (expected.getOrDefault(key, 0L).longValue() != stored.getOrDefault(key, 0L).longValue()) {
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    // Soma acumulada por coluna: uma linha por dia, do primeiro evento da coluna até lastDay
+    private void forEachDailyCount(List<EventDelta> deltas, LocalDate lastDay,
+                                   Consumer<CfdSnapshot> consumer) {
+        int i = 0;
+        while (i < deltas.size()) {
+            EventDelta first = deltas.get(i);
+            long count = 0;
+            for (LocalDate day = first.day(); !day.isAfter(lastDay); day = day.plusDays(1)) {
+                while (i < deltas.size() && deltas.get(i).taskStatusId().equals(first.taskStatusId())
+                        && !deltas.get(i).day().isAfter(day)) {
+                    count += deltas.get(i).delta();
+                    i++;
+                }
+                consumer.accept(new CfdSnapshot(first.taskStatusId(), day, first.boardId(), count));
+            }
+            while (i < deltas.size() && deltas.get(i).taskStatusId().equals(first.taskStatusId())) {
+                i++;
+            }
+        }
+    }
+
+    private List<EventDelta> eventDeltas(List<Object[]> rows) {
+        List<EventDelta> deltas = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            LocalDate day = row[2] instanceof Date date ? date.toLocalDate() : (LocalDate) row[2];
+            deltas.add(new EventDelta(((Number) row[0]).longValue(), ((Number) row[1]).longValue(), day,
+                    ((Number) row[3]).longValue()));
+        }
+        return deltas;
+    }
+
+    private record EventDelta(Long taskStatusId, Long boardId, LocalDate day, long delta) {
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.board.taskboard.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.board.taskboard.dto.ColumnTimePercentiles;
+import br.com.board.taskboard.dto.TimePercentiles;
+import br.com.board.taskboard.exception.TaskboardException;
+import br.com.board.taskboard.model.Board;
+import br.com.board.taskboard.model.ColumnTimeBucket;
+import br.com.board.taskboard.model.CycleTimeBucket;
+import br.com.board.taskboard.model.TaskStatus;
+import br.com.board.taskboard.repository.BoardRepository;
+import br.com.board.taskboard.repository.CardMovementRepository;
+import br.com.board.taskboard.repository.ColumnTimeBucketRepository;
+import br.com.board.taskboard.repository.CycleTimeBucketRepository;
+import br.com.board.taskboard.repository.TaskStatusRepository;
+import br.com.board.taskboard.util.ConsolePrinter;
+import br.com.board.taskboard.util.DurationHistogram;
+
+// Percentis de tempo de ciclo (por quadro) e de permanência (por coluna) a partir de histogramas de duração
+// persistidos por faixa: o CardService registra as amostras a cada movimentação e a consulta só soma faixas
+@Service
+public class CycleTimeService {
+
+    private static final double MINUTES_PER_HOUR = 60.0;
+
+    private final CycleTimeBucketRepository cycleTimeBucketRepository;
+    private final ColumnTimeBucketRepository columnTimeBucketRepository;
+    private final CardMovementRepository cardMovementRepository;
+    private final BoardRepository boardRepository;
+    private final TaskStatusRepository taskStatusRepository;
+    private final boolean backfillOnStartup;
+
+    @Autowired
+    public CycleTimeService(CycleTimeBucketRepository cycleTimeBucketRepository,
+                            ColumnTimeBucketRepository columnTimeBucketRepository,
+                            CardMovementRepository cardMovementRepository, BoardRepository boardRepository,
+                            TaskStatusRepository taskStatusRepository,
+                            @Value("${taskboard.cycle-time.backfill-on-startup:false}") boolean backfillOnStartup) {
+        this.cycleTimeBucketRepository = cycleTimeBucketRepository;
+        this.columnTimeBucketRepository = columnTimeBucketRepository;
+        this.cardMovementRepository = cardMovementRepository;
+        this.boardRepository = boardRepository;
+        this.taskStatusRepository = taskStatusRepository;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @Transactional(readOnly = true)
+    public TimePercentiles cycleTime(Long boardId) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new TaskboardException("Quadro não encontrado com o ID: " + boardId);
+        }
+        return percentiles(cycleTimeHistogram(List.of(boardId)));
+    }
+
+    // Visão de portfólio: os histogramas dos quadros são somados faixa a faixa antes de calcular os percentis
+    @Transactional(readOnly = true)
+    public TimePercentiles portfolioCycleTime(List<Long> boardIds) {
+        if (boardIds == null || boardIds.isEmpty()) {
+            throw new TaskboardException("A lista de quadros não pode ser vazia.");
+        }
+        return percentiles(cycleTimeHistogram(boardIds));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ColumnTimePercentiles> columnTime(Long boardId) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new TaskboardException("Quadro não encontrado com o ID: " + boardId));
+
+        Map<Long, DurationHistogram> histograms = new HashMap<>();
+        for (ColumnTimeBucket bucket : columnTimeBucketRepository.findByBoardId(boardId)) {
+            histograms.computeIfAbsent(bucket.getTaskStatusId(), id -> new DurationHistogram())
+                    .add(bucket.getBucket(), bucket.getSampleCount());
+        }
+        List<ColumnTimePercentiles> columns = new ArrayList<>();
+        for (TaskStatus column : taskStatusRepository.findByBoardOrderByPriority(board)) {
+            columns.add(new ColumnTimePercentiles(column.getId(), column.getName(),
+                    percentiles(histograms.getOrDefault(column.getId(), new DurationHistogram()))));
+        }
+        return columns;
+    }
+
+    // Grava as amostras de uma operação (chave: coluna ou quadro), em ordem crescente como os contadores de coluna
+    @Transactional
+    public void record(TreeMap<Long, DurationHistogram> columnTimes, TreeMap<Long, DurationHistogram> cycleTimes) {
+        columnTimes.forEach((taskStatusId, histogram) -> histogram.forEachBucket(
+                (bucket, count) -> columnTimeBucketRepository.add(taskStatusId, bucket, count)));
+        cycleTimes.forEach((boardId, histogram) -> histogram.forEachBucket(
+                (bucket, count) -> cycleTimeBucketRepository.add(boardId, bucket, count)));
+    }
+
+    // Antes de apagar cartões: retira as amostras deles, para os histogramas continuarem iguais a uma reconstrução
+    @Transactional
+    public void forgetCards(List<Long> cardIds) {
+        TreeMap<Long, DurationHistogram> columnTimes =
+                histograms(cardMovementRepository.findColumnDurationsByCardIds(cardIds).stream(), -1);
+        TreeMap<Long, DurationHistogram> cycleTimes =
+                histograms(cardMovementRepository.findCycleDurationsByCardIds(cardIds).stream(), -1);
+        record(columnTimes, cycleTimes);
+    }
+
+    // Recalcula todas as faixas a partir do histórico, lido em streaming; também cumpre a reconstrução pendente
+    @Transactional
+    public void rebuild() {
+        cycleTimeBucketRepository.clearPendingBackfill();
+        cycleTimeBucketRepository.deleteAllBuckets();
+        columnTimeBucketRepository.deleteAllBuckets();
+
+        TreeMap<Long, DurationHistogram> columnTimes;
+        try (Stream<Object[]> rows = cardMovementRepository.streamColumnDurations()) {
+            columnTimes = histograms(rows, 1);
+        }
+        TreeMap<Long, DurationHistogram> cycleTimes;
+        try (Stream<Object[]> rows = cardMovementRepository.streamCycleDurations()) {
+            cycleTimes = histograms(rows, 1);
+        }
+        record(columnTimes, cycleTimes);
+    }
+
+    // Bancos que já tinham histórico antes dos histogramas: a V13 deixa a reconstrução pendente e ela roda uma
+    // única vez na subida (taskboard.cycle-time.backfill-on-startup, ligado só nos modos server e daemon)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfPending() {
+        if (backfillOnStartup && cycleTimeBucketRepository.countPendingBackfill() > 0) {
+            ConsolePrinter.printInfo("Reconstruindo os histogramas de tempo de ciclo a partir do histórico...");
+            rebuild();
+        }
+    }
+
+    private DurationHistogram cycleTimeHistogram(List<Long> boardIds) {
+        DurationHistogram histogram = new DurationHistogram();
+        for (CycleTimeBucket bucket : cycleTimeBucketRepository.findByBoardIdIn(boardIds)) {
+            histogram.add(bucket.getBucket(), bucket.getSampleCount());
+        }
+        return histogram;
+    }
+
+    // Linhas {chave, início, fim} agrupadas em um histograma de minutos por chave; sign -1 gera amostras a retirar
+    private TreeMap<Long, DurationHistogram> histograms(Stream<Object[]> rows, int sign) {
+        TreeMap<Long, DurationHistogram> histograms = new TreeMap<>();
+        rows.forEach(row -> {
+            if (row[1] != null) {
+                long minutes = Duration.between((LocalDateTime) row[1], (LocalDateTime) row[2]).toMinutes();
+                histograms.computeIfAbsent((Long) row[0], key -> new DurationHistogram())
+                        .add(DurationHistogram.bucketOf(minutes), sign);
+            }
+        });
+        return histograms;
+    }
+
+    private TimePercentiles percentiles(DurationHistogram histogram) {
+        return new TimePercentiles(histogram.totalCount(),
+                histogram.percentile(50) / MINUTES_PER_HOUR,
+                histogram.percentile(85) / MINUTES_PER_HOUR,
+                histogram.percentile(95) / MINUTES_PER_HOUR);
+    }
+}
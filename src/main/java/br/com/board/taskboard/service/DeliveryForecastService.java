@@ -0,0 +1,73 @@
+package br.com.board.taskboard.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.com.board.taskboard.dto.DeliveryForecast;
+import br.com.board.taskboard.exception.TaskboardException;
+import br.com.board.taskboard.util.DateUtil;
+import br.com.board.taskboard.util.ThroughputSimulation;
+
+// Previsão de entrega por Monte Carlo sobre a vazão diária (entradas na coluna FINAL) dos últimos dias.
+// A simulação roda em um ForkJoinPool próprio, fora das virtual threads que atendem as requisições,
+// e sem transação: o histórico é lido antes pelo DeliveryThroughputLoader.
+@Service
+public class DeliveryForecastService implements DisposableBean {
+
+    private final DeliveryThroughputLoader deliveryThroughputLoader;
+    private final int trials;
+    private final int historyDays;
+    private final ForkJoinPool pool;
+
+    @Autowired
+    public DeliveryForecastService(DeliveryThroughputLoader deliveryThroughputLoader,
+                                   @Value("${taskboard.forecast.trials:10000}") int trials,
+                                   @Value("${taskboard.forecast.history-days:90}") int historyDays,
+                                   @Value("${taskboard.forecast.parallelism:0}") int parallelism) {
+        if (trials < 1 || historyDays < 1) {
+            throw new IllegalArgumentException("taskboard.forecast.trials e history-days devem ser >= 1");
+        }
+        this.deliveryThroughputLoader = deliveryThroughputLoader;
+        this.trials = trials;
+        this.historyDays = historyDays;
+        // 0: um worker por processador
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    // Sem cardCount, prevê a entrega dos cartões ainda em aberto (fora das colunas FINAL e CANCELADA)
+    public DeliveryForecast forecast(Long boardId, Integer cardCount) {
+        LocalDate today = DateUtil.now().toLocalDate();
+        DeliveryThroughputLoader.Throughput throughput =
+                deliveryThroughputLoader.load(boardId, cardCount, today, historyDays);
+        int[] dailyThroughput = throughput.dailyThroughput();
+        if (Arrays.stream(dailyThroughput).allMatch(delivered -> delivered == 0)) {
+            throw new TaskboardException("Nenhum cartão entregue nos últimos " + historyDays
+                    + " dias; não há vazão para a previsão. ID do quadro: " + boardId);
+        }
+
+        int[] days = ThroughputSimulation.simulate(dailyThroughput, throughput.cardCount(), trials,
+                System.nanoTime(), pool);
+        Arrays.sort(days);
+        int unfinished = (int) Arrays.stream(days).filter(day -> day >= ThroughputSimulation.MAX_DAYS).count();
+        return new DeliveryForecast(throughput.cardCount(), trials, historyDays, unfinished,
+                date(today, days, 50), date(today, days, 85), date(today, days, 95));
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    // Percentil que cai numa tentativa interrompida em MAX_DAYS não é uma data de entrega: fica sem data
+    private LocalDate date(LocalDate today, int[] sortedDays, double percent) {
+        int rank = (int) Math.max(1, Math.ceil(percent / 100.0 * sortedDays.length));
+        int days = sortedDays[rank - 1];
+        return days >= ThroughputSimulation.MAX_DAYS ? null : today.plusDays(days);
+    }
+}
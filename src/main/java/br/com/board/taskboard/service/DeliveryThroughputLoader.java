@@ -0,0 +1,75 @@
+package br.com.board.taskboard.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.board.taskboard.dto.ColumnOccupancy;
+import br.com.board.taskboard.exception.TaskboardException;
+import br.com.board.taskboard.model.Status;
+import br.com.board.taskboard.repository.BoardRepository;
+import br.com.board.taskboard.repository.CardMovementRepository;
+import br.com.board.taskboard.repository.ColumnCounterRepository;
+
+// Leitura do histórico da previsão de entrega. Fica separada do DeliveryForecastService para a transação
+// (e a conexão JDBC) terminar antes da simulação, que só usa CPU.
+@Service
+public class DeliveryThroughputLoader {
+
+    private final CardMovementRepository cardMovementRepository;
+    private final ColumnCounterRepository columnCounterRepository;
+    private final BoardRepository boardRepository;
+
+    // Cartões a prever e vazão diária da janela, um valor por dia
+    public record Throughput(int cardCount, int[] dailyThroughput) {
+    }
+
+    @Autowired
+    public DeliveryThroughputLoader(CardMovementRepository cardMovementRepository,
+                                    ColumnCounterRepository columnCounterRepository, BoardRepository boardRepository) {
+        this.cardMovementRepository = cardMovementRepository;
+        this.columnCounterRepository = columnCounterRepository;
+        this.boardRepository = boardRepository;
+    }
+
+    // Sem cardCount, usa os cartões ainda em aberto (fora das colunas FINAL e CANCELADA)
+    @Transactional(readOnly = true)
+    public Throughput load(Long boardId, Integer cardCount, LocalDate today, int historyDays) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new TaskboardException("Quadro não encontrado com o ID: " + boardId);
+        }
+        int cards = cardCount != null ? cardCount : openCards(boardId);
+        if (cards < 1) {
+            throw new TaskboardException("A quantidade de cartões da previsão deve ser maior que zero.");
+        }
+        return new Throughput(cards, dailyThroughput(boardId, today, historyDays));
+    }
+
+    // Um valor por dia completo da janela (hoje fica de fora), com 0 nos dias sem entrega
+    private int[] dailyThroughput(Long boardId, LocalDate today, int historyDays) {
+        LocalDate firstDay = today.minusDays(historyDays);
+        int[] dailyThroughput = new int[historyDays];
+        List<Object[]> rows = cardMovementRepository.findDailyDeliveries(boardId, firstDay.atStartOfDay(),
+                today.atStartOfDay());
+        for (Object[] row : rows) {
+            LocalDate day = row[0] instanceof Date date ? date.toLocalDate() : (LocalDate) row[0];
+            dailyThroughput[(int) ChronoUnit.DAYS.between(firstDay, day)] = ((Number) row[1]).intValue();
+        }
+        return dailyThroughput;
+    }
+
+    private int openCards(Long boardId) {
+        int open = 0;
+        for (ColumnOccupancy column : columnCounterRepository.findOccupancyByBoardId(boardId)) {
+            if (column.status() != Status.FINAL && column.status() != Status.CANCELADA) {
+                open += (int) column.cardCount();
+            }
+        }
+        return open;
+    }
+}
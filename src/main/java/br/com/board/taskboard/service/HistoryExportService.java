@@ -0,0 +1,169 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.ExportFormat;
+import br.com.board.taskboard.dto.ExportResult;
+import br.com.board.taskboard.exception.TaskboardException;
+import br.com.board.taskboard.model.BlockHistory;
+import br.com.board.taskboard.model.Board;
+import br.com.board.taskboard.model.CardMovement;
+import br.com.board.taskboard.repository.BlockHistoryRepository;
+import br.com.board.taskboard.repository.BoardRepository;
+import br.com.board.taskboard.repository.CardMovementRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Exporta o histórico completo de um quadro em streaming: as linhas vão do cursor JDBC direto para o arquivo
+@Service
+public class HistoryExportService {
+
+    // A cada CLEAR_EVERY linhas o contexto de persistência é limpo, para o heap não crescer com o histórico
+    static final int CLEAR_EVERY = 1_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] MOVEMENT_COLUMNS = {"id", "cardId", "taskStatusId", "entryDate", "exitDate"};
+    private static final String[] BLOCK_COLUMNS =
+            {"id", "cardId", "blockedDate", "blockedReason", "unblockedDate", "unblockedReason"};
+
+    private final CardMovementRepository cardMovementRepository;
+    private final BlockHistoryRepository blockHistoryRepository;
+    private final BoardRepository boardRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public HistoryExportService(CardMovementRepository cardMovementRepository,
+                                BlockHistoryRepository blockHistoryRepository, BoardRepository boardRepository) {
+        this.cardMovementRepository = cardMovementRepository;
+        this.blockHistoryRepository = blockHistoryRepository;
+        this.boardRepository = boardRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public ExportResult exportBoardHistory(Long boardId, ExportFormat format, Path directory) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new TaskboardException("Quadro não encontrado com o ID: " + boardId));
+
+        Path movementsFile = directory.resolve("quadro-" + boardId + "-movimentacoes." + format.getExtension());
+        Path blocksFile = directory.resolve("quadro-" + boardId + "-bloqueios." + format.getExtension());
+        long movementCount;
+        long blockCount;
+        try (Stream<CardMovement> movements = cardMovementRepository.streamByBoard(board)) {
+            movementCount = write(movements, movementsFile, format, MOVEMENT_COLUMNS, movement -> new Object[] {
+                    movement.getId(), movement.getCard().getId(), movement.getTaskStatus().getId(),
+                    movement.getEntryDate(), movement.getExitDate()});
+        }
+        try (Stream<BlockHistory> blocks = blockHistoryRepository.streamByBoard(board)) {
+            blockCount = write(blocks, blocksFile, format, BLOCK_COLUMNS, block -> new Object[] {
+                    block.getId(), block.getCard().getId(), block.getBlockedDate(), block.getBlockedReason(),
+                    block.getUnblockedDate(), block.getUnblockedReason()});
+        }
+        return new ExportResult(movementsFile, movementCount, blocksFile, blockCount);
+    }
+
+    private <T> long write(Stream<T> rows, Path file, ExportFormat format, String[] columns,
+                           Function<T, Object[]> values) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8),
+                     BUFFER_SIZE)) {
+            if (format == ExportFormat.CSV) {
+                writer.write(String.join(",", columns));
+                writer.newLine();
+            }
+            long count = 0;
+            for (T row : (Iterable<T>) rows::iterator) {
+                Object[] rowValues = values.apply(row);
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, rowValues);
+                } else {
+                    writeJson(writer, columns, rowValues);
+                }
+                writer.newLine();
+                if (++count % CLEAR_EVERY == 0) {
+                    entityManager.clear();
+                }
+            }
+            return count;
+        } catch (IOException | UncheckedIOException e) {
+            throw new TaskboardException("Erro ao exportar histórico para " + file + ": " + e.getMessage());
+        }
+    }
+
+    private void writeCsv(BufferedWriter writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                String text = values[i].toString();
+                if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0
+                        || text.indexOf('\r') >= 0) {
+                    writer.write('"');
+                    writer.write(text.replace("\"", "\"\""));
+                    writer.write('"');
+                } else {
+                    writer.write(text);
+                }
+            }
+        }
+    }
+
+    private void writeJson(BufferedWriter writer, String[] columns, Object[] values) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write('"');
+            writer.write(columns[i]);
+            writer.write("\":");
+            Object value = values[i];
+            if (value == null) {
+                writer.write("null");
+            } else if (value instanceof Number) {
+                writer.write(value.toString());
+            } else {
+                writeJsonString(writer, value instanceof LocalDateTime ? value.toString() : (String) value);
+            }
+        }
+        writer.write('}');
+    }
+
+    private void writeJsonString(BufferedWriter writer, String text) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
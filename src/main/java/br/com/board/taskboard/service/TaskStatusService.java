@@ -1,32 +1,40 @@
 package br.com.board.taskboard.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import br.com.board.taskboard.dto.ColumnCardRow;
+import br.com.board.taskboard.dto.ColumnOccupancy;
 import br.com.board.taskboard.dto.TaskStatusDTO;
 import br.com.board.taskboard.exception.TaskboardException;
 import br.com.board.taskboard.model.Board;
 import br.com.board.taskboard.model.Status;
 import br.com.board.taskboard.model.TaskStatus;
 import br.com.board.taskboard.repository.BoardRepository;
+import br.com.board.taskboard.repository.ColumnCounterRepository;
 import br.com.board.taskboard.repository.TaskStatusRepository;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class TaskStatusService {
 
     private final TaskStatusRepository taskStatusRepository;
     private final BoardRepository boardRepository;
+    private final BoardLayoutCache boardLayoutCache;
+    private final ColumnCounterRepository columnCounterRepository;
 
     @Autowired
-    public TaskStatusService(TaskStatusRepository taskStatusRepository, BoardRepository boardRepository) {
+    public TaskStatusService(TaskStatusRepository taskStatusRepository, BoardRepository boardRepository,
+                             BoardLayoutCache boardLayoutCache, ColumnCounterRepository columnCounterRepository) {
         this.taskStatusRepository = taskStatusRepository;
         this.boardRepository = boardRepository;
+        this.boardLayoutCache = boardLayoutCache;
+        this.columnCounterRepository = columnCounterRepository;
     }
 
     
@@ -85,32 +93,62 @@ public class TaskStatusService {
 
         // Adiciona as colunas à lista taskStatuses do Board
         board.getTaskStatuses().addAll(taskStatuses);
+        columnCounterRepository.createForBoard(board.getId());
+        boardLayoutCache.invalidate(board.getId());
 
         return taskStatuses;
     }
 
 
+    @Transactional(readOnly = true)
     public List<TaskStatusDTO> listColumns(Long boardId) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new TaskboardException("Quadro não encontrado com o ID: " + boardId));
 
-        List<TaskStatus> taskStatuses = taskStatusRepository.findByBoardOrderByPriority(board);
-
-        return taskStatuses.stream()
-                .map(taskStatus -> {
-                    TaskStatusDTO taskDTO = new TaskStatusDTO();
-                    taskDTO.setId(taskStatus.getId());
-                    taskDTO.setName(taskStatus.getName());
-                    taskDTO.setPriority(taskStatus.getPriority());
-                    taskDTO.setStatus(taskStatus.getStatus());
-                    taskDTO.setBoardId(board.getId());
-                    taskDTO.setCardIds(taskStatus.getCards().stream()
-                            .map(card -> card.getId())
-                            .collect(Collectors.toList()));
-                    return taskDTO;
-                })
-                .collect(Collectors.toList());
-        
+        List<ColumnCardRow> rows = taskStatusRepository.findColumnCardRows(board);
+
+        // As linhas vêm ordenadas por prioridade, então o LinkedHashMap mantém a ordem das colunas
+        Map<Long, TaskStatusDTO> columns = new LinkedHashMap<>();
+        for (ColumnCardRow row : rows) {
+            TaskStatusDTO taskDTO = columns.computeIfAbsent(row.taskStatusId(), id -> {
+                TaskStatusDTO dto = new TaskStatusDTO();
+                dto.setId(id);
+                dto.setName(row.name());
+                dto.setPriority(row.priority());
+                dto.setStatus(row.status());
+                dto.setBoardId(board.getId());
+                dto.setCardIds(new ArrayList<>());
+                return dto;
+            });
+            if (row.cardId() != null) {
+                taskDTO.getCardIds().add(row.cardId());
+            }
+        }
+        return new ArrayList<>(columns.values());
+    }
+
+    // O limite vale para as próximas entradas na coluna; cartões que já estão nela não saem
+    @Transactional
+    public void setWipLimit(Long boardId, Long taskStatusId, Integer wipLimit) {
+        if (wipLimit != null && wipLimit < 1) {
+            throw new TaskboardException("O limite de WIP deve ser maior que zero.");
+        }
+        TaskStatus column = taskStatusRepository.findById(taskStatusId)
+                .filter(taskStatus -> taskStatus.getBoard().getId().equals(boardId))
+                .orElseThrow(() -> new TaskboardException(
+                        "Coluna não encontrada com o ID: " + taskStatusId + " no quadro " + boardId));
+        column.setWipLimit(wipLimit);
+        boardLayoutCache.invalidate(boardId);
+    }
+
+    // Ocupação lida dos contadores mantidos pelo CardService: custo proporcional ao número de colunas
+    @Transactional(readOnly = true)
+    public List<ColumnOccupancy> columnOccupancy(Long boardId) {
+        List<ColumnOccupancy> occupancy = columnCounterRepository.findOccupancyByBoardId(boardId);
+        if (occupancy.isEmpty() && !boardRepository.existsById(boardId)) {
+            throw new TaskboardException("Quadro não encontrado com o ID: " + boardId);
+        }
+        return occupancy;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package br.com.board.taskboard.util;
+
+import java.util.Arrays;
+
+// Histograma de durações em faixas logarítmicas (no estilo HDR): valores abaixo de 2^PRECISION_BITS ficam
+// exatos e os demais caem em faixas com largura de até 2^-PRECISION_BITS do valor, então um percentil
+// tem erro relativo de no máximo 2^-(PRECISION_BITS + 1). Dois histogramas se combinam somando as faixas.
+// Não é thread-safe.
+public final class DurationHistogram {
+
+    public static final int PRECISION_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << PRECISION_BITS;
+
+    private long[] counts = new long[2 * SUB_BUCKETS];
+    private long totalCount;
+
+    // Faixa de um valor; durações negativas (relógios desalinhados) contam como 0
+    public static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - PRECISION_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    public static long lowestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        return (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    }
+
+    // Valor devolvido para a faixa: o ponto médio, que limita o erro à metade da largura
+    public static long representativeValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        long width = 1L << (bucket / SUB_BUCKETS - 1);
+        return lowestValueOf(bucket) + (width - 1) / 2;
+    }
+
+    public void record(long value) {
+        add(bucketOf(value), 1);
+    }
+
+    // Soma (ou, com count negativo, retira) amostras de uma faixa
+    public void add(int bucket, long count) {
+        if (bucket >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(bucket + 1, counts.length * 2));
+        }
+        counts[bucket] += count;
+        totalCount += count;
+    }
+
+    public void merge(DurationHistogram other) {
+        other.forEachBucket(this::add);
+    }
+
+    public long totalCount() {
+        return totalCount;
+    }
+
+    public boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    // Percentil por posição (nearest-rank): o menor valor com pelo menos percent% das amostras até ele
+    public long percentile(double percent) {
+        if (totalCount <= 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percent / 100.0 * totalCount));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return representativeValueOf(bucket);
+            }
+        }
+        return representativeValueOf(counts.length - 1);
+    }
+
+    public void forEachBucket(BucketConsumer consumer) {
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] != 0) {
+                consumer.accept(bucket, counts[bucket]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface BucketConsumer {
+        void accept(int bucket, long count);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.board.taskboard.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+// Quebra texto em termos para a busca: minúsculas, sem acentos ("Revisão" e "revisao" viram o mesmo termo),
+// separando em tudo que não é letra ou dígito. Termos de uma letra e palavras muito comuns ficam de fora.
+public final class TextTokenizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "de", "da", "do", "das", "dos", "em", "no", "na", "nos", "nas", "um", "uma", "uns", "umas",
+            "para", "pra", "por", "com", "sem", "os", "as", "ao", "aos", "que", "se", "ou", "the", "of", "and");
+
+    private TextTokenizer() {
+    }
+
+    public static void forEachToken(String text, Consumer<String> consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start > 1) {
+                    String token = folded.substring(start, i);
+                    if (!STOP_WORDS.contains(token)) {
+                        consumer.accept(token);
+                    }
+                }
+                start = -1;
+            }
+        }
+    }
+
+    // Texto só com ASCII dispensa a normalização Unicode
+    static String fold(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            if (lower.charAt(i) > 0x7f) {
+                return COMBINING_MARKS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+            }
+        }
+        return lower;
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.board.taskboard.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Monte Carlo de entrega: cada tentativa sorteia dias da vazão histórica até somar os cartões pedidos.
+// As tentativas são divididas em um ForkJoinPool; cada ramo recebe um SplittableRandom derivado (split) do pai,
+// então o resultado depende só da semente, não do paralelismo. Sem alocação por tentativa: só o int[] final.
+public final class ThroughputSimulation {
+
+    // Tentativas que não terminam antes desse prazo (vazão quase sempre 0) ficam com MAX_DAYS: sem data real
+    public static final int MAX_DAYS = 3650;
+    static final int TRIALS_PER_TASK = 1_024;
+
+    private ThroughputSimulation() {
+    }
+
+    // Dias até entregar cardCount cartões, um valor por tentativa
+    public static int[] simulate(int[] dailyThroughput, int cardCount, int trials, long seed, ForkJoinPool pool) {
+        int[] days = new int[trials];
+        pool.invoke(new TrialRange(dailyThroughput, cardCount, days, 0, trials, new SplittableRandom(seed)));
+        return days;
+    }
+
+    private static final class TrialRange extends RecursiveAction {
+
+        private final int[] dailyThroughput;
+        private final int cardCount;
+        private final int[] days;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        TrialRange(int[] dailyThroughput, int cardCount, int[] days, int from, int to, SplittableRandom random) {
+            this.dailyThroughput = dailyThroughput;
+            this.cardCount = cardCount;
+            this.days = days;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TRIALS_PER_TASK) {
+                for (int trial = from; trial < to; trial++) {
+                    days[trial] = runTrial();
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TrialRange(dailyThroughput, cardCount, days, from, middle, random.split()),
+                    new TrialRange(dailyThroughput, cardCount, days, middle, to, random.split()));
+        }
+
+        private int runTrial() {
+            int remaining = cardCount;
+            int day = 0;
+            while (remaining > 0 && day < MAX_DAYS) {
+                remaining -= dailyThroughput[random.nextInt(dailyThroughput.length)];
+                day++;
+            }
+            return day;
+        }
+    }
+}
@@ -3,21 +3,25 @@ package br.com.board.taskboard.view;
 import br.com.board.taskboard.dto.BoardDTO;
 import br.com.board.taskboard.exception.TaskboardException;
 import br.com.board.taskboard.service.BoardService;
+import br.com.board.taskboard.service.TaskStatusService;
 import br.com.board.taskboard.util.ConsolePrinter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.InputMismatchException;
 import java.util.Scanner;
 
 @Component
 public class BoardMenu {
 
     private final BoardService boardService;
+    private final TaskStatusService taskStatusService;
     private final Scanner scanner;
 
     @Autowired
-    public BoardMenu(BoardService boardService, Scanner scanner) {
+    public BoardMenu(BoardService boardService, TaskStatusService taskStatusService, Scanner scanner) {
         this.boardService = boardService;
+        this.taskStatusService = taskStatusService;
         this.scanner = scanner;
     }
 
@@ -35,4 +39,25 @@ public class BoardMenu {
             ConsolePrinter.printError("Erro: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    public void setWipLimit() {
+        try {
+            System.out.print("Digite o ID do quadro: ");
+            Long boardId = scanner.nextLong();
+            System.out.print("Digite o ID da coluna: ");
+            Long columnId = scanner.nextLong();
+            System.out.print("Digite o limite de cartões (0 para remover o limite): ");
+            int limit = scanner.nextInt();
+            scanner.nextLine();
+            taskStatusService.setWipLimit(boardId, columnId, limit == 0 ? null : limit);
+            ConsolePrinter.printSuccess(limit == 0
+                    ? "Limite de WIP removido da coluna ID " + columnId + "."
+                    : "Limite de WIP da coluna ID " + columnId + " definido em " + limit + " cartões.");
+        } catch (InputMismatchException e) {
+            ConsolePrinter.printError("Erro: Digite apenas números válidos!");
+            scanner.nextLine();
+        } catch (TaskboardException e) {
+            ConsolePrinter.printError("Erro: " + e.getMessage());
+        }
+    }
+}
@@ -1,34 +1,55 @@
 package br.com.board.taskboard.view;
 
+import br.com.board.taskboard.dto.BlockHistoryReport;
 import br.com.board.taskboard.dto.CardMovementDTO;
+import br.com.board.taskboard.dto.ColumnBlockCount;
+import br.com.board.taskboard.dto.ColumnOccupancy;
+import br.com.board.taskboard.dto.CumulativeFlowRefresh;
+import br.com.board.taskboard.dto.ExportFormat;
+import br.com.board.taskboard.dto.ExportResult;
+import br.com.board.taskboard.dto.HistoryPage;
+import br.com.board.taskboard.dto.LayoutCacheStats;
 import br.com.board.taskboard.dto.TaskStatusDTO;
 import br.com.board.taskboard.exception.TaskboardException;
 import br.com.board.taskboard.service.BlockHistoryService;
+import br.com.board.taskboard.service.BoardLayoutCache;
 import br.com.board.taskboard.service.CardMovementService;
+import br.com.board.taskboard.service.CumulativeFlowService;
+import br.com.board.taskboard.service.HistoryExportService;
 import br.com.board.taskboard.service.TaskStatusService;
 import br.com.board.taskboard.util.ConsolePrinter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
 import java.util.InputMismatchException;
 import java.util.List;
-import java.util.Map;
 import java.util.Scanner;
 
 @Component
 public class ListOptionsMenu {
 
+    private static final int PAGE_SIZE = 20;
+
     private final TaskStatusService taskStatusService;
     private final CardMovementService cardMovementService;
     private final BlockHistoryService blockHistoryService;
+    private final HistoryExportService historyExportService;
+    private final CumulativeFlowService cumulativeFlowService;
+    private final BoardLayoutCache boardLayoutCache;
     private final Scanner scanner;
 
     @Autowired
     public ListOptionsMenu(TaskStatusService taskStatusService, CardMovementService cardMovementService,
-                          BlockHistoryService blockHistoryService, Scanner scanner) {
+                          BlockHistoryService blockHistoryService, HistoryExportService historyExportService,
+                          CumulativeFlowService cumulativeFlowService, BoardLayoutCache boardLayoutCache,
+                          Scanner scanner) {
         this.taskStatusService = taskStatusService;
         this.cardMovementService = cardMovementService;
         this.blockHistoryService = blockHistoryService;
+        this.historyExportService = historyExportService;
+        this.cumulativeFlowService = cumulativeFlowService;
+        this.boardLayoutCache = boardLayoutCache;
         this.scanner = scanner;
     }
 
@@ -56,21 +77,52 @@ public class ListOptionsMenu {
         }
     }
 
+    public void showColumnOccupancy() {
+        try {
+            System.out.print("Digite o ID do quadro: ");
+            Long boardId = scanner.nextLong();
+            scanner.nextLine();
+            List<ColumnOccupancy> columns = taskStatusService.columnOccupancy(boardId);
+            if (columns.isEmpty()) {
+                ConsolePrinter.printInfo("Nenhuma coluna encontrada para o quadro ID " + boardId + ".");
+                return;
+            }
+            ConsolePrinter.printInfo("Ocupação do quadro ID " + boardId + ":");
+            for (ColumnOccupancy column : columns) {
+                System.out.println("ID: " + column.taskStatusId() + ", Nome: " + column.name() +
+                        ", Status: " + column.status() + ", Cartões: " + column.cardCount() +
+                        ", Bloqueados: " + column.blockedCount() +
+                        (column.wipLimit() != null ? ", Limite de WIP: " + column.wipLimit() : ""));
+            }
+        } catch (InputMismatchException e) {
+            ConsolePrinter.printError("Erro: Digite apenas números válidos!");
+            scanner.nextLine();
+        } catch (TaskboardException e) {
+            ConsolePrinter.printError("Erro: " + e.getMessage());
+        }
+    }
+
     public void listCardMovements() {
         try {
             System.out.print("Digite o ID do cartão: ");
             Long cardId = scanner.nextLong();
             scanner.nextLine();
-            List<CardMovementDTO> movements = cardMovementService.listMovements(cardId);
-            if (movements.isEmpty()) {
+            HistoryPage<CardMovementDTO> page = cardMovementService.listMovements(cardId, null, PAGE_SIZE);
+            if (page.items().isEmpty()) {
                 ConsolePrinter.printInfo("Nenhuma movimentação encontrada para o cartão ID " + cardId + ".");
                 return;
             }
             ConsolePrinter.printInfo("Movimentações do cartão ID " + cardId + ":");
-            for (CardMovementDTO movement : movements) {
-                System.out.println("ID: " + movement.getId() + ", Coluna ID: " + movement.getTaskStatusId() +
-                        ", Entrada: " + movement.getEntryDate() +
-                        ", Saída: " + (movement.getExitDate() != null ? movement.getExitDate() : "Ainda na coluna"));
+            while (true) {
+                for (CardMovementDTO movement : page.items()) {
+                    System.out.println("ID: " + movement.getId() + ", Coluna ID: " + movement.getTaskStatusId() +
+                            ", Entrada: " + movement.getEntryDate() +
+                            ", Saída: " + (movement.getExitDate() != null ? movement.getExitDate() : "Ainda na coluna"));
+                }
+                if (!page.hasNext() || !askNextPage()) {
+                    break;
+                }
+                page = cardMovementService.listMovements(cardId, page.next(), PAGE_SIZE);
             }
         } catch (InputMismatchException e) {
             ConsolePrinter.printError("Erro: Digite apenas números válidos!");
@@ -87,21 +139,27 @@ public class ListOptionsMenu {
             System.out.print("Digite o ID do cartão (ou 0 para todos os cartões): ");
             Long cardId = scanner.nextLong();
             scanner.nextLine();
-            List<Map<String, Object>> blockHistories = blockHistoryService.cardBlockHistory(boardId, cardId == 0 ? null : cardId);
-            if (blockHistories.isEmpty()) {
+            Long filterCardId = cardId == 0 ? null : cardId;
+            HistoryPage<BlockHistoryReport> page = blockHistoryService.cardBlockHistory(boardId, filterCardId, null, PAGE_SIZE);
+            if (page.items().isEmpty()) {
                 ConsolePrinter.printInfo("Nenhum histórico de bloqueio encontrado.");
                 return;
             }
 
-            
             ConsolePrinter.printInfo("Histórico de bloqueios:");
-            for (Map<String, Object> history : blockHistories) {
-                System.out.println("ID: " + history.get("id") + ", Cartão ID: " + history.get("cardId") +
-                        ", Data de Bloqueio: " + history.get("blockedDate") +
-                        ", Motivo: " + history.get("blockedReason") +
-                        ", Data de Desbloqueio: " + (history.get("unblockedDate") != null ? history.get("unblockedDate") : "Ainda bloqueado") +
-                        ", Motivo de Desbloqueio: " + (history.get("unblockedReason") != null ? history.get("unblockedReason") : "N/A") +
-                        ", Duração (horas): " + history.get("blockedDuration"));
+            while (true) {
+                for (BlockHistoryReport history : page.items()) {
+                    System.out.println("ID: " + history.id() + ", Cartão ID: " + history.cardId() +
+                            ", Data de Bloqueio: " + history.blockedDate() +
+                            ", Motivo: " + history.blockedReason() +
+                            ", Data de Desbloqueio: " + (history.unblockedDate() != null ? history.unblockedDate() : "Ainda bloqueado") +
+                            ", Motivo de Desbloqueio: " + (history.unblockedReason() != null ? history.unblockedReason() : "N/A") +
+                            ", Duração (horas): " + history.blockedDuration());
+                }
+                if (!page.hasNext() || !askNextPage()) {
+                    break;
+                }
+                page = blockHistoryService.cardBlockHistory(boardId, filterCardId, page.next(), PAGE_SIZE);
             }
         } catch (InputMismatchException e) {
             ConsolePrinter.printError("Erro: Digite apenas números válidos!");
@@ -116,16 +174,20 @@ public class ListOptionsMenu {
             System.out.print("Digite o ID do quadro: ");
             Long boardId = scanner.nextLong();
             scanner.nextLine();
-            List<Map<String, Object>> activeBlocks = blockHistoryService.activeBlocksByBoard(boardId);
+            List<BlockHistoryReport> activeBlocks = blockHistoryService.activeBlocksByBoard(boardId);
             if (activeBlocks.isEmpty()) {
                 ConsolePrinter.printInfo("Nenhum bloqueio ativo encontrado para o quadro ID " + boardId + ".");
                 return;
             }
+            ConsolePrinter.printInfo("Bloqueios ativos por coluna:");
+            for (ColumnBlockCount count : blockHistoryService.activeBlockCountByColumn(boardId)) {
+                System.out.println(count.columnName() + ": " + count.activeBlocks());
+            }
             ConsolePrinter.printInfo("Bloqueios ativos do quadro ID " + boardId + ":");
-            for (Map<String, Object> block : activeBlocks) {
-                System.out.println("ID: " + block.get("id") + ", Cartão ID: " + block.get("cardId") +
-                        ", Data de Bloqueio: " + block.get("blockedDate") +
-                        ", Motivo: " + block.get("blockedReason"));
+            for (BlockHistoryReport block : activeBlocks) {
+                System.out.println("ID: " + block.id() + ", Cartão ID: " + block.cardId() +
+                        ", Data de Bloqueio: " + block.blockedDate() +
+                        ", Motivo: " + block.blockedReason());
             }
         } catch (InputMismatchException e) {
             ConsolePrinter.printError("Erro: Digite apenas números válidos!");
@@ -134,4 +196,50 @@ public class ListOptionsMenu {
             ConsolePrinter.printError("Erro: " + e.getMessage());
         }
     }
+
+    public void exportHistory() {
+        try {
+            System.out.print("Digite o ID do quadro: ");
+            Long boardId = scanner.nextLong();
+            scanner.nextLine();
+            System.out.print("Formato (ndjson/csv): ");
+            String formatInput = scanner.nextLine().trim();
+            ExportFormat format = formatInput.equalsIgnoreCase("csv") ? ExportFormat.CSV : ExportFormat.NDJSON;
+            System.out.print("Diretório de destino (Enter para o diretório atual): ");
+            String directoryInput = scanner.nextLine().trim();
+            Path directory = Path.of(directoryInput.isEmpty() ? "." : directoryInput);
+
+            ExportResult result = historyExportService.exportBoardHistory(boardId, format, directory);
+            ConsolePrinter.printSuccess("Histórico exportado: " + result.movementCount() + " movimentações em " +
+                    result.movementsFile() + ", " + result.blockCount() + " bloqueios em " + result.blocksFile());
+        } catch (InputMismatchException e) {
+            ConsolePrinter.printError("Erro: Digite apenas números válidos!");
+            scanner.nextLine();
+        } catch (TaskboardException e) {
+            ConsolePrinter.printError("Erro: " + e.getMessage());
+        }
+    }
+
+    public void refreshCumulativeFlow() {
+        System.out.print("Reconstruir todo o fluxo cumulativo a partir do histórico? (s/n): ");
+        boolean rebuild = scanner.nextLine().trim().equalsIgnoreCase("s");
+        CumulativeFlowRefresh refresh = rebuild ? cumulativeFlowService.rebuild() : cumulativeFlowService.refresh();
+        ConsolePrinter.printSuccess((refresh.rebuilt() ? "Fluxo cumulativo reconstruído até " : "Fluxo cumulativo atualizado até ")
+                + refresh.to() + " (" + refresh.deltas() + " variações aplicadas)");
+    }
+
+    private boolean askNextPage() {
+        System.out.print("Mostrar próxima página? (s/n): ");
+        return scanner.nextLine().trim().equalsIgnoreCase("s");
+    }
+
+    public void showLayoutCacheStats() {
+        LayoutCacheStats stats = boardLayoutCache.stats();
+        System.out.println("\n=== Cache de Colunas ===");
+        System.out.println("Quadros em cache: " + stats.size());
+        System.out.println("Acertos: " + stats.hitCount());
+        System.out.println("Falhas: " + stats.missCount());
+        System.out.printf("Taxa de acerto: %.1f%%%n", stats.hitRate() * 100);
+        System.out.println("Remoções: " + stats.evictionCount());
+    }
 }
@@ -38,9 +38,14 @@ public class MainMenu {
             System.out.println("8. Listar Movimentações do Cartão");
             System.out.println("9. Listar Histórico de Bloqueios");
             System.out.println("10. Listar Bloqueios Ativos");
-            System.out.println("11. Sair");
+            System.out.println("11. Exportar Histórico do Quadro");
+            System.out.println("12. Estatísticas do Cache de Colunas");
+            System.out.println("13. Ocupação das Colunas");
+            System.out.println("14. Definir Limite de WIP da Coluna");
+            System.out.println("15. Atualizar Fluxo Cumulativo");
+            System.out.println("16. Sair");
             System.out.println("=========================");
-            System.out.print("Escolha uma opção (1-11): ");
+            System.out.print("Escolha uma opção (1-16): ");
 
             try {
                 String input = scanner.nextLine().trim();
@@ -56,7 +61,12 @@ public class MainMenu {
                     case 8 -> listOptionsMenu.listCardMovements();
                     case 9 -> listOptionsMenu.listBlockHistory();
                     case 10 -> listOptionsMenu.listActiveBlocks();
-                    case 11 -> {
+                    case 11 -> listOptionsMenu.exportHistory();
+                    case 12 -> listOptionsMenu.showLayoutCacheStats();
+                    case 13 -> listOptionsMenu.showColumnOccupancy();
+                    case 14 -> boardMenu.setWipLimit();
+                    case 15 -> listOptionsMenu.refreshCumulativeFlow();
+                    case 16 -> {
                         ConsolePrinter.printWarning("Saindo...");
                         scanner.close();
                         return;
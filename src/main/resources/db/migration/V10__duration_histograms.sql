@@ -0,0 +1,20 @@
+-- Histogramas de duração em minutos (DurationHistogram): quantidade de amostras por faixa logarítmica.
+-- Mantidos pelo CardService a cada movimentação; os percentis saem somando as faixas, sem ordenar o histórico.
+
+-- Tempo de ciclo por quadro: da criação do cartão (entrada na coluna INICIAL) até a entrada na coluna FINAL
+create table cycle_time_bucket (
+    board_id bigint not null,
+    bucket integer not null,
+    sample_count bigint not null,
+    primary key (board_id, bucket),
+    constraint fk_cycle_time_bucket_board foreign key (board_id) references board (id) on delete cascade
+) engine=InnoDB;
+
+-- Tempo de permanência na coluna, registrado quando a movimentação é fechada
+create table column_time_bucket (
+    task_status_id bigint not null,
+    bucket integer not null,
+    sample_count bigint not null,
+    primary key (task_status_id, bucket),
+    constraint fk_column_time_bucket_task_status foreign key (task_status_id) references task_status (id) on delete cascade
+) engine=InnoDB;
@@ -0,0 +1,8 @@
+-- Listagem filtrada de cartões (CardSpecifications): sempre por coluna ou por quadro. Por quadro, o join parte de
+-- task_status (board_id, status) e entra em card pela coluna; o restante dos filtros fica dentro destes índices
+
+-- coluna, coluna + bloqueado, coluna + bloqueado + intervalo de criação
+create index idx_card_task_status_blocked_created on card (task_status_id, blocked, created_at);
+
+-- coluna + intervalo de criação e ordenação por data dentro da coluna
+create index idx_card_task_status_created on card (task_status_id, created_at);
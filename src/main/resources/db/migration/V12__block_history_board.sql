@@ -0,0 +1,16 @@
+-- Quadro do cartão copiado em cada bloqueio: a paginação do histórico de um quadro
+-- (BlockHistoryRepository.findReportPageByBoard/findReportPageByBoardAfter) percorre só as linhas
+-- dele na ordem (data, id), sem passar pelo histórico dos outros quadros. Cartões não trocam de
+-- quadro, então a cópia não fica desatualizada
+alter table block_history add column board_id bigint;
+
+update block_history set board_id = (
+    select s.board_id from card c join task_status s on s.id = c.task_status_id
+    where c.id = block_history.card_id);
+
+alter table block_history modify column board_id bigint not null;
+
+create index idx_block_history_board_blocked on block_history (board_id, blocked_date, id);
+
+-- O índice global por data só servia à paginação por quadro
+drop index idx_block_history_blocked on block_history;
@@ -0,0 +1,12 @@
+-- Reconstrução pendente dos histogramas de duração (linha única). Só existe em bancos que já tinham
+-- histórico sem faixas; o CycleTimeService.rebuild apaga a linha, então a reconstrução roda uma vez.
+create table duration_histogram_backfill (
+    id integer not null,
+    primary key (id)
+) engine=InnoDB;
+
+insert into duration_histogram_backfill (id)
+select 1 from dual
+where exists (select 1 from card_movement)
+and not exists (select 1 from cycle_time_bucket)
+and not exists (select 1 from column_time_bucket);
@@ -0,0 +1,26 @@
+-- Gerador pooled de IDs de Card e CardMovement. Bancos que vieram do ddl-auto já têm IDs gerados por IDENTITY:
+-- o gerador começa acima deles (o valor gravado é o topo do próximo bloco de 50). O auto_increment das colunas
+-- fica, mas não é mais usado: o Hibernate sempre informa o ID.
+create table id_generator (
+    sequence_name varchar(255) not null,
+    next_val bigint,
+    primary key (sequence_name)
+) engine=InnoDB;
+
+insert into id_generator (sequence_name, next_val) select 'card', coalesce(max(id) + 50, 0) from card;
+insert into id_generator (sequence_name, next_val) select 'card_movement', coalesce(max(id) + 50, 0) from card_movement;
+
+-- Ponteiros para a movimentação aberta e o bloqueio ativo de cada cartão
+alter table card add column current_movement_id bigint;
+alter table card add column active_block_id bigint;
+
+-- Preenchidos a partir das linhas abertas do histórico; se houver mais de uma, vale a mais recente
+update card set current_movement_id = (
+    select max(m.id) from card_movement m where m.card_id = card.id and m.exit_date is null);
+update card set active_block_id = (
+    select max(b.id) from block_history b where b.card_id = card.id and b.unblocked_date is null);
+
+alter table card add constraint uk_card_current_movement unique (current_movement_id);
+alter table card add constraint uk_card_active_block unique (active_block_id);
+alter table card add constraint fk_card_current_movement foreign key (current_movement_id) references card_movement (id);
+alter table card add constraint fk_card_active_block foreign key (active_block_id) references block_history (id);
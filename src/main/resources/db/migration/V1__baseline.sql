@@ -0,0 +1,55 @@
+-- Esquema inicial: exatamente o que o antigo ddl-auto=update gerava (IDs por IDENTITY, sem ponteiros de histórico).
+-- Bancos criados por aquela versão pulam este arquivo (baseline-on-migrate) e seguem a partir da V1_1.
+
+create table board (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table task_status (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    priority integer not null,
+    board_id bigint not null,
+    status enum ('CANCELADA','FINAL','INICIAL','PENDENTE'),
+    primary key (id),
+    constraint fk_task_status_board foreign key (board_id) references board (id)
+) engine=InnoDB;
+
+create table card (
+    id bigint not null auto_increment,
+    title varchar(255) not null,
+    description varchar(255),
+    created_at datetime(6) not null,
+    blocked bit not null,
+    blocked_reason varchar(255),
+    unblocked_reason varchar(255),
+    task_status_id bigint,
+    primary key (id),
+    constraint fk_card_task_status foreign key (task_status_id) references task_status (id)
+) engine=InnoDB;
+
+create table card_movement (
+    id bigint not null auto_increment,
+    card_id bigint not null,
+    task_status_id bigint not null,
+    entry_date datetime(6) not null,
+    exit_date datetime(6),
+    primary key (id),
+    constraint fk_card_movement_card foreign key (card_id) references card (id) on delete cascade,
+    constraint fk_card_movement_task_status foreign key (task_status_id) references task_status (id)
+) engine=InnoDB;
+
+create table block_history (
+    id bigint not null auto_increment,
+    card_id bigint not null,
+    blocked_date datetime(6) not null,
+    blocked_reason varchar(255) not null,
+    unblocked_date datetime(6),
+    unblocked_reason varchar(255),
+    primary key (id),
+    constraint fk_block_history_card foreign key (card_id) references card (id) on delete cascade
+) engine=InnoDB;
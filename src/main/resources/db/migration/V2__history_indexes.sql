@@ -0,0 +1,14 @@
+-- Índices para as consultas derivadas dos repositórios
+
+-- CardMovementRepository: findByCard, findByCardAndExitDateIsNull, deleteByCardId, closeOpenMovements
+create index idx_card_movement_card_exit on card_movement (card_id, exit_date);
+
+-- BlockHistoryRepository: findByCard, findByCardAndUnblockedDateIsNull, deleteByCardId
+create index idx_block_history_card_unblocked on block_history (card_id, unblocked_date);
+
+-- findByCardTaskStatusBoard: task_status.board_id -> card.task_status_id -> histórico por card_id
+create index idx_card_task_status on card (task_status_id);
+
+-- TaskStatusRepository: findByBoardOrderByPriority, findColumnCardRows e findByBoardAndStatus
+create index idx_task_status_board_priority on task_status (board_id, priority);
+create index idx_task_status_board_status on task_status (board_id, status);
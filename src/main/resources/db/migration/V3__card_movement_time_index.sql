@@ -0,0 +1,3 @@
+-- Agregação de tempo por coluna (CardMovementRepository.sumTimeByColumn/sumTimeByCardAndColumn):
+-- o índice cobre filtro por coluna e as duas datas, sem ler as linhas da tabela
+create index idx_card_movement_status_dates on card_movement (task_status_id, entry_date, exit_date);
@@ -0,0 +1,3 @@
+-- Bloqueios ativos (BlockHistoryRepository.findActiveReportByBoard): o filtro unblocked_date is null
+-- chega direto às linhas abertas, sem passar pelos bloqueios já encerrados
+create index idx_block_history_unblocked_card on block_history (unblocked_date, card_id);
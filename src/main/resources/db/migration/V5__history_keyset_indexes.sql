@@ -0,0 +1,11 @@
+-- Paginação por chave dos históricos: o índice já entrega as linhas na ordem (data, id),
+-- já que no InnoDB a chave primária faz parte de todo índice secundário
+
+-- CardMovementRepository.findPageByCard/findPageByCardAfter
+create index idx_card_movement_card_entry on card_movement (card_id, entry_date);
+
+-- BlockHistoryRepository.findReportPageByCard/findReportPageByCardAfter
+create index idx_block_history_card_blocked on block_history (card_id, blocked_date);
+
+-- BlockHistoryRepository.findReportPageByBoard/findReportPageByBoardAfter
+create index idx_block_history_blocked on block_history (blocked_date);
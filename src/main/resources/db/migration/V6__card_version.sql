@@ -0,0 +1,2 @@
+-- Versão para o lock otimista de Card: escritas concorrentes no mesmo cartão não passam mais despercebidas
+alter table card add column version bigint not null default 0;
@@ -0,0 +1,16 @@
+-- Contadores de cartões e de cartões bloqueados por coluna, atualizados na mesma transação das
+-- operações de cartão. Ficam fora de task_status, que está no cache de segundo nível.
+create table column_counter (
+    task_status_id bigint not null,
+    card_count bigint not null default 0,
+    blocked_count bigint not null default 0,
+    primary key (task_status_id),
+    constraint fk_column_counter_task_status foreign key (task_status_id) references task_status (id) on delete cascade
+) engine=InnoDB;
+
+-- Carga inicial a partir dos cartões existentes
+insert into column_counter (task_status_id, card_count, blocked_count)
+select s.id,
+       (select count(*) from card c where c.task_status_id = s.id),
+       (select count(*) from card c where c.task_status_id = s.id and c.blocked = true)
+from task_status s;
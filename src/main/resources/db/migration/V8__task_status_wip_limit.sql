@@ -0,0 +1,2 @@
+-- Limite opcional de cartões por coluna (WIP); nulo significa sem limite
+alter table task_status add column wip_limit integer;
@@ -0,0 +1,37 @@
+-- Fluxo cumulativo (CFD) materializado: cartões em cada coluna no fim de cada dia. O dia da marca
+-- d'água reflete o estado até ela. Mantido pelo CumulativeFlowService a partir do histórico.
+create table cfd_snapshot (
+    task_status_id bigint not null,
+    snapshot_date date not null,
+    board_id bigint not null,
+    card_count bigint not null,
+    primary key (task_status_id, snapshot_date),
+    constraint fk_cfd_snapshot_task_status foreign key (task_status_id) references task_status (id) on delete cascade
+) engine=InnoDB;
+
+-- CumulativeFlowService.cumulativeFlow: intervalo de datas de um quadro
+create index idx_cfd_snapshot_board_date on cfd_snapshot (board_id, snapshot_date);
+
+-- Até onde entradas e saídas do histórico já foram aplicadas em cfd_snapshot (linha única)
+create table cfd_watermark (
+    id integer not null,
+    processed_until datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+-- Histórico de cartões apagados: o ON DELETE CASCADE remove as movimentações, mas o CFD ainda
+-- precisa das entradas e da saída (momento da exclusão) que não tinham sido aplicadas
+create table removed_card_movement (
+    id bigint not null,
+    task_status_id bigint not null,
+    entry_date datetime(6) not null,
+    exit_date datetime(6) not null,
+    primary key (id),
+    constraint fk_removed_card_movement_task_status foreign key (task_status_id) references task_status (id) on delete cascade
+) engine=InnoDB;
+
+-- Eventos posteriores à marca d'água, lidos pelo job incremental
+create index idx_card_movement_entry on card_movement (entry_date);
+create index idx_card_movement_exit on card_movement (exit_date);
+create index idx_removed_card_movement_entry on removed_card_movement (entry_date);
+create index idx_removed_card_movement_exit on removed_card_movement (exit_date);
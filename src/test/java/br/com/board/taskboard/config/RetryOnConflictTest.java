@@ -0,0 +1,82 @@
+package br.com.board.taskboard.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class RetryOnConflictTest {
+
+    @Autowired
+    private ConflictingOperation operation;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${taskboard.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @BeforeEach
+    void resetAttempts() {
+        operation.reset();
+    }
+
+    @Test
+    void conflict_OwnTransaction_RetriedUpToMaxAttempts() {
+        assertThrows(OptimisticLockingFailureException.class, operation::run);
+
+        assertEquals(maxAttempts, operation.attempts());
+    }
+
+    @Test
+    void conflict_InsideOuterTransaction_ThrownWithoutRetry() {
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> outer.executeWithoutResult(status -> operation.run()));
+
+        assertEquals(1, operation.attempts());
+    }
+
+    @TestConfiguration
+    static class Operations {
+
+        @Bean
+        ConflictingOperation conflictingOperation() {
+            return new ConflictingOperation();
+        }
+    }
+
+    // Sempre perde a disputa, como um cartão gravado por outra transação a cada tentativa
+    static class ConflictingOperation {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        // Lidos pelo proxy do retry: os campos do proxy ficam vazios
+        public int attempts() {
+            return attempts.get();
+        }
+
+        public void reset() {
+            attempts.set(0);
+        }
+
+        @RetryOnConflict
+        @Transactional
+        public void run() {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("Cartão alterado por outra transação");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.board.taskboard.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Carga contra o servidor embutido: cada cliente cria um cartão, move e lista as colunas do quadro
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+@Tag("scale")
+class HttpApiLoadTest {
+
+    private static final int CLIENTS = 32;
+    private static final int ROUNDS_PER_CLIENT = 25;
+    private static final int WARMUP_ROUNDS = 10;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // HTTP/1.1 direto: sem a tentativa de upgrade h2c, que o Tomcat não atende
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void createMoveList_ConcurrentClients_ReportsThroughputAndP99() throws Exception {
+        JsonNode board = send("POST", "/api/boards", "{\"name\":\"Quadro carga\"}", 201);
+        long boardId = board.get("id").asLong();
+        long pendingColumnId = send("GET", "/api/boards/" + boardId + "/columns", null, 200).get(1).get("id").asLong();
+
+        runClients(boardId, pendingColumnId, WARMUP_ROUNDS);
+        long start = System.nanoTime();
+        long[][] latencies = runClients(boardId, pendingColumnId, ROUNDS_PER_CLIENT);
+        long elapsed = System.nanoTime() - start;
+
+        int requests = CLIENTS * ROUNDS_PER_CLIENT * 3;
+        System.out.printf("API HTTP com %d clientes: %d requisições, %.0f req/s; p99 criar %.1f ms, " +
+                        "mover %.1f ms, listar %.1f ms%n", CLIENTS, requests, requests / (elapsed / 1e9),
+                p99(latencies[0]), p99(latencies[1]), p99(latencies[2]));
+
+        JsonNode columns = send("GET", "/api/boards/" + boardId + "/columns", null, 200);
+        assertEquals(CLIENTS * (WARMUP_ROUNDS + ROUNDS_PER_CLIENT), columns.get(1).get("cardIds").size());
+    }
+
+    // {criar, mover, listar} x latências em nanossegundos
+    private long[][] runClients(long boardId, long pendingColumnId, int rounds) throws Exception {
+        long[][] latencies = new long[3][CLIENTS * rounds];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int clientIndex = c;
+                futures.add(executor.submit(() -> {
+                    for (int r = 0; r < rounds; r++) {
+                        int slot = clientIndex * rounds + r;
+                        long t0 = System.nanoTime();
+                        JsonNode card = send("POST", "/api/boards/" + boardId + "/cards",
+                                "{\"title\":\"Cartão " + slot + "\"}", 201);
+                        long t1 = System.nanoTime();
+                        send("POST", "/api/cards/" + card.get("id").asLong() + "/move",
+                                "{\"targetStatusId\":" + pendingColumnId + "}", 200);
+                        long t2 = System.nanoTime();
+                        send("GET", "/api/boards/" + boardId + "/columns", null, 200);
+                        long t3 = System.nanoTime();
+                        latencies[0][slot] = t1 - t0;
+                        latencies[1][slot] = t2 - t1;
+                        latencies[2][slot] = t3 - t2;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return latencies;
+    }
+
+    private JsonNode send(String method, String path, String body, int expectedStatus) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(expectedStatus, response.statusCode(), response.body());
+        return objectMapper.readTree(response.body());
+    }
+
+    private double p99(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(sorted.length * 0.99) - 1] / 1e6;
+    }
+}
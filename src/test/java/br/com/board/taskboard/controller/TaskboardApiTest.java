@@ -0,0 +1,133 @@
+package br.com.board.taskboard.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskboardApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void cardLifecycle_ThroughApi_ReturnsJsonFromServices() throws Exception {
+        JsonNode board = json(postJson("/api/boards", "{\"name\":\"Quadro API\"}")
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.name").value("Quadro API")));
+        long boardId = board.get("id").asLong();
+
+        JsonNode columns = json(mockMvc.perform(get("/api/boards/{boardId}/columns", boardId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4)));
+        long pendingColumnId = columns.get(1).get("id").asLong();
+
+        JsonNode card = json(postJson("/api/boards/" + boardId + "/cards",
+                "{\"title\":\"Cartão API\",\"description\":\"Via HTTP\"}")
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.taskStatusId").value(columns.get(0).get("id").asLong())));
+        long cardId = card.get("id").asLong();
+
+        postJson("/api/cards/" + cardId + "/move", "{\"targetStatusId\":" + pendingColumnId + "}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taskStatusId").value(pendingColumnId));
+        postJson("/api/cards/" + cardId + "/block", "{\"reason\":\"Aguardando revisão\"}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blockedReason").value("Aguardando revisão"));
+
+        mockMvc.perform(get("/api/cards/{cardId}/movements", cardId).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.next.id").isNumber());
+        mockMvc.perform(get("/api/boards/{boardId}/active-blocks", boardId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].cardId").value(cardId));
+        mockMvc.perform(get("/api/boards/{boardId}/time-in-column", boardId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+        mockMvc.perform(get("/api/boards/{boardId}/time-in-column", boardId).param("size", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("O tamanho da página deve estar entre 1 e 100."));
+
+        mockMvc.perform(post("/api/boards/cfd/refresh"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.to").isNotEmpty());
+        String today = LocalDate.now().toString();
+        mockMvc.perform(get("/api/boards/{boardId}/cfd", boardId).param("from", today).param("to", today))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.taskStatusId == " + pendingColumnId + ")].cardCount").value(1));
+    }
+
+    @Test
+    void cardFilter_ThroughApi_ReturnsSortedPageOfMatchingCards() throws Exception {
+        long boardId = json(postJson("/api/boards", "{\"name\":\"Quadro filtro API\"}")).get("id").asLong();
+        long pendingColumnId = json(mockMvc.perform(get("/api/boards/{boardId}/columns", boardId)))
+                .get(1).get("id").asLong();
+        for (String title : new String[] {"Alfa", "Beta", "Gama"}) {
+            postJson("/api/boards/" + boardId + "/cards", "{\"title\":\"" + title + "\"}")
+                    .andExpect(status().isCreated());
+        }
+        long blockedId = json(postJson("/api/boards/" + boardId + "/cards", "{\"title\":\"Delta\"}"))
+                .get("id").asLong();
+        postJson("/api/cards/" + blockedId + "/move", "{\"targetStatusId\":" + pendingColumnId + "}");
+        postJson("/api/cards/" + blockedId + "/block", "{\"reason\":\"Aguardando cliente\"}");
+
+        mockMvc.perform(get("/api/cards").param("boardId", String.valueOf(boardId))
+                        .param("status", "INICIAL").param("sort", "title,desc").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("Gama"))
+                .andExpect(jsonPath("$.items[1].title").value("Beta"));
+        mockMvc.perform(get("/api/cards").param("columnId", String.valueOf(pendingColumnId))
+                        .param("blocked", "true").param("createdFrom", "2000-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(blockedId));
+        mockMvc.perform(get("/api/cards").param("boardId", String.valueOf(boardId)).param("sort", "description"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message")
+                        .value("Ordenação não suportada: description. Use id, title ou createdAt."));
+        mockMvc.perform(get("/api/cards").param("blocked", "true"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Informe o quadro ou a coluna para filtrar os cartões."));
+    }
+
+    @Test
+    void businessRuleViolation_ReturnsBadRequestWithServiceMessage() throws Exception {
+        postJson("/api/boards", "{\"name\":\" \"}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("O nome do quadro não pode ser vazio."));
+        mockMvc.perform(delete("/api/cards/{cardId}", Long.MAX_VALUE))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cartão não encontrado com o ID: " + Long.MAX_VALUE));
+    }
+
+    private ResultActions postJson(String path, String body) throws Exception {
+        return mockMvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).content(body));
+    }
+
+    private JsonNode json(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,195 @@
+package br.com.board.taskboard.daemon;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.model.Status;
+import br.com.board.taskboard.script.ScriptRunner;
+import br.com.board.taskboard.service.BoardService;
+import br.com.board.taskboard.service.CardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SpringBootTest
+class DaemonServerTest {
+
+    private static final int COMMANDS = 50;
+
+    @Autowired
+    private ScriptRunner scriptRunner;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path directory;
+
+    private DaemonServer server;
+    private CompletableFuture<Void> serving;
+
+    @BeforeEach
+    void startDaemon() throws IOException {
+        server = new DaemonServer(scriptRunner, directory.resolve("taskboard.sock").toString());
+        server.bind();
+        serving = CompletableFuture.runAsync(() -> {
+            try {
+                server.serve();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @AfterEach
+    void stopDaemon() throws Exception {
+        server.destroy();
+        serving.get(5, TimeUnit.SECONDS);
+        assertFalse(Files.exists(server.getSocketPath()));
+    }
+
+    @Test
+    void send_SingleCommands_AppliedByWarmContextWithLowLatency() throws IOException {
+        BoardDTO board = boardService.createBoard("Quadro daemon");
+        Long pendingId = jdbcTemplate.queryForObject(
+                "select id from task_status where board_id = ? and status = ?", Long.class,
+                board.getId(), Status.PENDENTE.name());
+        CardDTO[] cards = new CardDTO[COMMANDS];
+        for (int i = 0; i < COMMANDS; i++) {
+            cards[i] = cardService.createCard(board.getId(), "Cartão " + i, null);
+        }
+
+        long[] latencies = new long[COMMANDS];
+        for (int i = 0; i < COMMANDS; i++) {
+            long start = System.nanoTime();
+            String response = send("move " + cards[i].getId() + " " + pendingId, 0);
+            latencies[i] = System.nanoTime() - start;
+            assertTrue(response.startsWith("OK 1/1"), response);
+        }
+        Arrays.sort(latencies);
+        System.out.printf("Daemon: %d comandos, mediana %.1f ms, p99 %.1f ms%n", COMMANDS,
+                latencies[COMMANDS / 2] / 1e6, latencies[COMMANDS * 99 / 100] / 1e6);
+
+        assertEquals(COMMANDS, jdbcTemplate.queryForObject(
+                "select count(*) from card where task_status_id = ?", Integer.class, pendingId));
+    }
+
+    @Test
+    void send_InvalidCommand_ReturnsErrorWithLine() throws IOException {
+        String response = send("move 999999999 1\nmover 1 2", 1);
+
+        assertTrue(response.startsWith("ERRO 0/2"), response);
+        assertTrue(response.contains("linha 1: move 999999999 1 -> "), response);
+        assertTrue(response.contains("linha 2: mover 1 2 -> Comando desconhecido: mover"), response);
+    }
+
+    @Test
+    void bind_SocketOfRunningDaemon_FailsAndKeepsItServing() throws IOException {
+        DaemonServer second = new DaemonServer(scriptRunner, server.getSocketPath().toString());
+
+        IOException exception = assertThrows(IOException.class, second::bind);
+        assertEquals("Já existe um daemon em execução em " + server.getSocketPath(), exception.getMessage());
+        assertTrue(send("mover 1 2", 1).startsWith("ERRO 0/1"));
+    }
+
+    @Test
+    void bind_StaleSocketFile_ReplacesIt() throws IOException {
+        Path stale = directory.resolve("antigo.sock");
+        // Fechar o canal não apaga o arquivo, como numa execução encerrada sem destroy
+        try (ServerSocketChannel abandoned = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            abandoned.bind(UnixDomainSocketAddress.of(stale));
+        }
+        assertTrue(Files.exists(stale));
+
+        DaemonServer restarted = new DaemonServer(scriptRunner, stale.toString());
+        restarted.bind();
+        restarted.destroy();
+        assertFalse(Files.exists(stale));
+    }
+
+    @Test
+    void bind_NewSocketDirectory_AccessibleOnlyByOwner() throws IOException {
+        Path socket = directory.resolve("usuario").resolve("taskboard.sock");
+        DaemonServer other = new DaemonServer(scriptRunner, socket.toString());
+        other.bind();
+        try {
+            assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(socket.getParent())));
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(socket)));
+        } finally {
+            other.destroy();
+        }
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(server.getSocketPath())));
+    }
+
+    @Test
+    void socketPath_NotConfigured_StaysOutOfSharedTmp() {
+        Path socket = DaemonClient.socketPath(" ");
+
+        assertEquals("taskboard.sock", socket.getFileName().toString());
+        assertNotEquals(Path.of(System.getProperty("java.io.tmpdir")), socket.getParent());
+    }
+
+    @Test
+    void send_SocketOwnedByOtherUser_Refused() throws IOException {
+        Path foreign = directory.resolve("alheio.sock");
+        try (ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.bind(UnixDomainSocketAddress.of(foreign));
+            // Trocar o dono do arquivo só é possível rodando como root
+            UserPrincipal nobody = foreign.getFileSystem().getUserPrincipalLookupService().lookupPrincipalByName("nobody");
+            boolean changed;
+            try {
+                Files.setOwner(foreign, nobody);
+                changed = true;
+            } catch (IOException e) {
+                changed = false;
+            }
+            assumeTrue(changed);
+
+            IOException exception = assertThrows(IOException.class,
+                    () -> DaemonClient.send(foreign, "delete 1", new PrintStream(new ByteArrayOutputStream())));
+            assertEquals("o socket pertence a outro usuário (nobody)", exception.getMessage());
+        }
+    }
+
+    @Test
+    void run_WithoutDaemon_ReturnsUnavailable() {
+        assertEquals(2, DaemonClient.run(new String[] {
+                "--taskboard.daemon.socket=" + directory.resolve("inexistente.sock"), "delete", "1"}));
+    }
+
+    private String send(String script, int expectedExitCode) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int exitCode = DaemonClient.send(server.getSocketPath(), script,
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+        String response = output.toString(StandardCharsets.UTF_8);
+        assertEquals(expectedExitCode, exitCode, response);
+        return response;
+    }
+}
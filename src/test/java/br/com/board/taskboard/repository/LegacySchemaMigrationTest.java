@@ -0,0 +1,74 @@
+package br.com.board.taskboard.repository;
+
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.service.CardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Banco criado pela versão anterior ao Flyway (ddl-auto=update): sobe a aplicação sobre ele com o baseline da
+// configuração principal e confere que as migrações completam o esquema (o ddl-auto=validate precisa passar)
+@SpringBootTest(properties = {"spring.flyway.baseline-on-migrate=true", "spring.flyway.baseline-version=1"})
+class LegacySchemaMigrationTest {
+
+    private static final String URL =
+            "jdbc:h2:mem:taskboard_legacy;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CardService cardService;
+
+    @DynamicPropertySource
+    static void legacyDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(URL, "sa", "", true);
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("legacy/ddl-auto-schema.sql"));
+        } finally {
+            dataSource.destroy();
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    void migrate_DdlAutoDatabase_BaselinesAndBackfillsPointersAndIdGenerator() {
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from flyway_schema_history where success = false", Integer.class));
+        assertEquals("1", jdbcTemplate.queryForObject(
+                "select version from flyway_schema_history where type = 'BASELINE'", String.class));
+
+        // Ponteiros apontam para as linhas abertas do histórico
+        assertEquals(2L, jdbcTemplate.queryForObject("select current_movement_id from card where id = 1", Long.class));
+        assertEquals(2L, jdbcTemplate.queryForObject("select active_block_id from card where id = 1", Long.class));
+        assertEquals(3L, jdbcTemplate.queryForObject("select current_movement_id from card where id = 2", Long.class));
+        assertNull(jdbcTemplate.queryForObject("select active_block_id from card where id = 2", Long.class));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "select blocked_count from column_counter where task_status_id = 2", Long.class));
+
+        // Operações da versão atual sobre os dados antigos: IDs novos não colidem com os de IDENTITY
+        CardDTO created = cardService.createCard(1L, "Cartão novo", null);
+        assertTrue(created.getId() > 2, "ID gerado: " + created.getId());
+        cardService.moveCard(2L, 2L);
+        cardService.unblockCard(1L, "Cliente respondeu");
+
+        assertNotNull(jdbcTemplate.queryForObject("select exit_date from card_movement where id = 3",
+                LocalDateTime.class));
+        assertNotNull(jdbcTemplate.queryForObject("select unblocked_date from block_history where id = 2",
+                LocalDateTime.class));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "select card_count from column_counter where task_status_id = 2", Integer.class));
+    }
+}
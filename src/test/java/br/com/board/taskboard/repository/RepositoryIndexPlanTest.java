@@ -0,0 +1,153 @@
+package br.com.board.taskboard.repository;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.CardFilter;
+import br.com.board.taskboard.dto.NewCardDTO;
+import br.com.board.taskboard.model.Board;
+import br.com.board.taskboard.model.Card;
+import br.com.board.taskboard.model.Status;
+import br.com.board.taskboard.service.BoardService;
+import br.com.board.taskboard.service.CardService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Roda EXPLAIN (H2 em modo MySQL) sobre o SQL real de cada consulta derivada e falha se houver table scan
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.com.board.taskboard.repository.SqlCaptureInspector")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryIndexPlanTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private CardMovementRepository cardMovementRepository;
+
+    @Autowired
+    private BlockHistoryRepository blockHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Board board;
+    private Card card;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeAll
+    void setUp() {
+        // Alguns quadros com histórico para o otimizador ter estatísticas realistas
+        BoardDTO boardDTO = null;
+        for (int b = 0; b < 5; b++) {
+            boardDTO = boardService.createBoard("Quadro plano " + b);
+            List<NewCardDTO> newCards = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                newCards.add(new NewCardDTO("Cartão " + i, null));
+            }
+            List<CardDTO> cards = cardService.createCards(boardDTO.getId(), newCards);
+            for (int i = 0; i < 20; i++) {
+                cardService.blockCard(cards.get(i).getId(), "Motivo");
+            }
+        }
+        jdbcTemplate.execute("analyze");
+        Long boardId = boardDTO.getId();
+        board = boardRepository.findById(boardId).orElseThrow();
+        card = cardRepository.findByTaskStatus(
+                taskStatusRepository.findByBoardAndStatus(board, Status.INICIAL).orElseThrow()).get(0);
+    }
+
+    @Test
+    void cardMovementQueries_UseIndexes() {
+        assertIndexed(() -> cardMovementRepository.findByCard(card), card.getId());
+        assertIndexed(() -> cardMovementRepository.findByCardAndExitDateIsNull(card), card.getId());
+        assertIndexed(() -> cardMovementRepository.findByCardTaskStatusBoard(board), board.getId());
+        assertIndexed(() -> cardMovementRepository.findTimeReportByBoard(board, now), now, board.getId());
+        assertIndexed(() -> cardMovementRepository.findPageByCardAfter(card, now, 0L, Limit.of(21)),
+                card.getId(), now, now, 0L, 21);
+    }
+
+    @Test
+    void blockHistoryQueries_UseIndexes() {
+        assertIndexed(() -> blockHistoryRepository.findByCard(card), card.getId());
+        assertIndexed(() -> blockHistoryRepository.findByCardAndUnblockedDateIsNull(card), card.getId());
+        assertIndexed(() -> blockHistoryRepository.findByCardTaskStatusBoard(board), board.getId());
+        assertIndexed(() -> blockHistoryRepository.findActiveReportByBoard(board, now), now, board.getId());
+        assertIndexed(() -> blockHistoryRepository.findReportByBoard(board, now), now, board.getId());
+        assertIndexed(() -> blockHistoryRepository.findReportPageByCardAfter(card, now, now, 0L, Limit.of(21)),
+                now, card.getId(), now, now, 0L, 21);
+        assertIndexed(() -> blockHistoryRepository.findReportPageByBoardAfter(board.getId(), now, now, 0L, Limit.of(21)),
+                now, board.getId(), now, now, 0L, 21);
+    }
+
+    @Test
+    void taskStatusQueries_UseIndexes() {
+        assertIndexed(() -> taskStatusRepository.findByBoardOrderByPriority(board), board.getId());
+        assertIndexed(() -> taskStatusRepository.findByBoardAndStatus(board, Status.INICIAL),
+                board.getId(), Status.INICIAL.name());
+        assertIndexed(() -> taskStatusRepository.findColumnCardRows(board), board.getId());
+    }
+
+    // Cada combinação aceita pela listagem filtrada (sempre com quadro ou coluna)
+    @Test
+    void cardFilterQueries_UseIndexes() {
+        Long columnId = card.getTaskStatus().getId();
+        LocalDateTime from = now.minusDays(30);
+        String inicial = Status.INICIAL.name();
+        assertFilterIndexed(new CardFilter(null, columnId, null, null, null, null), columnId);
+        assertFilterIndexed(new CardFilter(null, columnId, null, true, null, null), columnId, true);
+        assertFilterIndexed(new CardFilter(null, columnId, null, true, from, now), columnId, true, from, now);
+        assertFilterIndexed(new CardFilter(null, columnId, null, null, from, now), columnId, from, now);
+        assertFilterIndexed(new CardFilter(board.getId(), null, null, null, null, null), board.getId());
+        assertFilterIndexed(new CardFilter(board.getId(), null, Status.INICIAL, null, null, null),
+                board.getId(), inicial);
+        assertFilterIndexed(new CardFilter(board.getId(), null, null, true, from, now), board.getId(), true, from, now);
+        assertFilterIndexed(new CardFilter(board.getId(), columnId, Status.INICIAL, false, from, now),
+                board.getId(), columnId, inicial, false, from, now);
+    }
+
+    private void assertFilterIndexed(CardFilter filter, Object... parameters) {
+        Object[] withLimit = Arrays.copyOf(parameters, parameters.length + 1);
+        withLimit[parameters.length] = 20;
+        assertIndexed(() -> cardRepository.findAll(CardSpecifications.matching(filter),
+                PageRequest.of(0, 20, Sort.by("createdAt", "id"))), withLimit);
+    }
+
+    private void assertIndexed(Runnable query, Object... parameters) {
+        SqlCaptureInspector.clear();
+        transactionTemplate.executeWithoutResult(status -> query.run());
+        String sql = SqlCaptureInspector.selects().get(0);
+
+        String plan = jdbcTemplate.queryForObject("explain " + sql, String.class, parameters);
+        assertFalse(plan.contains("tableScan"), "Consulta sem índice:\n" + plan);
+    }
+}
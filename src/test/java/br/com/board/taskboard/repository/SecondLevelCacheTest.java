@@ -0,0 +1,97 @@
+package br.com.board.taskboard.repository;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.model.Board;
+import br.com.board.taskboard.model.TaskStatus;
+import br.com.board.taskboard.service.BoardService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Quadros e colunas vêm do cache de segundo nível: cada transação nova não volta ao banco
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    private static final int LOOKUPS = 100;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void boardFindById_RepeatedInNewTransactions_DoesNotReachDatabase() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Long boardId = boardService.createBoard("Quadro cache L2").getId();
+        transactionTemplate.executeWithoutResult(status -> boardRepository.findById(boardId).orElseThrow());
+
+        statistics.clear();
+        for (int i = 0; i < LOOKUPS; i++) {
+            Board board = transactionTemplate.execute(status -> boardRepository.findById(boardId).orElseThrow());
+            assertEquals("Quadro cache L2", board.getName());
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(LOOKUPS, statistics.getDomainDataRegionStatistics(Board.class.getName()).getHitCount());
+    }
+
+    @Test
+    void findByBoardOrderByPriority_Repeated_UsesQueryCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        BoardDTO boardDTO = boardService.createBoard("Quadro colunas L2");
+        Board board = boardRepository.findById(boardDTO.getId()).orElseThrow();
+        transactionTemplate.executeWithoutResult(status -> taskStatusRepository.findByBoardOrderByPriority(board));
+
+        statistics.clear();
+        for (int i = 0; i < LOOKUPS; i++) {
+            List<TaskStatus> columns = transactionTemplate.execute(
+                    status -> taskStatusRepository.findByBoardOrderByPriority(board));
+            assertEquals(4, columns.size());
+            assertEquals(1, columns.get(0).getPriority());
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(LOOKUPS, statistics.getQueryRegionStatistics("taskStatusByBoard").getHitCount());
+    }
+
+    @Test
+    void findByBoardOrderByPriority_AfterColumnChange_ReadsFreshResult() {
+        BoardDTO boardDTO = boardService.createBoard("Quadro invalidação L2");
+        Board board = boardRepository.findById(boardDTO.getId()).orElseThrow();
+        transactionTemplate.executeWithoutResult(status -> taskStatusRepository.findByBoardOrderByPriority(board));
+
+        // Alteração feita pelo Hibernate: a região de timestamps invalida o resultado guardado
+        transactionTemplate.executeWithoutResult(status -> {
+            TaskStatus column = taskStatusRepository.findByBoardOrderByPriority(board).get(1);
+            column.setName("Em revisão");
+        });
+
+        List<TaskStatus> columns = transactionTemplate.execute(
+                status -> taskStatusRepository.findByBoardOrderByPriority(board));
+        assertEquals("Em revisão", columns.get(1).getName());
+        assertEquals("Em revisão", jdbcTemplate.queryForObject(
+                "select name from task_status where id = ?", String.class, columns.get(1).getId()));
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.board.taskboard.script;
+
+import br.com.board.taskboard.dto.ScriptFailure;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScriptParserTest {
+
+    private final ScriptParser parser = new ScriptParser();
+
+    @Test
+    void parse_ValidScript_SkipsCommentsAndBlankLines() throws IOException {
+        ScriptParser.ParsedScript script = parse("""
+                # cria o quadro
+                board "Quadro do script"
+
+                card 1 "Título com espaço" descrição
+                MOVE 10 20
+                block 10 "Aguardando cliente"
+                unblock 10 liberado
+                delete 10
+                """);
+
+        assertTrue(script.errors().isEmpty());
+        List<ScriptCommand> commands = script.commands();
+        assertEquals(6, commands.size());
+        assertEquals(ScriptOperation.BOARD, commands.get(0).operation());
+        assertEquals("Quadro do script", commands.get(0).text(0));
+        assertEquals(4, commands.get(1).line());
+        assertEquals("Título com espaço", commands.get(1).text(1));
+        assertEquals("descrição", commands.get(1).text(2));
+        assertEquals(ScriptOperation.MOVE, commands.get(2).operation());
+        assertEquals(20L, commands.get(2).id(1));
+        assertEquals("Aguardando cliente", commands.get(3).text(1));
+        assertNull(commands.get(5).text(1));
+    }
+
+    @Test
+    void parse_InvalidLines_ReportsEachErrorWithLineNumber() throws IOException {
+        ScriptParser.ParsedScript script = parse("""
+                move 1 2
+                mover 1 2
+                move 1
+                move abc 2
+                block 1 "sem fechamento
+                """);
+
+        assertEquals(1, script.commands().size());
+        List<ScriptFailure> errors = script.errors();
+        assertEquals(4, errors.size());
+        assertEquals(2, errors.get(0).line());
+        assertEquals("Comando desconhecido: mover", errors.get(0).message());
+        assertTrue(errors.get(1).message().startsWith("Uso: move"));
+        assertTrue(errors.get(2).message().startsWith("ID inválido 'abc'"));
+        assertEquals("Aspas sem fechamento", errors.get(3).message());
+        assertEquals("block 1 \"sem fechamento", errors.get(3).command());
+    }
+
+    private ScriptParser.ParsedScript parse(String text) throws IOException {
+        return parser.parse(new BufferedReader(new StringReader(text)));
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.board.taskboard.script;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.ScriptFailure;
+import br.com.board.taskboard.dto.ScriptSummary;
+import br.com.board.taskboard.model.Status;
+import br.com.board.taskboard.service.BoardService;
+import br.com.board.taskboard.service.CardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ScriptRunnerTest {
+
+    private static final int CARD_COUNT = 200;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void run_ScriptWithInvalidCommands_AppliesValidOnesAndReportsFailuresPerLine() throws IOException {
+        BoardDTO board = boardService.createBoard("Quadro script");
+        Long pendingId = columnId(board, Status.PENDENTE);
+        CardDTO first = cardService.createCard(board.getId(), "Primeiro", null);
+        CardDTO second = cardService.createCard(board.getId(), "Segundo", null);
+
+        String script = String.join("\n",
+                "# lote com falhas no meio",
+                "move " + first.getId() + " " + pendingId,
+                "block " + second.getId() + " \"Aguardando cliente\"",
+                "move 999999999 " + pendingId,
+                "mover 1 2",
+                "card " + board.getId() + " \"Criado pelo script\"",
+                "unblock " + second.getId() + " liberado");
+        ScriptSummary summary = new ScriptRunner(boardService, cardService, transactionManager, 2)
+                .run(new BufferedReader(new StringReader(script)));
+
+        assertEquals(6, summary.commands());
+        assertEquals(4, summary.succeeded());
+        assertEquals(3, summary.chunks());
+        assertEquals(1, summary.replayedChunks());
+        List<ScriptFailure> failures = summary.failures();
+        assertEquals(List.of(4, 5), failures.stream().map(ScriptFailure::line).toList());
+        assertEquals("mover 1 2", failures.get(1).command());
+
+        assertEquals(pendingId, cardService.findById(first.getId()).getTaskStatusId());
+        assertFalse(cardService.findById(second.getId()).isBlocked());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from card c join task_status s on s.id = c.task_status_id " +
+                        "where s.board_id = ? and c.title = ?", Integer.class, board.getId(), "Criado pelo script"));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from block_history where card_id = ? and unblocked_date is not null",
+                Integer.class, second.getId()));
+    }
+
+    @Test
+    void run_LargeScript_GroupsCommandsIntoChunks() throws IOException {
+        BoardDTO board = boardService.createBoard("Quadro script em lote");
+        Long pendingId = columnId(board, Status.PENDENTE);
+        List<CardDTO> cards = new ArrayList<>();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            cards.add(cardService.createCard(board.getId(), "Cartão " + i, null));
+        }
+        StringBuilder script = new StringBuilder();
+        for (CardDTO card : cards) {
+            script.append("move ").append(card.getId()).append(' ').append(pendingId).append('\n');
+        }
+
+        ScriptSummary summary = new ScriptRunner(boardService, cardService, transactionManager, 50)
+                .run(new BufferedReader(new StringReader(script.toString())));
+        System.out.printf("Script com %d comandos em %d lotes: %.0f comandos/s%n",
+                summary.commands(), summary.chunks(), summary.commandsPerSecond());
+
+        assertEquals(CARD_COUNT, summary.succeeded());
+        assertTrue(summary.failures().isEmpty());
+        assertEquals(CARD_COUNT / 50, summary.chunks());
+        assertEquals(0, summary.replayedChunks());
+        assertEquals(CARD_COUNT, jdbcTemplate.queryForObject(
+                "select count(*) from card where task_status_id = ?", Integer.class, pendingId));
+        assertEquals(CARD_COUNT, jdbcTemplate.queryForObject(
+                "select count(*) from card_movement m join card c on c.id = m.card_id " +
+                        "where c.task_status_id = ? and m.exit_date is null", Integer.class, pendingId));
+    }
+
+    private Long columnId(BoardDTO board, Status status) {
+        return jdbcTemplate.queryForObject("select id from task_status where board_id = ? and status = ?",
+                Long.class, board.getId(), status.name());
+    }
+}
@@ -0,0 +1,210 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BlockHistoryReport;
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.ColumnBlockCount;
+import br.com.board.taskboard.dto.HistoryPage;
+import br.com.board.taskboard.model.BlockHistory;
+import br.com.board.taskboard.model.Status;
+import br.com.board.taskboard.repository.BlockHistoryRepository;
+import br.com.board.taskboard.repository.BoardRepository;
+import br.com.board.taskboard.repository.SqlCaptureInspector;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.com.board.taskboard.repository.SqlCaptureInspector")
+@Tag("scale")
+class BlockHistoryServiceScaleTest {
+
+    private static final int CARD_COUNT = 2_000;
+    private static final int CLOSED_BLOCKS_PER_CARD = 50;
+    private static final int BLOCKED_EVERY = 20;
+    // IDs fora da faixa do gerador pooled, já que os cartões são inseridos direto via JDBC
+    private static final long FIRST_CARD_ID = 3_000_000_000L;
+    private static final long OTHER_BOARDS_FIRST_CARD_ID = 3_100_000_000L;
+    private static final int SMALL_BOARD_CARDS = 10;
+    private static final int SMALL_BOARD_BLOCKS_PER_CARD = 30;
+    private static final int PAGE_SIZE = 100;
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BlockHistoryService blockHistoryService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BlockHistoryRepository blockHistoryRepository;
+
+    @Autowired
+    private CardConsistencyService cardConsistencyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void activeBlocksByBoard_LargeClosedHistory_ReadsOnlyOpenBlocks() {
+        BoardDTO board = boardService.createBoard("Quadro bloqueios");
+        Long initialId = jdbcTemplate.queryForObject(
+                "select id from task_status where board_id = ? and status = ?", Long.class,
+                board.getId(), Status.INICIAL.name());
+
+        // Cada cartão tem 50 bloqueios encerrados; um a cada 20 segue bloqueado
+        LocalDateTime base = LocalDateTime.now().minusDays(60);
+        List<Object[]> cards = new ArrayList<>();
+        List<Object[]> blocks = new ArrayList<>();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            long cardId = FIRST_CARD_ID + i;
+            boolean blocked = i % BLOCKED_EVERY == 0;
+            cards.add(new Object[] {cardId, "Cartão " + i, Timestamp.valueOf(base), blocked, initialId});
+            for (int j = 0; j < CLOSED_BLOCKS_PER_CARD; j++) {
+                LocalDateTime blockedAt = base.plusHours(j);
+                blocks.add(new Object[] {cardId, board.getId(), Timestamp.valueOf(blockedAt), "Motivo",
+                        Timestamp.valueOf(blockedAt.plusMinutes(30)), "Resolvido"});
+            }
+            if (blocked) {
+                blocks.add(new Object[] {cardId, board.getId(), Timestamp.valueOf(base.plusDays(30)), "Motivo",
+                        null, null});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into card (id, title, created_at, blocked, task_status_id) values (?, ?, ?, ?, ?)", cards);
+        jdbcTemplate.batchUpdate("insert into block_history (card_id, board_id, blocked_date, blocked_reason, " +
+                "unblocked_date, unblocked_reason) values (?, ?, ?, ?, ?, ?)", blocks);
+        jdbcTemplate.update("update card set active_block_id = (select max(b.id) from block_history b " +
+                "where b.card_id = card.id and b.unblocked_date is null) where id between ? and ? and blocked = true",
+                FIRST_CARD_ID, FIRST_CARD_ID + CARD_COUNT);
+        // Inserções via JDBC não passam pelos contadores das colunas
+        cardConsistencyService.rebuildCounters();
+        int expectedActive = CARD_COUNT / BLOCKED_EVERY;
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        List<BlockHistoryReport> active = blockHistoryService.activeBlocksByBoard(board.getId());
+        long queryNanos = System.nanoTime() - start;
+        long loadedByQuery = statistics.getEntityStatistics(BlockHistory.class.getName()).getLoadCount();
+
+        // Abordagem anterior: todo o histórico do quadro filtrado em memória
+        statistics.clear();
+        start = System.nanoTime();
+        long filteredInJava = blockHistoryRepository
+                .findByCardTaskStatusBoard(boardRepository.findById(board.getId()).orElseThrow()).stream()
+                .filter(history -> history.getUnblockedDate() == null)
+                .count();
+        long filterNanos = System.nanoTime() - start;
+        long loadedByFilter = statistics.getEntityStatistics(BlockHistory.class.getName()).getLoadCount();
+
+        System.out.printf("Bloqueios ativos com %d bloqueios no histórico: consulta %d ms (%d carregados), " +
+                        "filtro em memória %d ms (%d carregados)%n", blocks.size(),
+                queryNanos / 1_000_000, loadedByQuery, filterNanos / 1_000_000, loadedByFilter);
+
+        assertEquals(expectedActive, active.size());
+        assertEquals(expectedActive, filteredInJava);
+        assertEquals(0, loadedByQuery);
+        assertEquals(blocks.size(), loadedByFilter);
+
+        List<ColumnBlockCount> counts = blockHistoryService.activeBlockCountByColumn(board.getId());
+        assertEquals(4, counts.size());
+        assertEquals(initialId, counts.get(0).taskStatusId());
+        assertEquals(expectedActive, counts.get(0).activeBlocks());
+        assertEquals(0, counts.get(1).activeBlocks());
+    }
+
+    @Test
+    void cardBlockHistory_SmallBoardBesideLargeOne_PagesReadOnlyItsOwnRows() {
+        BoardDTO large = boardService.createBoard("Quadro grande");
+        BoardDTO small = boardService.createBoard("Quadro pequeno");
+        // Mesmo intervalo de datas nos dois quadros: um índice só por data intercalaria os históricos
+        LocalDateTime base = LocalDateTime.now().minusDays(90);
+        insertBlocks(large, OTHER_BOARDS_FIRST_CARD_ID, CARD_COUNT, CLOSED_BLOCKS_PER_CARD, base);
+        insertBlocks(small, OTHER_BOARDS_FIRST_CARD_ID + CARD_COUNT, SMALL_BOARD_CARDS,
+                SMALL_BOARD_BLOCKS_PER_CARD, base);
+
+        List<Long> seen = new ArrayList<>();
+        List<Long> scanned = new ArrayList<>();
+        HistoryPage<BlockHistoryReport> page = null;
+        do {
+            SqlCaptureInspector.clear();
+            HistoryPage<BlockHistoryReport> previous = page;
+            page = blockHistoryService.cardBlockHistory(small.getId(), null,
+                    previous == null ? null : previous.next(), PAGE_SIZE);
+            page.items().forEach(block -> seen.add(block.id()));
+            scanned.add(scanCount(previous, small.getId()));
+        } while (page.hasNext());
+        System.out.printf("Histórico de %d bloqueios ao lado de %d de outro quadro: linhas lidas por página %s%n",
+                seen.size(), CARD_COUNT * CLOSED_BLOCKS_PER_CARD, scanned);
+
+        assertEquals(SMALL_BOARD_CARDS * SMALL_BOARD_BLOCKS_PER_CARD, seen.size());
+        assertEquals(seen.size(), seen.stream().distinct().count());
+        // Cada página lê size + 1 linhas do índice, mais a do próprio cursor, qualquer que seja o tamanho do outro quadro
+        for (long rows : scanned) {
+            assertTrue(rows <= PAGE_SIZE + 2, "Linhas lidas por página: " + scanned);
+        }
+    }
+
+    private void insertBlocks(BoardDTO board, long firstCardId, int cardCount, int blocksPerCard,
+                              LocalDateTime base) {
+        Long initialId = jdbcTemplate.queryForObject(
+                "select id from task_status where board_id = ? and status = ?", Long.class,
+                board.getId(), Status.INICIAL.name());
+        List<Object[]> cards = new ArrayList<>();
+        List<Object[]> blocks = new ArrayList<>();
+        for (int i = 0; i < cardCount; i++) {
+            long cardId = firstCardId + i;
+            cards.add(new Object[] {cardId, "Cartão " + i, Timestamp.valueOf(base), false, initialId});
+            for (int j = 0; j < blocksPerCard; j++) {
+                LocalDateTime blockedAt = base.plusMinutes((long) j * 90 + i);
+                blocks.add(new Object[] {cardId, board.getId(), Timestamp.valueOf(blockedAt), "Motivo",
+                        Timestamp.valueOf(blockedAt.plusMinutes(30)), "Resolvido"});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into card (id, title, created_at, blocked, task_status_id) values (?, ?, ?, ?, ?)", cards);
+        jdbcTemplate.batchUpdate("insert into block_history (card_id, board_id, blocked_date, blocked_reason, " +
+                "unblocked_date, unblocked_reason) values (?, ?, ?, ?, ?, ?)", blocks);
+        cardConsistencyService.rebuildCounters();
+    }
+
+    // Linhas lidas pela consulta da página, segundo o EXPLAIN ANALYZE do H2 sobre o SQL gerado
+    private long scanCount(HistoryPage<BlockHistoryReport> previous, Long boardId) {
+        String sql = SqlCaptureInspector.selects().stream()
+                .filter(select -> select.contains("block_history"))
+                .reduce((first, last) -> last)
+                .orElseThrow();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Object[] parameters = previous == null
+                ? new Object[] {now, boardId, PAGE_SIZE + 1}
+                : new Object[] {now, boardId, Timestamp.valueOf(previous.next().date()),
+                        Timestamp.valueOf(previous.next().date()), previous.next().id(), PAGE_SIZE + 1};
+        String plan = jdbcTemplate.queryForObject("explain analyze " + sql, String.class, parameters);
+        Matcher matcher = SCAN_COUNT.matcher(plan);
+        long rows = 0;
+        while (matcher.find()) {
+            rows = Math.max(rows, Long.parseLong(matcher.group(1)));
+        }
+        return rows;
+    }
+}
@@ -1,13 +1,17 @@
 package br.com.board.taskboard.service;
 
+import br.com.board.taskboard.dto.BlockHistoryReport;
+import br.com.board.taskboard.dto.ColumnBlockCount;
+import br.com.board.taskboard.dto.HistoryCursor;
+import br.com.board.taskboard.dto.HistoryPage;
 import br.com.board.taskboard.exception.TaskboardException;
 import br.com.board.taskboard.model.Board;
 import br.com.board.taskboard.model.Card;
-import br.com.board.taskboard.model.BlockHistory;
 import br.com.board.taskboard.model.TaskStatus;
 import br.com.board.taskboard.repository.BlockHistoryRepository;
 import br.com.board.taskboard.repository.BoardRepository;
 import br.com.board.taskboard.repository.CardRepository;
+import br.com.board.taskboard.repository.ColumnCounterRepository;
 import br.com.board.taskboard.util.DateUtil;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,20 +19,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class BlockHistoryServiceTest {
 
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 28, 18, 0);
+
     @Mock
     private BlockHistoryRepository blockHistoryRepository;
 
@@ -38,6 +45,9 @@ class BlockHistoryServiceTest {
     @Mock
     private CardRepository cardRepository;
 
+    @Mock
+    private ColumnCounterRepository columnCounterRepository;
+
     @InjectMocks
     private BlockHistoryService blockHistoryService;
 
@@ -47,64 +57,39 @@ class BlockHistoryServiceTest {
         Board board = new Board();
         board.setId(boardId);
 
-        Card card = new Card();
-        card.setId(2L);
-        TaskStatus taskStatus = new TaskStatus();
-        taskStatus.setId(3L);
-        taskStatus.setBoard(board);
-        card.setTaskStatus(taskStatus);
-
-        BlockHistory history1 = new BlockHistory();
-        history1.setId(4L);
-        history1.setCard(card);
         LocalDateTime blockedDate1 = LocalDateTime.of(2025, 7, 28, 10, 0);
         LocalDateTime unblockedDate1 = LocalDateTime.of(2025, 7, 28, 12, 0);
-        history1.setBlockedDate(blockedDate1);
-        history1.setBlockedReason("Motivo 1");
-        history1.setUnblockedDate(unblockedDate1);
-        history1.setUnblockedReason("Desbloqueado 1");
-
-        BlockHistory history2 = new BlockHistory();
-        history2.setId(5L);
-        history2.setCard(card);
         LocalDateTime blockedDate2 = LocalDateTime.of(2025, 7, 28, 13, 0);
-        history2.setBlockedDate(blockedDate2);
-        history2.setBlockedReason("Motivo 2");
-        history2.setUnblockedDate(null);
-        history2.setUnblockedReason(null);
-
-        List<BlockHistory> histories = Arrays.asList(history1, history2);
+        List<BlockHistoryReport> histories = Arrays.asList(
+                new BlockHistoryReport(4L, 2L, blockedDate1, "Motivo 1", unblockedDate1, "Desbloqueado 1", 2.0),
+                new BlockHistoryReport(5L, 2L, blockedDate2, "Motivo 2", null, null, 5.0));
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        when(blockHistoryRepository.findByCardTaskStatusBoard(board)).thenReturn(histories);
+        when(blockHistoryRepository.findReportByBoard(board, NOW)).thenReturn(histories);
         try (MockedStatic<DateUtil> dateUtil = mockStatic(DateUtil.class)) {
-            dateUtil.when(() -> DateUtil.calculateHours(blockedDate1, unblockedDate1)).thenReturn(2.0);
-            dateUtil.when(() -> DateUtil.calculateHours(blockedDate2, null)).thenReturn(0.0);
+            dateUtil.when(DateUtil::now).thenReturn(NOW);
 
-            List<Map<String, Object>> result = blockHistoryService.cardBlockHistory(boardId, null);
+            List<BlockHistoryReport> result = blockHistoryService.cardBlockHistory(boardId, null);
 
             assertEquals(2, result.size());
 
-            Map<String, Object> result1 = result.get(0);
-            assertEquals(4L, result1.get("id"));
-            assertEquals(2L, result1.get("cardId"));
-            assertEquals(blockedDate1, result1.get("blockedDate"));
-            assertEquals("Motivo 1", result1.get("blockedReason"));
-            assertEquals(unblockedDate1, result1.get("unblockedDate"));
-            assertEquals("Desbloqueado 1", result1.get("unblockedReason"));
-            assertEquals(2.0, result1.get("blockedDuration"));
-
-            Map<String, Object> result2 = result.get(1);
-            assertEquals(5L, result2.get("id"));
-            assertEquals(2L, result2.get("cardId"));
-            assertEquals(blockedDate2, result2.get("blockedDate"));
-            assertEquals("Motivo 2", result2.get("blockedReason"));
-            assertNull(result2.get("unblockedDate"));
-            assertNull(result2.get("unblockedReason"));
-            assertEquals(0.0, result2.get("blockedDuration"));
+            BlockHistoryReport result1 = result.get(0);
+            assertEquals(4L, result1.id());
+            assertEquals(2L, result1.cardId());
+            assertEquals(blockedDate1, result1.blockedDate());
+            assertEquals("Motivo 1", result1.blockedReason());
+            assertEquals(unblockedDate1, result1.unblockedDate());
+            assertEquals("Desbloqueado 1", result1.unblockedReason());
+            assertEquals(2.0, result1.blockedDuration());
+
+            BlockHistoryReport result2 = result.get(1);
+            assertEquals(5L, result2.id());
+            assertNull(result2.unblockedDate());
+            assertNull(result2.unblockedReason());
+            assertEquals(5.0, result2.blockedDuration());
 
             verify(boardRepository).findById(boardId);
-            verify(blockHistoryRepository).findByCardTaskStatusBoard(board);
+            verify(blockHistoryRepository).findReportByBoard(board, NOW);
             verifyNoInteractions(cardRepository);
         }
     }
@@ -122,39 +107,23 @@ class BlockHistoryServiceTest {
         taskStatus.setBoard(board);
         card.setTaskStatus(taskStatus);
 
-        BlockHistory history = new BlockHistory();
-        history.setId(4L);
-        history.setCard(card);
         LocalDateTime blockedDate = LocalDateTime.of(2025, 7, 28, 10, 0);
         LocalDateTime unblockedDate = LocalDateTime.of(2025, 7, 28, 12, 0);
-        history.setBlockedDate(blockedDate);
-        history.setBlockedReason("Motivo 1");
-        history.setUnblockedDate(unblockedDate);
-        history.setUnblockedReason("Desbloqueado 1");
-
-        List<BlockHistory> histories = Arrays.asList(history);
+        List<BlockHistoryReport> histories = List.of(
+                new BlockHistoryReport(4L, cardId, blockedDate, "Motivo 1", unblockedDate, "Desbloqueado 1", 2.0));
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
         when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
-        when(blockHistoryRepository.findByCard(card)).thenReturn(histories);
+        when(blockHistoryRepository.findReportByCard(card, NOW)).thenReturn(histories);
         try (MockedStatic<DateUtil> dateUtil = mockStatic(DateUtil.class)) {
-            dateUtil.when(() -> DateUtil.calculateHours(blockedDate, unblockedDate)).thenReturn(2.0);
-
-            List<Map<String, Object>> result = blockHistoryService.cardBlockHistory(boardId, cardId);
+            dateUtil.when(DateUtil::now).thenReturn(NOW);
 
-            assertEquals(1, result.size());
-            Map<String, Object> result1 = result.get(0);
-            assertEquals(4L, result1.get("id"));
-            assertEquals(cardId, result1.get("cardId"));
-            assertEquals(blockedDate, result1.get("blockedDate"));
-            assertEquals("Motivo 1", result1.get("blockedReason"));
-            assertEquals(unblockedDate, result1.get("unblockedDate"));
-            assertEquals("Desbloqueado 1", result1.get("unblockedReason"));
-            assertEquals(2.0, result1.get("blockedDuration"));
+            List<BlockHistoryReport> result = blockHistoryService.cardBlockHistory(boardId, cardId);
 
+            assertEquals(histories, result);
             verify(boardRepository).findById(boardId);
             verify(cardRepository).findById(cardId);
-            verify(blockHistoryRepository).findByCard(card);
+            verify(blockHistoryRepository).findReportByCard(card, NOW);
         }
     }
 
@@ -223,13 +192,14 @@ class BlockHistoryServiceTest {
         board.setId(boardId);
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        when(blockHistoryRepository.findByCardTaskStatusBoard(board)).thenReturn(Collections.emptyList());
+        when(blockHistoryRepository.findReportByBoard(eq(board), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
 
-        List<Map<String, Object>> result = blockHistoryService.cardBlockHistory(boardId, null);
+        List<BlockHistoryReport> result = blockHistoryService.cardBlockHistory(boardId, null);
 
         assertTrue(result.isEmpty());
         verify(boardRepository).findById(boardId);
-        verify(blockHistoryRepository).findByCardTaskStatusBoard(board);
+        verify(blockHistoryRepository).findReportByBoard(eq(board), any(LocalDateTime.class));
         verifyNoInteractions(cardRepository);
     }
 
@@ -248,68 +218,108 @@ class BlockHistoryServiceTest {
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
         when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
-        when(blockHistoryRepository.findByCard(card)).thenReturn(Collections.emptyList());
+        when(blockHistoryRepository.findReportByCard(eq(card), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
 
-        List<Map<String, Object>> result = blockHistoryService.cardBlockHistory(boardId, cardId);
+        List<BlockHistoryReport> result = blockHistoryService.cardBlockHistory(boardId, cardId);
 
         assertTrue(result.isEmpty());
         verify(boardRepository).findById(boardId);
         verify(cardRepository).findById(cardId);
-        verify(blockHistoryRepository).findByCard(card);
+        verify(blockHistoryRepository).findReportByCard(eq(card), any(LocalDateTime.class));
     }
 
     @Test
-    void activeBlocksByBoard_ValidBoardId_ReturnsActiveBlockList() {
+    void cardBlockHistory_PagedBoard_ReturnsCursorWhenMoreRowsExist() {
+        Long boardId = 1L;
+        LocalDateTime blockedDate = LocalDateTime.of(2025, 7, 28, 10, 0);
+        List<BlockHistoryReport> rows = List.of(
+                new BlockHistoryReport(4L, 2L, blockedDate, "Motivo 1", blockedDate.plusHours(1), "Ok", 1.0),
+                new BlockHistoryReport(5L, 3L, blockedDate.plusHours(2), "Motivo 2", null, null, 6.0));
+
+        when(boardRepository.existsById(boardId)).thenReturn(true);
+        when(blockHistoryRepository.findReportPageByBoard(boardId, NOW, Limit.of(2))).thenReturn(rows);
+        try (MockedStatic<DateUtil> dateUtil = mockStatic(DateUtil.class)) {
+            dateUtil.when(DateUtil::now).thenReturn(NOW);
+
+            HistoryPage<BlockHistoryReport> page = blockHistoryService.cardBlockHistory(boardId, null, null, 1);
+
+            assertEquals(List.of(rows.get(0)), page.items());
+            assertEquals(new HistoryCursor(blockedDate, 4L), page.next());
+            verify(blockHistoryRepository, never()).findReportByBoard(any(Board.class), any(LocalDateTime.class));
+            verifyNoInteractions(cardRepository);
+        }
+    }
+
+    @Test
+    void cardBlockHistory_PagedCardAfterCursor_UsesKeysetQuery() {
         Long boardId = 1L;
+        Long cardId = 2L;
         Board board = new Board();
         board.setId(boardId);
-
         Card card = new Card();
-        card.setId(2L);
+        card.setId(cardId);
         TaskStatus taskStatus = new TaskStatus();
         taskStatus.setId(3L);
         taskStatus.setBoard(board);
         card.setTaskStatus(taskStatus);
+        HistoryCursor cursor = new HistoryCursor(LocalDateTime.of(2025, 7, 28, 10, 0), 4L);
+        List<BlockHistoryReport> rows = List.of(new BlockHistoryReport(
+                6L, cardId, LocalDateTime.of(2025, 7, 28, 14, 0), "Motivo", null, null, 4.0));
 
-        BlockHistory history1 = new BlockHistory();
-        history1.setId(4L);
-        history1.setCard(card);
-        LocalDateTime blockedDate1 = LocalDateTime.of(2025, 7, 28, 10, 0);
-        history1.setBlockedDate(blockedDate1);
-        history1.setBlockedReason("Motivo 1");
-        history1.setUnblockedDate(null);
-        history1.setUnblockedReason(null);
-
-        BlockHistory history2 = new BlockHistory();
-        history2.setId(5L);
-        history2.setCard(card);
-        LocalDateTime blockedDate2 = LocalDateTime.of(2025, 7, 28, 12, 0);
-        history2.setBlockedDate(blockedDate2);
-        history2.setBlockedReason("Motivo 2");
-        history2.setUnblockedDate(LocalDateTime.of(2025, 7, 28, 14, 0));
-        history2.setUnblockedReason("Desbloqueado 2");
-
-        List<BlockHistory> histories = Arrays.asList(history1, history2);
+        when(boardRepository.existsById(boardId)).thenReturn(true);
+        when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
+        when(blockHistoryRepository.findReportPageByCardAfter(card, NOW, cursor.date(), cursor.id(), Limit.of(21)))
+                .thenReturn(rows);
+        try (MockedStatic<DateUtil> dateUtil = mockStatic(DateUtil.class)) {
+            dateUtil.when(DateUtil::now).thenReturn(NOW);
+
+            HistoryPage<BlockHistoryReport> page = blockHistoryService.cardBlockHistory(boardId, cardId, cursor, 20);
+
+            assertEquals(rows, page.items());
+            assertFalse(page.hasNext());
+        }
+    }
+
+    @Test
+    void cardBlockHistory_PageSizeOutOfRange_ThrowsTaskboardException() {
+        for (int size : new int[] {0, -1, 101, Integer.MAX_VALUE}) {
+            TaskboardException exception = assertThrows(TaskboardException.class,
+                    () -> blockHistoryService.cardBlockHistory(1L, null, null, size));
+            assertEquals("O tamanho da página deve estar entre 1 e 100.", exception.getMessage());
+        }
+        verifyNoInteractions(boardRepository, cardRepository, blockHistoryRepository);
+    }
+
+    @Test
+    void activeBlocksByBoard_ValidBoardId_ReturnsActiveBlockList() {
+        Long boardId = 1L;
+        Board board = new Board();
+        board.setId(boardId);
+
+        LocalDateTime blockedDate = LocalDateTime.of(2025, 7, 28, 10, 0);
+        List<BlockHistoryReport> histories = List.of(
+                new BlockHistoryReport(4L, 2L, blockedDate, "Motivo 1", null, null, 8.0));
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        when(blockHistoryRepository.findByCardTaskStatusBoard(board)).thenReturn(histories);
+        when(blockHistoryRepository.findActiveReportByBoard(board, NOW)).thenReturn(histories);
         try (MockedStatic<DateUtil> dateUtil = mockStatic(DateUtil.class)) {
-            dateUtil.when(() -> DateUtil.calculateHours(blockedDate1, null)).thenReturn(0.0);
+            dateUtil.when(DateUtil::now).thenReturn(NOW);
 
-            List<Map<String, Object>> result = blockHistoryService.activeBlocksByBoard(boardId);
+            List<BlockHistoryReport> result = blockHistoryService.activeBlocksByBoard(boardId);
 
             assertEquals(1, result.size());
-            Map<String, Object> result1 = result.get(0);
-            assertEquals(4L, result1.get("id"));
-            assertEquals(2L, result1.get("cardId"));
-            assertEquals(blockedDate1, result1.get("blockedDate"));
-            assertEquals("Motivo 1", result1.get("blockedReason"));
-            assertNull(result1.get("unblockedDate"));
-            assertNull(result1.get("unblockedReason"));
-            assertEquals(0.0, result1.get("blockedDuration"));
+            BlockHistoryReport result1 = result.get(0);
+            assertEquals(4L, result1.id());
+            assertEquals(2L, result1.cardId());
+            assertEquals(blockedDate, result1.blockedDate());
+            assertEquals("Motivo 1", result1.blockedReason());
+            assertNull(result1.unblockedDate());
+            assertNull(result1.unblockedReason());
+            assertEquals(8.0, result1.blockedDuration());
 
             verify(boardRepository).findById(boardId);
-            verify(blockHistoryRepository).findByCardTaskStatusBoard(board);
+            verify(blockHistoryRepository).findActiveReportByBoard(board, NOW);
             verifyNoInteractions(cardRepository);
         }
     }
@@ -328,53 +338,63 @@ class BlockHistoryServiceTest {
     }
 
     @Test
-    void activeBlocksByBoard_NoActiveBlocks_ReturnsEmptyList() {
+    void activeBlocksByBoard_NoHistories_ReturnsEmptyList() {
         Long boardId = 1L;
         Board board = new Board();
         board.setId(boardId);
 
-        Card card = new Card();
-        card.setId(2L);
-        TaskStatus taskStatus = new TaskStatus();
-        taskStatus.setId(3L);
-        taskStatus.setBoard(board);
-        card.setTaskStatus(taskStatus);
-
-        BlockHistory history = new BlockHistory();
-        history.setId(4L);
-        history.setCard(card);
-        history.setBlockedDate(LocalDateTime.of(2025, 7, 28, 10, 0));
-        history.setBlockedReason("Motivo 1");
-        history.setUnblockedDate(LocalDateTime.of(2025, 7, 28, 12, 0));
-        history.setUnblockedReason("Desbloqueado 1");
-
-        List<BlockHistory> histories = Arrays.asList(history);
-
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        when(blockHistoryRepository.findByCardTaskStatusBoard(board)).thenReturn(histories);
+        when(blockHistoryRepository.findActiveReportByBoard(eq(board), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
 
-        List<Map<String, Object>> result = blockHistoryService.activeBlocksByBoard(boardId);
+        List<BlockHistoryReport> result = blockHistoryService.activeBlocksByBoard(boardId);
 
         assertTrue(result.isEmpty());
         verify(boardRepository).findById(boardId);
-        verify(blockHistoryRepository).findByCardTaskStatusBoard(board);
+        verify(blockHistoryRepository).findActiveReportByBoard(eq(board), any(LocalDateTime.class));
         verifyNoInteractions(cardRepository);
     }
 
     @Test
-    void activeBlocksByBoard_NoHistories_ReturnsEmptyList() {
+    void activeBlocksByBoard_ValidBoardId_DoesNotLoadFullHistory() {
         Long boardId = 1L;
         Board board = new Board();
         board.setId(boardId);
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        when(blockHistoryRepository.findByCardTaskStatusBoard(board)).thenReturn(Collections.emptyList());
+        when(blockHistoryRepository.findActiveReportByBoard(eq(board), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
 
-        List<Map<String, Object>> result = blockHistoryService.activeBlocksByBoard(boardId);
+        blockHistoryService.activeBlocksByBoard(boardId);
 
-        assertTrue(result.isEmpty());
-        verify(boardRepository).findById(boardId);
-        verify(blockHistoryRepository).findByCardTaskStatusBoard(board);
-        verifyNoInteractions(cardRepository);
+        verify(blockHistoryRepository, never()).findByCardTaskStatusBoard(any(Board.class));
+        verify(blockHistoryRepository, never()).findReportByBoard(any(Board.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void activeBlockCountByColumn_ValidBoardId_ReturnsDatabaseCounts() {
+        Long boardId = 1L;
+        List<ColumnBlockCount> counts = List.of(
+                new ColumnBlockCount(2L, "A Fazer", 3),
+                new ColumnBlockCount(3L, "Em progresso", 0));
+
+        when(boardRepository.existsById(boardId)).thenReturn(true);
+        when(columnCounterRepository.findBlockCountsByBoardId(boardId)).thenReturn(counts);
+
+        List<ColumnBlockCount> result = blockHistoryService.activeBlockCountByColumn(boardId);
+
+        assertEquals(counts, result);
+        verifyNoInteractions(blockHistoryRepository);
+    }
+
+    @Test
+    void activeBlockCountByColumn_BoardNotFound_ThrowsTaskboardException() {
+        Long boardId = 1L;
+        when(boardRepository.existsById(boardId)).thenReturn(false);
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> blockHistoryService.activeBlockCountByColumn(boardId));
+        assertEquals("Quadro não encontrado com o ID: " + boardId, exception.getMessage());
+        verifyNoInteractions(columnCounterRepository);
     }
 }
@@ -0,0 +1,138 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardLayout;
+import br.com.board.taskboard.dto.ColumnLayout;
+import br.com.board.taskboard.dto.LayoutCacheStats;
+import br.com.board.taskboard.model.Status;
+import br.com.board.taskboard.repository.TaskStatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardLayoutCacheTest {
+
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    @Mock
+    private TaskStatusRepository taskStatusRepository;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private BoardLayoutCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // Relógio e executor controlados pelo teste: expiração e remoções acontecem de forma determinística
+        cache = new BoardLayoutCache(taskStatusRepository, 2, EXPIRE_AFTER_WRITE, nanos::get, Runnable::run);
+    }
+
+    @Test
+    void layout_RepeatedLookup_LoadsOnceAndCountsHits() {
+        when(taskStatusRepository.findLayoutByBoardId(1L)).thenReturn(columns(1L));
+
+        BoardLayout first = cache.layout(1L);
+        BoardLayout second = cache.layout(1L);
+
+        assertSame(first, second);
+        assertEquals(10L, first.initialColumn().orElseThrow().id());
+        verify(taskStatusRepository, times(1)).findLayoutByBoardId(1L);
+        LayoutCacheStats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.size());
+    }
+
+    @Test
+    void layout_BoardWithoutColumns_IsNotCached() {
+        when(taskStatusRepository.findLayoutByBoardId(99L)).thenReturn(List.of());
+
+        assertTrue(cache.layout(99L).isEmpty());
+        assertTrue(cache.layout(99L).isEmpty());
+
+        verify(taskStatusRepository, times(2)).findLayoutByBoardId(99L);
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void column_KnownColumn_ResolvesBoardOnceAndReturnsColumn() {
+        when(taskStatusRepository.findBoardIdById(11L)).thenReturn(Optional.of(1L));
+        when(taskStatusRepository.findLayoutByBoardId(1L)).thenReturn(columns(1L));
+
+        ColumnLayout column = cache.column(11L).orElseThrow();
+        cache.column(11L);
+
+        assertEquals(Status.PENDENTE, column.status());
+        assertEquals(2, column.priority());
+        assertEquals(1L, column.boardId());
+        verify(taskStatusRepository, times(1)).findBoardIdById(11L);
+        verify(taskStatusRepository, times(1)).findLayoutByBoardId(1L);
+    }
+
+    @Test
+    void column_UnknownColumn_ReturnsEmpty() {
+        when(taskStatusRepository.findBoardIdById(50L)).thenReturn(Optional.empty());
+
+        assertTrue(cache.column(50L).isEmpty());
+        verify(taskStatusRepository, never()).findLayoutByBoardId(anyLong());
+    }
+
+    @Test
+    void invalidate_CachedLayout_ReloadsOnNextLookup() {
+        when(taskStatusRepository.findLayoutByBoardId(1L)).thenReturn(columns(1L));
+        cache.layout(1L);
+
+        cache.invalidate(1L);
+        cache.layout(1L);
+
+        verify(taskStatusRepository, times(2)).findLayoutByBoardId(1L);
+    }
+
+    @Test
+    void layout_AfterExpireAfterWrite_Reloads() {
+        when(taskStatusRepository.findLayoutByBoardId(1L)).thenReturn(columns(1L));
+        cache.layout(1L);
+
+        nanos.addAndGet(EXPIRE_AFTER_WRITE.plusSeconds(1).toNanos());
+        cache.layout(1L);
+
+        verify(taskStatusRepository, times(2)).findLayoutByBoardId(1L);
+        cache.cleanUp();
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    void layout_OverMaximumSize_EvictsBoards() {
+        when(taskStatusRepository.findLayoutByBoardId(anyLong()))
+                .thenAnswer(invocation -> columns(invocation.getArgument(0)));
+
+        for (long boardId = 1; boardId <= 5; boardId++) {
+            cache.layout(boardId);
+        }
+        cache.cleanUp();
+
+        LayoutCacheStats stats = cache.stats();
+        assertEquals(2, stats.size());
+        assertEquals(3, stats.evictionCount());
+        assertEquals(5, stats.missCount());
+    }
+
+    private List<ColumnLayout> columns(Long boardId) {
+        long base = boardId * 10;
+        return List.of(
+                new ColumnLayout(base, Status.INICIAL, 1, boardId, null),
+                new ColumnLayout(base + 1, Status.PENDENTE, 2, boardId, null),
+                new ColumnLayout(base + 2, Status.FINAL, 3, boardId, null),
+                new ColumnLayout(base + 3, Status.CANCELADA, 4, boardId, null));
+    }
+}
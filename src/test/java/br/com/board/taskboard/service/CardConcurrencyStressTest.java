@@ -0,0 +1,129 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.ColumnOccupancy;
+import br.com.board.taskboard.exception.TaskboardException;
+import br.com.board.taskboard.model.Status;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Várias threads movem, bloqueiam e desbloqueiam o mesmo cartão ao mesmo tempo
+@SpringBootTest
+@Tag("scale")
+class CardConcurrencyStressTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 40;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private TaskStatusService taskStatusService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentMovesAndBlocks_SameCard_KeepOneOpenMovementAndAtMostOneOpenBlock() throws Exception {
+        BoardDTO board = boardService.createBoard("Quadro concorrência");
+        Long cancelledColumnId = jdbcTemplate.queryForObject(
+                "select id from task_status where board_id = ? and status = ?", Long.class,
+                board.getId(), Status.CANCELADA.name());
+        CardDTO card = cardService.createCard(board.getId(), "Cartão disputado", null);
+
+        AtomicInteger moves = new AtomicInteger();
+        AtomicInteger blocks = new AtomicInteger();
+        AtomicInteger unblocks = new AtomicInteger();
+        AtomicInteger exhausted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    try {
+                        // CANCELADA aceita o cartão vindo de qualquer coluna, inclusive dela mesma
+                        switch (ThreadLocalRandom.current().nextInt(3)) {
+                            case 0 -> {
+                                cardService.moveCard(card.getId(), cancelledColumnId);
+                                moves.incrementAndGet();
+                            }
+                            case 1 -> {
+                                cardService.blockCard(card.getId(), "Bloqueio concorrente");
+                                blocks.incrementAndGet();
+                            }
+                            default -> {
+                                cardService.unblockCard(card.getId(), "Desbloqueio concorrente");
+                                unblocks.incrementAndGet();
+                            }
+                        }
+                    } catch (TaskboardException e) {
+                        // Regra de negócio sobre o estado já gravado por outra thread (ex.: cartão bloqueado)
+                    } catch (ConcurrencyFailureException e) {
+                        exhausted.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        System.out.printf("Cartão disputado por %d threads: %d movimentações, %d bloqueios, %d desbloqueios, " +
+                "%d operações sem sucesso após os retries%n", THREADS, moves.get(), blocks.get(), unblocks.get(),
+                exhausted.get());
+
+        Map<String, Object> state = jdbcTemplate.queryForMap(
+                "select blocked, current_movement_id, active_block_id from card where id = ?", card.getId());
+        List<Long> openMovements = jdbcTemplate.queryForList(
+                "select id from card_movement where card_id = ? and exit_date is null", Long.class, card.getId());
+        List<Long> openBlocks = jdbcTemplate.queryForList(
+                "select id from block_history where card_id = ? and unblocked_date is null", Long.class, card.getId());
+        Integer movementCount = jdbcTemplate.queryForObject(
+                "select count(*) from card_movement where card_id = ?", Integer.class, card.getId());
+        Integer blockCount = jdbcTemplate.queryForObject(
+                "select count(*) from block_history where card_id = ?", Integer.class, card.getId());
+
+        assertEquals(1, openMovements.size());
+        assertEquals(openMovements.get(0), ((Number) state.get("current_movement_id")).longValue());
+        assertEquals(moves.get() + 1, movementCount);
+        assertEquals(blocks.get(), blockCount);
+        assertEquals(blocks.get() - unblocks.get(), openBlocks.size());
+        if ((Boolean) state.get("blocked")) {
+            assertEquals(openBlocks.get(0), ((Number) state.get("active_block_id")).longValue());
+        } else {
+            assertTrue(openBlocks.isEmpty());
+            assertNull(state.get("active_block_id"));
+        }
+
+        // Contadores atualizados pelas operações que passaram batem com o estado final do cartão
+        List<ColumnOccupancy> occupancy = taskStatusService.columnOccupancy(board.getId());
+        assertEquals(1, occupancy.stream().mapToLong(ColumnOccupancy::cardCount).sum());
+        assertEquals((Boolean) state.get("blocked") ? 1 : 0,
+                occupancy.stream().mapToLong(ColumnOccupancy::blockedCount).sum());
+    }
+}
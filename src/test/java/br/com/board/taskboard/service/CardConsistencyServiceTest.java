@@ -0,0 +1,111 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.ColumnOccupancy;
+import br.com.board.taskboard.dto.NewCardDTO;
+import br.com.board.taskboard.dto.TaskStatusDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CardConsistencyServiceTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private TaskStatusService taskStatusService;
+
+    @Autowired
+    private CardConsistencyService cardConsistencyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pointers_StayConsistentThroughCardOperations_AndAreRebuiltFromHistory() {
+        BoardDTO board = boardService.createBoard("Quadro consistência");
+        List<TaskStatusDTO> columns = taskStatusService.listColumns(board.getId());
+        CardDTO single = cardService.createCard(board.getId(), "Cartão", null);
+        List<CardDTO> bulk = cardService.createCards(board.getId(),
+                List.of(new NewCardDTO("Lote 1", null), new NewCardDTO("Lote 2", null)));
+
+        cardService.moveCard(single.getId(), columns.get(1).getId());
+        cardService.moveCards(List.of(bulk.get(0).getId(), bulk.get(1).getId()), columns.get(1).getId());
+        cardService.blockCard(bulk.get(0).getId(), "Aguardando");
+        cardService.blockCard(bulk.get(1).getId(), "Aguardando");
+        cardService.unblockCard(bulk.get(1).getId(), "Liberado");
+        cardService.deleteCard(bulk.get(1).getId());
+
+        assertEquals(0, cardConsistencyService.countInconsistentCards());
+        Long currentMovementId = jdbcTemplate.queryForObject(
+                "select current_movement_id from card where id = ?", Long.class, single.getId());
+        Long openMovementId = jdbcTemplate.queryForObject(
+                "select id from card_movement where card_id = ? and exit_date is null", Long.class, single.getId());
+        assertEquals(openMovementId, currentMovementId);
+
+        jdbcTemplate.update("update card set current_movement_id = null, active_block_id = null where id in (?, ?)",
+                single.getId(), bulk.get(0).getId());
+        assertEquals(2, cardConsistencyService.countInconsistentCards());
+
+        assertEquals(2, cardConsistencyService.rebuildPointers());
+        assertEquals(0, cardConsistencyService.countInconsistentCards());
+    }
+
+    @Test
+    void counters_FollowCardOperations_AndAreRebuiltFromCards() {
+        BoardDTO board = boardService.createBoard("Quadro contadores");
+        List<TaskStatusDTO> columns = taskStatusService.listColumns(board.getId());
+        Long initialId = columns.get(0).getId();
+        Long pendingId = columns.get(1).getId();
+        Long cancelledId = columns.get(3).getId();
+        CardDTO single = cardService.createCard(board.getId(), "Cartão", null);
+        List<CardDTO> bulk = cardService.createCards(board.getId(), List.of(new NewCardDTO("Lote 1", null),
+                new NewCardDTO("Lote 2", null), new NewCardDTO("Lote 3", null)));
+
+        cardService.moveCard(single.getId(), pendingId);
+        cardService.moveCards(List.of(bulk.get(0).getId(), single.getId()), cancelledId);
+        cardService.blockCard(bulk.get(1).getId(), "Aguardando");
+        cardService.blockCard(bulk.get(2).getId(), "Aguardando");
+        cardService.unblockCard(bulk.get(2).getId(), "Liberado");
+        cardService.deleteCard(bulk.get(2).getId());
+
+        assertEquals(Map.of(initialId, List.of(1L, 1L), pendingId, List.of(0L, 0L), cancelledId, List.of(2L, 0L)),
+                occupancy(board.getId(), initialId, pendingId, cancelledId));
+
+        jdbcTemplate.update("update column_counter set card_count = 7, blocked_count = 0 where task_status_id = ?",
+                initialId);
+        jdbcTemplate.update("delete from column_counter where task_status_id = ?", cancelledId);
+        assertTrue(cardConsistencyService.countInconsistentCounters() >= 2);
+
+        // Sem taskboard.counters.verify-repair o job só relata a divergência
+        cardConsistencyService.verifyCounters();
+        assertTrue(cardConsistencyService.countInconsistentCounters() >= 2);
+
+        assertTrue(cardConsistencyService.rebuildCounters() >= 2);
+        assertEquals(0, cardConsistencyService.countInconsistentCounters());
+        assertEquals(Map.of(initialId, List.of(1L, 1L), pendingId, List.of(0L, 0L), cancelledId, List.of(2L, 0L)),
+                occupancy(board.getId(), initialId, pendingId, cancelledId));
+    }
+
+    // {coluna: [cartões, bloqueados]} das colunas pedidas
+    private Map<Long, List<Long>> occupancy(Long boardId, Long... taskStatusIds) {
+        List<Long> wanted = List.of(taskStatusIds);
+        return taskStatusService.columnOccupancy(boardId).stream()
+                .filter(column -> wanted.contains(column.taskStatusId()))
+                .collect(Collectors.toMap(ColumnOccupancy::taskStatusId,
+                        column -> List.of(column.cardCount(), column.blockedCount())));
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.CardColumnTimeReport;
+import br.com.board.taskboard.dto.CardMovementDTO;
+import br.com.board.taskboard.dto.ColumnTimeReport;
+import br.com.board.taskboard.dto.HistoryPage;
+import br.com.board.taskboard.dto.MovementTimeReport;
+import br.com.board.taskboard.model.Status;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag("scale")
+class CardMovementServiceScaleTest {
+
+    private static final int CARD_COUNT = 20_000;
+    // IDs fora da faixa do gerador pooled, já que o histórico é inserido direto via JDBC
+    private static final long FIRST_ID = 2_000_000_000L;
+    private static final int HISTORY_LENGTH = 5_000;
+    private static final long HISTORY_FIRST_ID = 2_100_000_000L;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardMovementService cardMovementService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void timeByColumn_LargeHistory_MatchesPerRowComputation() {
+        BoardDTO board = boardService.createBoard("Quadro relatório");
+        Long initialId = columnId(board, Status.INICIAL);
+        Long pendingId = columnId(board, Status.PENDENTE);
+
+        // Cada cartão passa i % 10 + 1 horas em A Fazer e segue aberto em Em progresso
+        LocalDateTime base = LocalDateTime.now().minusDays(30);
+        List<Object[]> cards = new ArrayList<>();
+        List<Object[]> movements = new ArrayList<>();
+        List<Object[]> pointers = new ArrayList<>();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            long cardId = FIRST_ID + i;
+            LocalDateTime exit = base.plusHours(i % 10 + 1);
+            cards.add(new Object[] {cardId, "Cartão " + i, Timestamp.valueOf(base), false, pendingId});
+            movements.add(new Object[] {FIRST_ID + 2L * i, cardId, initialId, Timestamp.valueOf(base), Timestamp.valueOf(exit)});
+            movements.add(new Object[] {FIRST_ID + 2L * i + 1, cardId, pendingId, Timestamp.valueOf(exit), null});
+            pointers.add(new Object[] {FIRST_ID + 2L * i + 1, cardId});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into card (id, title, created_at, blocked, task_status_id) values (?, ?, ?, ?, ?)", cards);
+        jdbcTemplate.batchUpdate(
+                "insert into card_movement (id, card_id, task_status_id, entry_date, exit_date) values (?, ?, ?, ?, ?)",
+                movements);
+        jdbcTemplate.batchUpdate("update card set current_movement_id = ? where id = ?", pointers);
+
+        long start = System.nanoTime();
+        List<ColumnTimeReport> byColumn = cardMovementService.timeByColumn(board.getId());
+        long aggregateNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<MovementTimeReport> rows = cardMovementService.cardTimeInColumn(board.getId());
+        long perRowNanos = System.nanoTime() - start;
+        System.out.printf("Tempo por coluna com %d movimentações: agregado %d ms, por linha %d ms%n",
+                movements.size(), aggregateNanos / 1_000_000, perRowNanos / 1_000_000);
+
+        double expectedInitialTotal = rows.stream()
+                .filter(row -> row.taskStatusId().equals(initialId))
+                .mapToDouble(MovementTimeReport::timeInHours)
+                .sum();
+        ColumnTimeReport initial = byColumn.get(0);
+        assertEquals(initialId, initial.taskStatusId());
+        assertEquals(CARD_COUNT, initial.movementCount());
+        assertEquals(expectedInitialTotal, initial.totalHours(), 0.001);
+        assertEquals(5.5, initial.averageHours(), 0.001);
+        assertEquals(10.0, initial.maxHours(), 0.001);
+        assertEquals(pendingId, byColumn.get(1).taskStatusId());
+
+        List<CardColumnTimeReport> byCard = cardMovementService.timeByCardAndColumn(board.getId());
+        assertEquals(2 * CARD_COUNT, byCard.size());
+        assertEquals(1.0, byCard.get(0).totalHours(), 0.001);
+
+        assertEquals(100, cardMovementService.cardTimeInColumn(board.getId(), 0, 100).size());
+    }
+
+    @Test
+    void listMovements_LongHistory_KeysetPagesCostTheSameAtAnyPosition() {
+        BoardDTO board = boardService.createBoard("Quadro histórico longo");
+        Long initialId = columnId(board, Status.INICIAL);
+        Long pendingId = columnId(board, Status.PENDENTE);
+        long cardId = HISTORY_FIRST_ID;
+        jdbcTemplate.update("insert into card (id, title, created_at, blocked, task_status_id) values (?, ?, ?, ?, ?)",
+                cardId, "Cartão antigo", Timestamp.valueOf(LocalDateTime.now().minusYears(1)), false, pendingId);
+
+        // Vai e volta entre as colunas; entradas em pares com a mesma data para exercitar o desempate pelo ID
+        LocalDateTime base = LocalDateTime.now().minusYears(1);
+        List<Object[]> movements = new ArrayList<>();
+        for (int i = 0; i < HISTORY_LENGTH; i++) {
+            LocalDateTime entry = base.plusHours(i / 2);
+            Timestamp exit = i == HISTORY_LENGTH - 1 ? null : Timestamp.valueOf(base.plusHours(i / 2 + 1));
+            movements.add(new Object[] {HISTORY_FIRST_ID + i, cardId, i % 2 == 0 ? initialId : pendingId,
+                    Timestamp.valueOf(entry), exit});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into card_movement (id, card_id, task_status_id, entry_date, exit_date) values (?, ?, ?, ?, ?)",
+                movements);
+        jdbcTemplate.update("update card set current_movement_id = ? where id = ?",
+                HISTORY_FIRST_ID + HISTORY_LENGTH - 1, cardId);
+
+        List<Long> seen = new ArrayList<>();
+        long firstPageNanos = 0;
+        long lastPageNanos = 0;
+        HistoryPage<CardMovementDTO> page = null;
+        do {
+            long start = System.nanoTime();
+            page = cardMovementService.listMovements(cardId, page == null ? null : page.next(), 100);
+            long nanos = System.nanoTime() - start;
+            if (seen.isEmpty()) {
+                firstPageNanos = nanos;
+            }
+            lastPageNanos = nanos;
+            page.items().forEach(movement -> seen.add(movement.getId()));
+        } while (page.hasNext());
+        System.out.printf("Histórico com %d movimentações em páginas de 100: primeira %d µs, última %d µs%n",
+                HISTORY_LENGTH, firstPageNanos / 1_000, lastPageNanos / 1_000);
+
+        assertEquals(HISTORY_LENGTH, seen.size());
+        assertEquals(HISTORY_LENGTH, seen.stream().distinct().count());
+        assertEquals(HISTORY_FIRST_ID, seen.get(0));
+        assertEquals(HISTORY_FIRST_ID + HISTORY_LENGTH - 1, seen.get(seen.size() - 1));
+    }
+
+    private Long columnId(BoardDTO board, Status status) {
+        return jdbcTemplate.queryForObject("select id from task_status where board_id = ? and status = ?",
+                Long.class, board.getId(), status.name());
+    }
+}
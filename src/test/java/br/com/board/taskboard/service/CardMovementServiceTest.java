@@ -1,6 +1,10 @@
 package br.com.board.taskboard.service;
 
 import br.com.board.taskboard.dto.CardMovementDTO;
+import br.com.board.taskboard.dto.ColumnTimeReport;
+import br.com.board.taskboard.dto.HistoryCursor;
+import br.com.board.taskboard.dto.HistoryPage;
+import br.com.board.taskboard.dto.MovementTimeReport;
 import br.com.board.taskboard.exception.TaskboardException;
 import br.com.board.taskboard.model.Board;
 import br.com.board.taskboard.model.Card;
@@ -16,15 +20,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,59 +55,40 @@ class CardMovementServiceTest {
         Long boardId = 1L;
         Board board = new Board();
         board.setId(boardId);
+        LocalDateTime now = LocalDateTime.of(2025, 7, 28, 18, 0);
 
-        Card card = new Card();
-        card.setId(2L);
-        TaskStatus taskStatus = new TaskStatus();
-        taskStatus.setId(3L);
-
-        CardMovement movement1 = new CardMovement();
-        movement1.setId(4L);
-        movement1.setCard(card);
-        movement1.setTaskStatus(taskStatus);
         LocalDateTime entryDate1 = LocalDateTime.of(2025, 7, 28, 10, 0);
         LocalDateTime exitDate1 = LocalDateTime.of(2025, 7, 28, 12, 0);
-        movement1.setEntryDate(entryDate1);
-        movement1.setExitDate(exitDate1);
-
-        CardMovement movement2 = new CardMovement();
-        movement2.setId(5L);
-        movement2.setCard(card);
-        movement2.setTaskStatus(taskStatus);
         LocalDateTime entryDate2 = LocalDateTime.of(2025, 7, 28, 12, 0);
-        movement2.setEntryDate(entryDate2);
-        movement2.setExitDate(null);
-
-        List<CardMovement> movements = Arrays.asList(movement1, movement2);
+        List<MovementTimeReport> movements = Arrays.asList(
+                new MovementTimeReport(4L, 2L, 3L, entryDate1, exitDate1, 2.0),
+                new MovementTimeReport(5L, 2L, 3L, entryDate2, null, 6.0));
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        when(cardMovementRepository.findByCardTaskStatusBoard(board)).thenReturn(movements);
+        when(cardMovementRepository.findTimeReportByBoard(board, now)).thenReturn(movements);
         try (MockedStatic<DateUtil> dateUtil = mockStatic(DateUtil.class)) {
-            dateUtil.when(() -> DateUtil.calculateHours(entryDate1, exitDate1)).thenReturn(2.0);
-            dateUtil.when(() -> DateUtil.calculateHours(entryDate2, null)).thenReturn(0.0);
+            dateUtil.when(DateUtil::now).thenReturn(now);
 
-            List<Map<String, Object>> result = cardMovementService.cardTimeInColumn(boardId);
+            List<MovementTimeReport> result = cardMovementService.cardTimeInColumn(boardId);
 
             assertEquals(2, result.size());
 
-            Map<String, Object> result1 = result.get(0);
-            assertEquals(4L, result1.get("id"));
-            assertEquals(2L, result1.get("cardId"));
-            assertEquals(3L, result1.get("taskStatusId"));
-            assertEquals(entryDate1, result1.get("entryDate"));
-            assertEquals(exitDate1, result1.get("exitDate"));
-            assertEquals(2.0, result1.get("timeInHours"));
-
-            Map<String, Object> result2 = result.get(1);
-            assertEquals(5L, result2.get("id"));
-            assertEquals(2L, result2.get("cardId"));
-            assertEquals(3L, result2.get("taskStatusId"));
-            assertEquals(entryDate2, result2.get("entryDate"));
-            assertNull(result2.get("exitDate"));
-            assertEquals(0.0, result2.get("timeInHours"));
+            MovementTimeReport result1 = result.get(0);
+            assertEquals(4L, result1.id());
+            assertEquals(2L, result1.cardId());
+            assertEquals(3L, result1.taskStatusId());
+            assertEquals(entryDate1, result1.entryDate());
+            assertEquals(exitDate1, result1.exitDate());
+            assertEquals(2.0, result1.timeInHours());
+
+            MovementTimeReport result2 = result.get(1);
+            assertEquals(5L, result2.id());
+            assertEquals(entryDate2, result2.entryDate());
+            assertNull(result2.exitDate());
+            assertEquals(6.0, result2.timeInHours());
 
             verify(boardRepository).findById(boardId);
-            verify(cardMovementRepository).findByCardTaskStatusBoard(board);
+            verify(cardMovementRepository).findTimeReportByBoard(board, now);
         }
     }
 
@@ -123,13 +112,68 @@ class CardMovementServiceTest {
         board.setId(boardId);
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        when(cardMovementRepository.findByCardTaskStatusBoard(board)).thenReturn(Collections.emptyList());
+        when(cardMovementRepository.findTimeReportByBoard(eq(board), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
 
-        List<Map<String, Object>> result = cardMovementService.cardTimeInColumn(boardId);
+        List<MovementTimeReport> result = cardMovementService.cardTimeInColumn(boardId);
 
         assertTrue(result.isEmpty());
         verify(boardRepository).findById(boardId);
-        verify(cardMovementRepository).findByCardTaskStatusBoard(board);
+        verify(cardMovementRepository).findTimeReportByBoard(eq(board), any(LocalDateTime.class));
+    }
+
+    @Test
+    void cardTimeInColumn_Paged_ReturnsRequestedPage() {
+        Long boardId = 1L;
+        Board board = new Board();
+        board.setId(boardId);
+        LocalDateTime now = LocalDateTime.of(2025, 7, 28, 18, 0);
+        MovementTimeReport movement = new MovementTimeReport(4L, 2L, 3L,
+                LocalDateTime.of(2025, 7, 28, 10, 0), LocalDateTime.of(2025, 7, 28, 13, 0), 3.0);
+
+        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+        when(cardMovementRepository.findTimeReportPageByBoard(board, now, PageRequest.of(2, 50)))
+                .thenReturn(new PageImpl<>(List.of(movement)));
+        try (MockedStatic<DateUtil> dateUtil = mockStatic(DateUtil.class)) {
+            dateUtil.when(DateUtil::now).thenReturn(now);
+
+            List<MovementTimeReport> result = cardMovementService.cardTimeInColumn(boardId, 2, 50);
+
+            assertEquals(List.of(movement), result);
+            verify(cardMovementRepository, never()).findTimeReportByBoard(any(Board.class), any(LocalDateTime.class));
+        }
+    }
+
+    @Test
+    void timeByColumn_ValidBoardId_ReturnsDatabaseAggregates() {
+        Long boardId = 1L;
+        Board board = new Board();
+        board.setId(boardId);
+        LocalDateTime now = LocalDateTime.of(2025, 7, 28, 18, 0);
+        List<ColumnTimeReport> reports = List.of(new ColumnTimeReport(2L, "A Fazer", 3, 6.0, 2.0, 4.0));
+
+        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
+        when(cardMovementRepository.sumTimeByColumn(board, now)).thenReturn(reports);
+        try (MockedStatic<DateUtil> dateUtil = mockStatic(DateUtil.class)) {
+            dateUtil.when(DateUtil::now).thenReturn(now);
+
+            List<ColumnTimeReport> result = cardMovementService.timeByColumn(boardId);
+
+            assertEquals(reports, result);
+            verify(cardMovementRepository).sumTimeByColumn(board, now);
+            verify(cardMovementRepository, never()).findByCardTaskStatusBoard(any(Board.class));
+        }
+    }
+
+    @Test
+    void timeByCardAndColumn_BoardNotFound_ThrowsTaskboardException() {
+        Long boardId = 1L;
+        when(boardRepository.findById(boardId)).thenReturn(Optional.empty());
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cardMovementService.timeByCardAndColumn(boardId));
+        assertEquals("Quadro não encontrado com o ID: " + boardId, exception.getMessage());
+        verifyNoInteractions(cardMovementRepository);
     }
 
     @Test
@@ -212,4 +256,81 @@ class CardMovementServiceTest {
         verify(cardRepository).findById(cardId);
         verify(cardMovementRepository).findByCard(card);
     }
-}
\ No newline at end of file
+
+    @Test
+    void listMovements_FirstPage_ReturnsCursorWhenMoreRowsExist() {
+        Long cardId = 1L;
+        Card card = new Card();
+        card.setId(cardId);
+        TaskStatus taskStatus = new TaskStatus();
+        taskStatus.setId(2L);
+        List<CardMovement> movements = new ArrayList<>();
+        for (long i = 0; i < 3; i++) {
+            CardMovement movement = new CardMovement();
+            movement.setId(10L + i);
+            movement.setCard(card);
+            movement.setTaskStatus(taskStatus);
+            movement.setEntryDate(LocalDateTime.of(2025, 7, 28, 10, 0).plusHours(i));
+            movements.add(movement);
+        }
+
+        when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
+        when(cardMovementRepository.findPageByCard(card, Limit.of(3))).thenReturn(movements);
+
+        HistoryPage<CardMovementDTO> page = cardMovementService.listMovements(cardId, null, 2);
+
+        assertEquals(2, page.items().size());
+        assertTrue(page.hasNext());
+        assertEquals(new HistoryCursor(LocalDateTime.of(2025, 7, 28, 11, 0), 11L), page.next());
+        verify(cardMovementRepository, never()).findByCard(any(Card.class));
+    }
+
+    @Test
+    void listMovements_AfterCursor_UsesKeysetQueryAndEndsOnLastPage() {
+        Long cardId = 1L;
+        Card card = new Card();
+        card.setId(cardId);
+        TaskStatus taskStatus = new TaskStatus();
+        taskStatus.setId(2L);
+        CardMovement movement = new CardMovement();
+        movement.setId(12L);
+        movement.setCard(card);
+        movement.setTaskStatus(taskStatus);
+        movement.setEntryDate(LocalDateTime.of(2025, 7, 28, 12, 0));
+        HistoryCursor cursor = new HistoryCursor(LocalDateTime.of(2025, 7, 28, 11, 0), 11L);
+
+        when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
+        when(cardMovementRepository.findPageByCardAfter(card, cursor.date(), cursor.id(), Limit.of(3)))
+                .thenReturn(List.of(movement));
+
+        HistoryPage<CardMovementDTO> page = cardMovementService.listMovements(cardId, cursor, 2);
+
+        assertEquals(1, page.items().size());
+        assertEquals(12L, page.items().get(0).getId());
+        assertFalse(page.hasNext());
+        verify(cardMovementRepository, never()).findPageByCard(any(Card.class), any(Limit.class));
+    }
+
+    @Test
+    void listMovements_PageSizeOutOfRange_ThrowsTaskboardException() {
+        for (int size : new int[] {0, -1, 101, Integer.MAX_VALUE}) {
+            TaskboardException exception = assertThrows(TaskboardException.class,
+                    () -> cardMovementService.listMovements(1L, null, size));
+            assertEquals("O tamanho da página deve estar entre 1 e 100.", exception.getMessage());
+        }
+        verifyNoInteractions(cardRepository, cardMovementRepository);
+    }
+
+    @Test
+    void cardTimeInColumn_PageOutOfRange_ThrowsTaskboardException() {
+        for (int size : new int[] {0, -1, 101, Integer.MAX_VALUE}) {
+            TaskboardException exception = assertThrows(TaskboardException.class,
+                    () -> cardMovementService.cardTimeInColumn(1L, 0, size));
+            assertEquals("O tamanho da página deve estar entre 1 e 100.", exception.getMessage());
+        }
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cardMovementService.cardTimeInColumn(1L, -1, 20));
+        assertEquals("A página não pode ser negativa.", exception.getMessage());
+        verifyNoInteractions(boardRepository, cardMovementRepository);
+    }
+}
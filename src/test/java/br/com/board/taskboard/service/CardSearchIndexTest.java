@@ -0,0 +1,159 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.CardText;
+import br.com.board.taskboard.service.CardSearchIndex.SearchHit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardSearchIndexTest {
+
+    private static final int CARD_COUNT = 1_000_000;
+    private static final int BOARD_COUNT = 20;
+    private static final int VOCABULARY = 20_000;
+    private static final int QUERIES = 2_000;
+    private static final long MARKED_CARD = 777_777L;
+
+    @Test
+    void search_AccentsAndTitleMatches_RanksTitleFirstAndRequiresAllTerms() {
+        CardSearchIndex index = new CardSearchIndex(null);
+        index.load(List.of(List.of(
+                new CardText(1L, 1L, "Atualizar documentação", "Revisão do contrato com o fornecedor"),
+                new CardText(2L, 1L, "Revisão do contrato", "Conferir cláusulas"),
+                new CardText(3L, 1L, "Contrato novo", "Sem revisão ainda"),
+                new CardText(4L, 2L, "Revisão do contrato", "Outro quadro"))).iterator());
+
+        List<SearchHit> hits = index.search(1L, "REVISAO contrato", 10);
+
+        assertEquals(List.of(2L, 3L, 1L), hits.stream().map(SearchHit::cardId).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+        assertEquals(List.of(2L), index.search(1L, "revisão contrato cláusulas", 10).stream()
+                .map(SearchHit::cardId).toList());
+        assertEquals(List.of(2L), index.search(1L, "contrato", 1).stream().map(SearchHit::cardId).toList());
+        assertTrue(index.search(1L, "de do com", 10).isEmpty());
+        assertTrue(index.search(99L, "contrato", 10).isEmpty());
+    }
+
+    @Test
+    void addAndRemove_OutsideTransaction_AppliedImmediately() {
+        CardSearchIndex index = new CardSearchIndex(null);
+        index.add(List.of(new CardText(10L, 1L, "Deploy em produção", null),
+                new CardText(5L, 1L, "Deploy em homologação", null)));
+        index.add(List.of(new CardText(7L, 1L, "Deploy", "Rollback do deploy")));
+
+        assertEquals(List.of(7L, 5L, 10L), index.search(1L, "deploy", 10).stream()
+                .map(SearchHit::cardId).toList());
+
+        index.remove(List.of(new CardText(7L, 1L, "Deploy", "Rollback do deploy")));
+
+        assertEquals(List.of(5L, 10L), index.search(1L, "deploy", 10).stream().map(SearchHit::cardId).toList());
+        assertTrue(index.search(1L, "rollback", 10).isEmpty());
+    }
+
+    @Test
+    void load_WritesCommittedDuringLoad_ReplayedOnNewIndex() {
+        CardSearchIndex index = new CardSearchIndex(null);
+        CardText first = new CardText(1L, 1L, "Migrar banco", null);
+        CardText second = new CardText(2L, 1L, "Migrar filas", null);
+        CardText third = new CardText(3L, 1L, "Migrar cache", null);
+        List<List<CardText>> pages = List.of(List.of(first), List.of(second));
+        Iterator<List<CardText>> reading = new Iterator<>() {
+            private int page;
+
+            @Override
+            public boolean hasNext() {
+                return page < pages.size();
+            }
+
+            @Override
+            public List<CardText> next() {
+                // Entre as páginas: um cartão novo, um já lido é apagado e outro ainda por ler é incluído
+                if (page == 1) {
+                    index.add(List.of(third));
+                    index.remove(List.of(first));
+                    index.add(List.of(second));
+                }
+                return pages.get(page++);
+            }
+        };
+
+        assertEquals(2, index.load(reading));
+        assertEquals(List.of(2L, 3L), index.search(1L, "migrar", 10).stream().map(SearchHit::cardId).toList());
+        assertTrue(index.search(1L, "banco", 10).isEmpty());
+    }
+
+    // Mede a carga (páginas indexadas em paralelo, como na subida) e a latência média de consulta com 1M de cartões
+    @Test
+    @Tag("scale")
+    void load_OneMillionCards_BuildsIndexAndAnswersQueriesQuickly() {
+        CardSearchIndex index = new CardSearchIndex(null);
+
+        long start = System.nanoTime();
+        int indexed = index.load(new SyntheticCards());
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(CARD_COUNT, indexed);
+        assertEquals(List.of(MARKED_CARD), index.search(MARKED_CARD % BOARD_COUNT, "Marcação única", 10).stream()
+                .map(SearchHit::cardId).toList());
+
+        SplittableRandom random = new SplittableRandom(42);
+        long hits = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            String query = word(random) + (i % 2 == 0 ? "" : " " + word(random));
+            List<SearchHit> results = index.search((long) random.nextInt(BOARD_COUNT), query, 20);
+            for (int j = 1; j < results.size(); j++) {
+                assertTrue(results.get(j - 1).score() >= results.get(j).score());
+            }
+            hits += results.size();
+        }
+        double queryMicros = (System.nanoTime() - start) / 1_000.0 / QUERIES;
+
+        System.out.printf("Índice de busca: %d cartões em %d ms; consulta média %.1f µs (%d resultados)%n",
+                indexed, buildMillis, queryMicros, hits);
+        assertTrue(hits > 0);
+    }
+
+    // Palavras com frequência log-uniforme: poucas muito comuns, muitas raras
+    private static String word(SplittableRandom random) {
+        int rank = (int) Math.pow(VOCABULARY, random.nextDouble());
+        return "t" + Integer.toString(rank, 36);
+    }
+
+    // Gera cada página só quando pedida, para não manter 1M de textos na memória ao mesmo tempo
+    private static final class SyntheticCards implements Iterator<List<CardText>> {
+
+        private final SplittableRandom random = new SplittableRandom(7);
+        private long nextId = 1;
+
+        @Override
+        public boolean hasNext() {
+            return nextId <= CARD_COUNT;
+        }
+
+        @Override
+        public List<CardText> next() {
+            List<CardText> page = new ArrayList<>(CardSearchIndex.PAGE_SIZE);
+            for (int i = 0; i < CardSearchIndex.PAGE_SIZE && nextId <= CARD_COUNT; i++, nextId++) {
+                String title = words(3 + random.nextInt(4));
+                String description = nextId == MARKED_CARD ? "marcacao unica" : words(8 + random.nextInt(12));
+                page.add(new CardText(nextId, nextId % BOARD_COUNT, title, description));
+            }
+            return page;
+        }
+
+        private String words(int count) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                text.append(word(random)).append(' ');
+            }
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.CardSearchResult;
+import br.com.board.taskboard.dto.NewCardDTO;
+import br.com.board.taskboard.exception.TaskboardException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CardSearchServiceTest {
+
+    @Autowired
+    private CardSearchService cardSearchService;
+
+    @Autowired
+    private CardSearchIndex cardSearchIndex;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Test
+    void search_CardsCreatedAndDeleted_IndexFollowsCommittedChanges() {
+        BoardDTO board = boardService.createBoard("Quadro busca");
+        BoardDTO other = boardService.createBoard("Outro quadro busca");
+        CardDTO titleMatch = cardService.createCard(board.getId(), "Migração do faturamento", "Planilha antiga");
+        List<CardDTO> batch = cardService.createCards(board.getId(), List.of(
+                newCard("Relatório mensal", "Depende da migração do faturamento"),
+                newCard("Faturamento", "Sem relação")));
+        cardService.createCard(other.getId(), "Migração do faturamento", "Outro quadro");
+
+        List<CardSearchResult> results = cardSearchService.search(board.getId(), "migracao FATURAMENTO", 20);
+
+        assertEquals(List.of(titleMatch.getId(), batch.get(0).getId()),
+                results.stream().map(CardSearchResult::cardId).toList());
+        assertEquals("Migração do faturamento", results.get(0).title());
+        assertEquals(titleMatch.getTaskStatusId(), results.get(0).taskStatusId());
+
+        cardService.deleteCard(titleMatch.getId());
+        cardService.deleteCards(List.of(batch.get(1).getId()));
+
+        assertEquals(List.of(batch.get(0).getId()), cardSearchService.search(board.getId(), "migração", 20)
+                .stream().map(CardSearchResult::cardId).toList());
+        assertTrue(cardSearchService.search(board.getId(), "sem relacao", 20).isEmpty());
+    }
+
+    @Test
+    void rebuild_ExistingCards_SameResultsAsIncrementalIndex() {
+        BoardDTO board = boardService.createBoard("Quadro busca recarga");
+        cardService.createCard(board.getId(), "Índice de busca", "Recarga na subida");
+        cardService.createCard(board.getId(), "Busca", "Índice por quadro");
+        List<CardSearchResult> incremental = cardSearchService.search(board.getId(), "indice busca", 20);
+
+        assertTrue(cardSearchIndex.rebuild() >= 2);
+
+        assertEquals(2, incremental.size());
+        assertEquals(incremental, cardSearchService.search(board.getId(), "indice busca", 20));
+    }
+
+    @Test
+    void search_InvalidInput_ThrowsTaskboardException() {
+        BoardDTO board = boardService.createBoard("Quadro busca inválida");
+
+        assertThrows(TaskboardException.class, () -> cardSearchService.search(board.getId(), "  ", 20));
+        assertThrows(TaskboardException.class, () -> cardSearchService.search(board.getId(), "busca", 0));
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cardSearchService.search(-1L, "busca", 20));
+        assertEquals("Quadro não encontrado com o ID: -1", exception.getMessage());
+    }
+
+    private NewCardDTO newCard(String title, String description) {
+        NewCardDTO card = new NewCardDTO();
+        card.setTitle(title);
+        card.setDescription(description);
+        return card;
+    }
+}
@@ -0,0 +1,159 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.BulkOperationResultDTO;
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.NewCardDTO;
+import br.com.board.taskboard.repository.BoardRepository;
+import br.com.board.taskboard.repository.SqlCaptureInspector;
+import br.com.board.taskboard.repository.TaskStatusRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.com.board.taskboard.repository.SqlCaptureInspector")
+@Tag("scale")
+class CardServiceScaleTest {
+
+    private static final int CARD_COUNT = 2_000;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void createCards_ComparedWithPerCardLoop_UsesFarFewerStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        BoardDTO loopBoard = boardService.createBoard("Quadro loop");
+        BoardDTO bulkBoard = boardService.createBoard("Quadro lote");
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            cardService.createCard(loopBoard.getId(), "Cartão " + i, "Descrição " + i);
+        }
+        long loopNanos = System.nanoTime() - start;
+        long loopStatements = statistics.getPrepareStatementCount();
+
+        List<NewCardDTO> newCards = new ArrayList<>();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            newCards.add(new NewCardDTO("Cartão " + i, "Descrição " + i));
+        }
+        statistics.clear();
+        start = System.nanoTime();
+        List<CardDTO> created = cardService.createCards(bulkBoard.getId(), newCards);
+        long bulkNanos = System.nanoTime() - start;
+        long bulkStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("createCard em loop: %.0f cartões/s, %d statements%n",
+                CARD_COUNT / (loopNanos / 1e9), loopStatements);
+        System.out.printf("createCards em lote: %.0f cartões/s, %d statements%n",
+                CARD_COUNT / (bulkNanos / 1e9), bulkStatements);
+
+        assertEquals(CARD_COUNT, created.size());
+        assertEquals(CARD_COUNT, created.stream().map(CardDTO::getId).distinct().count());
+        assertTrue(bulkStatements * 10 < loopStatements,
+                "Lote: " + bulkStatements + " statements, loop: " + loopStatements);
+    }
+
+    @Test
+    void createAndMoveCard_WarmLayoutCache_SkipsColumnAndBoardQueries() {
+        BoardDTO board = boardService.createBoard("Quadro cache");
+        Long pendingColumnId = taskStatusRepository.findByBoardOrderByPriority(
+                boardRepository.findById(board.getId()).orElseThrow()).get(1).getId();
+        // Primeira chamada carrega o layout do quadro no cache
+        cardService.moveCard(cardService.createCard(board.getId(), "Aquecimento", null).getId(), pendingColumnId);
+
+        SqlCaptureInspector.clear();
+        for (int i = 0; i < 100; i++) {
+            CardDTO card = cardService.createCard(board.getId(), "Cartão " + i, null);
+            cardService.moveCard(card.getId(), pendingColumnId);
+        }
+
+        List<String> lookups = SqlCaptureInspector.selects().stream()
+                .filter(sql -> sql.contains("from task_status") || sql.contains("from board"))
+                .toList();
+        assertEquals(List.of(), lookups);
+    }
+
+    @Test
+    void moveCards_HundredsOfCards_UsesConstantNumberOfStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        BoardDTO board = boardService.createBoard("Quadro sprint");
+        List<NewCardDTO> newCards = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            newCards.add(new NewCardDTO("Cartão " + i, null));
+        }
+        List<Long> cardIds = cardService.createCards(board.getId(), newCards).stream()
+                .map(CardDTO::getId)
+                .toList();
+        Long pendingColumnId = taskStatusRepository.findByBoardOrderByPriority(
+                boardRepository.findById(board.getId()).orElseThrow()).get(1).getId();
+
+        statistics.clear();
+        BulkOperationResultDTO result = cardService.moveCards(cardIds, pendingColumnId);
+        long statements = statistics.getPrepareStatementCount();
+        System.out.printf("moveCards com %d cartões: %d statements%n", cardIds.size(), statements);
+
+        assertEquals(cardIds.size(), result.getProcessedIds().size());
+        assertTrue(result.getRejected().isEmpty());
+        assertTrue(statements < 50, "Statements: " + statements);
+        Integer openMovements = jdbcTemplate.queryForObject(
+                "select count(*) from card_movement m join card c on c.id = m.card_id " +
+                "where c.task_status_id = ? and m.exit_date is null and m.task_status_id = ?",
+                Integer.class, pendingColumnId, pendingColumnId);
+        assertEquals(cardIds.size(), openMovements);
+    }
+
+    @Test
+    void deleteCards_HundredsOfCardsWithHistory_UsesConstantNumberOfStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        BoardDTO board = boardService.createBoard("Quadro limpeza");
+        List<NewCardDTO> newCards = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            newCards.add(new NewCardDTO("Cartão " + i, null));
+        }
+        List<Long> cardIds = cardService.createCards(board.getId(), newCards).stream()
+                .map(CardDTO::getId)
+                .toList();
+        Long pendingColumnId = taskStatusRepository.findByBoardOrderByPriority(
+                boardRepository.findById(board.getId()).orElseThrow()).get(1).getId();
+        cardService.moveCards(cardIds, pendingColumnId);
+
+        statistics.clear();
+        BulkOperationResultDTO result = cardService.deleteCards(cardIds);
+        long statements = statistics.getPrepareStatementCount();
+        System.out.printf("deleteCards com %d cartões: %d statements%n", cardIds.size(), statements);
+
+        assertEquals(cardIds.size(), result.getProcessedIds().size());
+        assertTrue(statements < 10, "Statements: " + statements);
+        Integer remainingMovements = jdbcTemplate.queryForObject(
+                "select count(*) from card_movement where task_status_id = ?", Integer.class, pendingColumnId);
+        assertEquals(0, remainingMovements);
+    }
+}
@@ -1,7 +1,13 @@
 package br.com.board.taskboard.service;
 
 import br.com.board.taskboard.dto.BlockHistoryDTO;
+import br.com.board.taskboard.dto.BoardLayout;
+import br.com.board.taskboard.dto.BulkOperationResultDTO;
 import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.CardFilter;
+import br.com.board.taskboard.dto.CardText;
+import br.com.board.taskboard.dto.ColumnLayout;
+import br.com.board.taskboard.dto.NewCardDTO;
 import br.com.board.taskboard.exception.TaskboardException;
 import br.com.board.taskboard.model.BlockHistory;
 import br.com.board.taskboard.model.Board;
@@ -13,22 +19,30 @@ import br.com.board.taskboard.repository.BlockHistoryRepository;
 import br.com.board.taskboard.repository.BoardRepository;
 import br.com.board.taskboard.repository.CardMovementRepository;
 import br.com.board.taskboard.repository.CardRepository;
+import br.com.board.taskboard.repository.ColumnCounterRepository;
 import br.com.board.taskboard.repository.TaskStatusRepository;
 import br.com.board.taskboard.util.DateUtil;
+import br.com.board.taskboard.util.DurationHistogram;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,16 +63,32 @@ class CardServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private BoardLayoutCache boardLayoutCache;
+
+    @Mock
+    private ColumnCounterRepository columnCounterRepository;
+
+    @Mock
+    private CycleTimeService cycleTimeService;
+
+    @Mock
+    private CardSearchIndex cardSearchIndex;
+
     @InjectMocks
     private CardService cardService;
 
+    @Captor
+    private ArgumentCaptor<TreeMap<Long, DurationHistogram>> columnTimes;
+
+    @Captor
+    private ArgumentCaptor<TreeMap<Long, DurationHistogram>> cycleTimes;
+
     @Test
     void createCard_ValidInput_ReturnsCardDTO() {
         Long boardId = 1L;
         String title = "Tarefa Teste";
         String description = "Descrição Teste";
-        Board board = new Board();
-        board.setId(boardId);
         TaskStatus initialStatus = new TaskStatus();
         initialStatus.setId(2L);
         initialStatus.setStatus(Status.INICIAL);
@@ -71,8 +101,10 @@ class CardServiceTest {
         card.setBlocked(false);
         card.setTaskStatus(initialStatus);
 
-        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        when(taskStatusRepository.findByBoardAndStatus(board, Status.INICIAL)).thenReturn(Optional.of(initialStatus));
+        when(columnCounterRepository.adjust(anyLong(), anyLong(), anyLong())).thenReturn(1);
+        when(boardLayoutCache.layout(boardId)).thenReturn(new BoardLayout(boardId,
+                List.of(new ColumnLayout(2L, Status.INICIAL, 1, boardId, null))));
+        when(taskStatusRepository.getReferenceById(2L)).thenReturn(initialStatus);
         when(cardRepository.save(any(Card.class))).thenReturn(card);
         when(cardMovementRepository.save(any(CardMovement.class))).thenReturn(new CardMovement());
         try (MockedStatic<DateUtil> dateUtil = Mockito.mockStatic(DateUtil.class)) {
@@ -86,13 +118,54 @@ class CardServiceTest {
             assertEquals(now, result.getCreatedAt());
             assertFalse(result.isBlocked());
             assertEquals(2L, result.getTaskStatusId());
-            verify(boardRepository).findById(boardId);
-            verify(taskStatusRepository).findByBoardAndStatus(board, Status.INICIAL);
+            verify(boardLayoutCache).layout(boardId);
+            verify(taskStatusRepository).getReferenceById(2L);
+            verifyNoInteractions(boardRepository);
             verify(cardRepository).save(any(Card.class));
             verify(cardMovementRepository).save(any(CardMovement.class));
+            verify(cardSearchIndex).add(List.of(new CardText(result.getId(), boardId, title, description)));
         }
     }
 
+    @Test
+    void createCard_InitialColumnAtWipLimit_ThrowsTaskboardException() {
+        Long boardId = 1L;
+        TaskStatus initialStatus = new TaskStatus();
+        initialStatus.setId(2L);
+
+        when(boardLayoutCache.layout(boardId)).thenReturn(new BoardLayout(boardId,
+                List.of(new ColumnLayout(2L, Status.INICIAL, 1, boardId, 3))));
+        when(taskStatusRepository.getReferenceById(2L)).thenReturn(initialStatus);
+        when(cardRepository.save(any(Card.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cardMovementRepository.save(any(CardMovement.class))).thenReturn(new CardMovement());
+        when(columnCounterRepository.adjustWithinLimit(2L, 1, 3)).thenReturn(0);
+        when(columnCounterRepository.existsById(2L)).thenReturn(true);
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cardService.createCard(boardId, "Tarefa", null));
+        assertEquals("Limite de WIP da coluna atingido (3 cartões). ID da coluna: 2", exception.getMessage());
+        verify(columnCounterRepository, never()).adjust(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void createCard_InitialColumnWithoutCounter_ThrowsTaskboardException() {
+        Long boardId = 1L;
+        TaskStatus initialStatus = new TaskStatus();
+        initialStatus.setId(2L);
+
+        when(boardLayoutCache.layout(boardId)).thenReturn(new BoardLayout(boardId,
+                List.of(new ColumnLayout(2L, Status.INICIAL, 1, boardId, 3))));
+        when(taskStatusRepository.getReferenceById(2L)).thenReturn(initialStatus);
+        when(cardRepository.save(any(Card.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cardMovementRepository.save(any(CardMovement.class))).thenReturn(new CardMovement());
+        when(columnCounterRepository.adjustWithinLimit(2L, 1, 3)).thenReturn(0);
+        when(columnCounterRepository.existsById(2L)).thenReturn(false);
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cardService.createCard(boardId, "Tarefa", null));
+        assertEquals("Contador da coluna não encontrado. ID da coluna: 2", exception.getMessage());
+    }
+
     @Test
     void createCard_EmptyTitle_ThrowsTaskboardException() {
         Long boardId = 1L;
@@ -105,12 +178,79 @@ class CardServiceTest {
     @Test
     void createCard_BoardNotFound_ThrowsTaskboardException() {
         Long boardId = 1L;
-        when(boardRepository.findById(boardId)).thenReturn(Optional.empty());
+        when(boardLayoutCache.layout(boardId)).thenReturn(new BoardLayout(boardId, List.of()));
+        when(boardRepository.existsById(boardId)).thenReturn(false);
 
         TaskboardException exception = assertThrows(TaskboardException.class,
                 () -> cardService.createCard(boardId, "Tarefa", "Descrição"));
         assertEquals("Quadro não encontrado com o ID: " + boardId, exception.getMessage());
-        verify(boardRepository).findById(boardId);
+        verify(boardRepository).existsById(boardId);
+        verifyNoInteractions(taskStatusRepository, cardRepository, cardMovementRepository);
+    }
+
+    @Test
+    void createCards_ValidInput_ResolvesBoardOnceAndSavesInBatch() {
+        Long boardId = 1L;
+        TaskStatus initialStatus = new TaskStatus();
+        initialStatus.setId(2L);
+        initialStatus.setStatus(Status.INICIAL);
+        List<NewCardDTO> newCards = List.of(
+                new NewCardDTO("Tarefa 1", "Descrição 1"),
+                new NewCardDTO("Tarefa 2", null));
+        LocalDateTime now = LocalDateTime.of(2025, 7, 28, 18, 0);
+
+        when(columnCounterRepository.adjust(anyLong(), anyLong(), anyLong())).thenReturn(1);
+        when(boardLayoutCache.layout(boardId)).thenReturn(new BoardLayout(boardId,
+                List.of(new ColumnLayout(2L, Status.INICIAL, 1, boardId, null))));
+        when(taskStatusRepository.getReferenceById(2L)).thenReturn(initialStatus);
+        when(cardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cardMovementRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        try (MockedStatic<DateUtil> dateUtil = Mockito.mockStatic(DateUtil.class)) {
+            dateUtil.when(() -> DateUtil.now()).thenReturn(now);
+
+            List<CardDTO> result = cardService.createCards(boardId, newCards);
+
+            assertEquals(2, result.size());
+            assertEquals("Tarefa 1", result.get(0).getTitle());
+            assertEquals("Descrição 1", result.get(0).getDescription());
+            assertEquals("Tarefa 2", result.get(1).getTitle());
+            assertEquals(now, result.get(1).getCreatedAt());
+            assertEquals(2L, result.get(1).getTaskStatusId());
+            verify(boardLayoutCache, times(1)).layout(boardId);
+            verify(taskStatusRepository, times(1)).getReferenceById(2L);
+            verify(cardRepository).saveAll(anyList());
+            verify(cardMovementRepository).saveAll(anyList());
+            verify(cardRepository, never()).save(any(Card.class));
+        }
+    }
+
+    @Test
+    void createCards_EmptyTitle_ThrowsTaskboardException() {
+        List<NewCardDTO> newCards = List.of(new NewCardDTO("Tarefa 1", null), new NewCardDTO("", null));
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cardService.createCards(1L, newCards));
+        assertEquals("Título do cartão não pode ser vazio. Posição na lista: 1", exception.getMessage());
+        verifyNoInteractions(boardRepository, taskStatusRepository, cardRepository, cardMovementRepository);
+    }
+
+    @Test
+    void createCards_EmptyList_ThrowsTaskboardException() {
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cardService.createCards(1L, List.of()));
+        assertEquals("A lista de cartões não pode ser vazia.", exception.getMessage());
+        verifyNoInteractions(boardRepository, taskStatusRepository, cardRepository, cardMovementRepository);
+    }
+
+    @Test
+    void createCards_BoardNotFound_ThrowsTaskboardException() {
+        Long boardId = 1L;
+        when(boardLayoutCache.layout(boardId)).thenReturn(new BoardLayout(boardId, List.of()));
+        when(boardRepository.existsById(boardId)).thenReturn(false);
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cardService.createCards(boardId, List.of(new NewCardDTO("Tarefa", null))));
+        assertEquals("Quadro não encontrado com o ID: " + boardId, exception.getMessage());
         verifyNoInteractions(taskStatusRepository, cardRepository, cardMovementRepository);
     }
 
@@ -174,9 +314,12 @@ class CardServiceTest {
         currentMovement.setCard(card);
         currentMovement.setTaskStatus(currentStatus);
         LocalDateTime now = LocalDateTime.of(2025, 7, 28, 18, 0);
+        currentMovement.setEntryDate(now.minusHours(2));
 
+        when(columnCounterRepository.adjust(anyLong(), anyLong(), anyLong())).thenReturn(1);
         when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
-        when(taskStatusRepository.findById(targetStatusId)).thenReturn(Optional.of(targetStatus));
+        when(boardLayoutCache.column(targetStatusId)).thenReturn(layout(4L).column(targetStatusId));
+        when(taskStatusRepository.getReferenceById(targetStatusId)).thenReturn(targetStatus);
         when(cardMovementRepository.findByCardAndExitDateIsNull(card)).thenReturn(Optional.of(currentMovement));
         when(cardRepository.save(any(Card.class))).thenReturn(card);
         when(cardMovementRepository.save(any(CardMovement.class))).thenReturn(new CardMovement());
@@ -188,10 +331,95 @@ class CardServiceTest {
             assertEquals(cardId, result.getId());
             assertEquals(targetStatusId, result.getTaskStatusId());
             verify(cardRepository).findById(cardId);
-            verify(taskStatusRepository).findById(targetStatusId);
+            verify(boardLayoutCache).column(targetStatusId);
             verify(cardMovementRepository).findByCardAndExitDateIsNull(card);
             verify(cardMovementRepository, times(2)).save(any(CardMovement.class));
             verify(cardRepository).save(any(Card.class));
+            verify(columnCounterRepository).adjust(2L, 1, 0);
+            verify(columnCounterRepository).adjust(3L, -1, 0);
+
+            // Permanência de 2 horas na coluna deixada; destino não é FINAL, sem tempo de ciclo
+            verify(cycleTimeService).record(columnTimes.capture(), cycleTimes.capture());
+            assertEquals(1, columnTimes.getValue().get(3L).totalCount());
+            assertEquals(120, columnTimes.getValue().get(3L).percentile(50));
+            assertTrue(cycleTimes.getValue().isEmpty());
+        }
+    }
+
+    @Test
+    void moveCard_WithCurrentMovementPointer_SkipsOpenMovementQuery() {
+        Long cardId = 1L;
+        Long targetStatusId = 2L;
+        Board board = new Board();
+        board.setId(4L);
+        TaskStatus currentStatus = new TaskStatus();
+        currentStatus.setId(3L);
+        currentStatus.setPriority(1);
+        currentStatus.setBoard(board);
+        TaskStatus targetStatus = new TaskStatus();
+        targetStatus.setId(targetStatusId);
+        targetStatus.setPriority(2);
+        targetStatus.setBoard(board);
+        Card card = new Card();
+        card.setId(cardId);
+        card.setTaskStatus(currentStatus);
+        CardMovement currentMovement = new CardMovement();
+        currentMovement.setCard(card);
+        currentMovement.setTaskStatus(currentStatus);
+        card.setCurrentMovement(currentMovement);
+        CardMovement newMovement = new CardMovement();
+        LocalDateTime now = LocalDateTime.of(2025, 7, 28, 18, 0);
+
+        when(columnCounterRepository.adjust(anyLong(), anyLong(), anyLong())).thenReturn(1);
+        when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
+        when(boardLayoutCache.column(targetStatusId)).thenReturn(layout(4L).column(targetStatusId));
+        when(taskStatusRepository.getReferenceById(targetStatusId)).thenReturn(targetStatus);
+        when(cardRepository.save(any(Card.class))).thenReturn(card);
+        when(cardMovementRepository.save(any(CardMovement.class))).thenReturn(currentMovement, newMovement);
+        try (MockedStatic<DateUtil> dateUtil = Mockito.mockStatic(DateUtil.class)) {
+            dateUtil.when(() -> DateUtil.now()).thenReturn(now);
+
+            cardService.moveCard(cardId, targetStatusId);
+
+            assertEquals(now, currentMovement.getExitDate());
+            assertSame(newMovement, card.getCurrentMovement());
+            verify(cardMovementRepository, never()).findByCardAndExitDateIsNull(any(Card.class));
+        }
+    }
+
+    @Test
+    void moveCard_StaleCurrentMovementPointer_ClosesOpenMovementInstead() {
+        Long cardId = 1L;
+        Long targetStatusId = 2L;
+        TaskStatus currentStatus = column(3L);
+        currentStatus.setPriority(1);
+        Card card = new Card();
+        card.setId(cardId);
+        card.setTaskStatus(currentStatus);
+        LocalDateTime closedAt = LocalDateTime.of(2025, 7, 27, 9, 0);
+        CardMovement staleMovement = new CardMovement();
+        staleMovement.setExitDate(closedAt);
+        card.setCurrentMovement(staleMovement);
+        CardMovement openMovement = new CardMovement();
+        openMovement.setCard(card);
+        openMovement.setTaskStatus(currentStatus);
+        LocalDateTime now = LocalDateTime.of(2025, 7, 28, 18, 0);
+
+        when(columnCounterRepository.adjust(anyLong(), anyLong(), anyLong())).thenReturn(1);
+        when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
+        when(boardLayoutCache.column(targetStatusId)).thenReturn(layout(4L).column(targetStatusId));
+        when(taskStatusRepository.getReferenceById(targetStatusId)).thenReturn(column(targetStatusId));
+        when(cardMovementRepository.findByCardAndExitDateIsNull(card)).thenReturn(Optional.of(openMovement));
+        when(cardRepository.save(any(Card.class))).thenReturn(card);
+        when(cardMovementRepository.save(any(CardMovement.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        try (MockedStatic<DateUtil> dateUtil = Mockito.mockStatic(DateUtil.class)) {
+            dateUtil.when(() -> DateUtil.now()).thenReturn(now);
+
+            cardService.moveCard(cardId, targetStatusId);
+
+            assertEquals(closedAt, staleMovement.getExitDate());
+            assertEquals(now, openMovement.getExitDate());
+            verify(cardMovementRepository).findByCardAndExitDateIsNull(card);
         }
     }
 
@@ -208,7 +436,7 @@ class CardServiceTest {
                 () -> cardService.moveCard(cardId, 2L));
         assertEquals("O cartão está bloqueado e não pode ser movido. ID do cartão: " + cardId, exception.getMessage());
         verify(cardRepository).findById(cardId);
-        verifyNoInteractions(taskStatusRepository, cardMovementRepository);
+        verifyNoInteractions(boardLayoutCache, taskStatusRepository, cardMovementRepository);
     }
 
     @Test
@@ -224,21 +452,96 @@ class CardServiceTest {
         board1.setId(4L);
         currentStatus.setBoard(board1);
         card.setTaskStatus(currentStatus);
-        TaskStatus targetStatus = new TaskStatus();
-        targetStatus.setId(targetStatusId);
-        Board board2 = new Board();
-        board2.setId(5L);
-        targetStatus.setBoard(board2);
 
         when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
-        when(taskStatusRepository.findById(targetStatusId)).thenReturn(Optional.of(targetStatus));
+        when(boardLayoutCache.column(targetStatusId)).thenReturn(layout(5L).column(targetStatusId));
 
         TaskboardException exception = assertThrows(TaskboardException.class,
                 () -> cardService.moveCard(cardId, targetStatusId));
         assertEquals("A coluna de destino não pertence ao mesmo quadro do cartão.", exception.getMessage());
         verify(cardRepository).findById(cardId);
-        verify(taskStatusRepository).findById(targetStatusId);
+        verify(boardLayoutCache).column(targetStatusId);
+        verifyNoInteractions(taskStatusRepository, cardMovementRepository);
+    }
+
+    @Test
+    void moveCards_MixedInput_MovesValidCardsAndReportsRejected() {
+        Long targetStatusId = 2L;
+        Board board = new Board();
+        board.setId(4L);
+        TaskStatus currentStatus = new TaskStatus();
+        currentStatus.setId(3L);
+        currentStatus.setPriority(1);
+        currentStatus.setBoard(board);
+        TaskStatus targetStatus = new TaskStatus();
+        targetStatus.setId(targetStatusId);
+        targetStatus.setPriority(2);
+        targetStatus.setStatus(Status.PENDENTE);
+        targetStatus.setBoard(board);
+        TaskStatus finalStatus = new TaskStatus();
+        finalStatus.setId(5L);
+        finalStatus.setPriority(3);
+        finalStatus.setBoard(board);
+
+        Card movable = new Card();
+        movable.setId(10L);
+        movable.setTaskStatus(currentStatus);
+        Card blocked = new Card();
+        blocked.setId(11L);
+        blocked.setBlocked(true);
+        blocked.setTaskStatus(currentStatus);
+        Card alreadyFinal = new Card();
+        alreadyFinal.setId(12L);
+        alreadyFinal.setTaskStatus(finalStatus);
+        LocalDateTime now = LocalDateTime.of(2025, 7, 28, 18, 0);
+
+        when(columnCounterRepository.adjust(anyLong(), anyLong(), anyLong())).thenReturn(1);
+        when(boardLayoutCache.column(targetStatusId)).thenReturn(layout(4L).column(targetStatusId));
+        when(taskStatusRepository.getReferenceById(targetStatusId)).thenReturn(targetStatus);
+        when(cardRepository.findAllForUpdateByIdIn(List.of(10L, 11L, 12L, 13L))).thenReturn(List.of(movable, blocked, alreadyFinal));
+        try (MockedStatic<DateUtil> dateUtil = Mockito.mockStatic(DateUtil.class)) {
+            dateUtil.when(() -> DateUtil.now()).thenReturn(now);
+
+            BulkOperationResultDTO result = cardService.moveCards(List.of(10L, 11L, 12L, 13L, 10L), targetStatusId);
+
+            assertEquals(List.of(10L), result.getProcessedIds());
+            assertEquals(3, result.getRejected().size());
+            assertEquals("O cartão está bloqueado e não pode ser movido. ID do cartão: 11", result.getRejected().get(11L));
+            assertEquals("Só é possível mover para a próxima coluna ou para coluna de tasks CANCELADAS.",
+                    result.getRejected().get(12L));
+            assertEquals("Cartão não encontrado com o ID: 13", result.getRejected().get(13L));
+            verify(cardMovementRepository).closeOpenMovements(List.of(10L), now);
+            verify(cardMovementRepository).saveAll(anyList());
+            verify(cardRepository).updateTaskStatusAndCurrentMovement(List.of(10L), targetStatus);
+            verify(columnCounterRepository).adjust(2L, 1, 0);
+            verify(columnCounterRepository).adjust(3L, -1, 0);
+            verifyNoMoreInteractions(columnCounterRepository);
+        }
+    }
+
+    @Test
+    void moveCards_NoValidCards_DoesNotWrite() {
+        Long targetStatusId = 2L;
+
+        when(boardLayoutCache.column(targetStatusId)).thenReturn(layout(4L).column(targetStatusId));
+        when(cardRepository.findAllForUpdateByIdIn(List.of(1L))).thenReturn(List.of());
+
+        BulkOperationResultDTO result = cardService.moveCards(List.of(1L), targetStatusId);
+
+        assertTrue(result.getProcessedIds().isEmpty());
+        assertEquals("Cartão não encontrado com o ID: 1", result.getRejected().get(1L));
         verifyNoInteractions(cardMovementRepository);
+        verify(cardRepository, never()).updateTaskStatusAndCurrentMovement(anyList(), any(TaskStatus.class));
+    }
+
+    @Test
+    void moveCards_TargetNotFound_ThrowsTaskboardException() {
+        when(boardLayoutCache.column(2L)).thenReturn(Optional.empty());
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cardService.moveCards(List.of(1L), 2L));
+        assertEquals("Coluna de destino não encontrada com ID: 2", exception.getMessage());
+        verifyNoInteractions(cardRepository, cardMovementRepository);
     }
 
     @Test
@@ -248,6 +551,7 @@ class CardServiceTest {
         Card card = new Card();
         card.setId(cardId);
         card.setBlocked(false);
+        card.setTaskStatus(column(3L));
         BlockHistory blockHistory = new BlockHistory();
         blockHistory.setId(2L);
         blockHistory.setCard(card);
@@ -255,6 +559,7 @@ class CardServiceTest {
         blockHistory.setBlockedDate(now);
         blockHistory.setBlockedReason(blockReason);
 
+        when(columnCounterRepository.adjust(anyLong(), anyLong(), anyLong())).thenReturn(1);
         when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
         when(cardRepository.save(any(Card.class))).thenReturn(card);
         when(blockHistoryRepository.save(any(BlockHistory.class))).thenReturn(blockHistory);
@@ -272,9 +577,30 @@ class CardServiceTest {
             verify(cardRepository).findById(cardId);
             verify(cardRepository).save(any(Card.class));
             verify(blockHistoryRepository).save(any(BlockHistory.class));
+            verify(columnCounterRepository).adjust(3L, 0, 1);
         }
     }
 
+    @Test
+    void blockCard_MissingColumnCounter_ThrowsTaskboardException() {
+        Long cardId = 1L;
+        Card card = new Card();
+        card.setId(cardId);
+        card.setTaskStatus(column(3L));
+        BlockHistory blockHistory = new BlockHistory();
+        blockHistory.setId(2L);
+        blockHistory.setCard(card);
+
+        when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
+        when(cardRepository.save(any(Card.class))).thenReturn(card);
+        when(blockHistoryRepository.save(any(BlockHistory.class))).thenReturn(blockHistory);
+        when(columnCounterRepository.adjust(3L, 0, 1)).thenReturn(0);
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cardService.blockCard(cardId, "Motivo X"));
+        assertEquals("Contador da coluna não encontrado. ID da coluna: 3", exception.getMessage());
+    }
+
     @Test
     void blockCard_EmptyReason_ThrowsTaskboardException() {
         Long cardId = 1L;
@@ -307,6 +633,7 @@ class CardServiceTest {
         Card card = new Card();
         card.setId(cardId);
         card.setBlocked(true);
+        card.setTaskStatus(column(3L));
         BlockHistory blockHistory = new BlockHistory();
         blockHistory.setId(2L);
         blockHistory.setCard(card);
@@ -314,6 +641,7 @@ class CardServiceTest {
         blockHistory.setBlockedDate(now);
         blockHistory.setBlockedReason("Motivo X");
 
+        when(columnCounterRepository.adjust(anyLong(), anyLong(), anyLong())).thenReturn(1);
         when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
         when(blockHistoryRepository.findByCardAndUnblockedDateIsNull(card)).thenReturn(Optional.of(blockHistory));
         when(cardRepository.save(any(Card.class))).thenReturn(card);
@@ -333,6 +661,35 @@ class CardServiceTest {
             verify(blockHistoryRepository).findByCardAndUnblockedDateIsNull(card);
             verify(cardRepository).save(any(Card.class));
             verify(blockHistoryRepository).save(any(BlockHistory.class));
+            verify(columnCounterRepository).adjust(3L, 0, -1);
+        }
+    }
+
+    @Test
+    void unblockCard_WithActiveBlockPointer_SkipsActiveBlockQuery() {
+        Long cardId = 1L;
+        Card card = new Card();
+        card.setId(cardId);
+        card.setBlocked(true);
+        card.setTaskStatus(column(3L));
+        BlockHistory blockHistory = new BlockHistory();
+        blockHistory.setId(2L);
+        blockHistory.setCard(card);
+        card.setActiveBlock(blockHistory);
+        LocalDateTime now = LocalDateTime.of(2025, 7, 28, 18, 0);
+
+        when(columnCounterRepository.adjust(anyLong(), anyLong(), anyLong())).thenReturn(1);
+        when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
+        when(cardRepository.save(any(Card.class))).thenReturn(card);
+        when(blockHistoryRepository.save(any(BlockHistory.class))).thenReturn(blockHistory);
+        try (MockedStatic<DateUtil> dateUtil = Mockito.mockStatic(DateUtil.class)) {
+            dateUtil.when(() -> DateUtil.now()).thenReturn(now);
+
+            BlockHistoryDTO result = cardService.unblockCard(cardId, "Motivo Y");
+
+            assertEquals(now, result.getUnblockedDate());
+            assertNull(card.getActiveBlock());
+            verify(blockHistoryRepository, never()).findByCardAndUnblockedDateIsNull(any(Card.class));
         }
     }
 
@@ -367,20 +724,67 @@ class CardServiceTest {
         Card card = new Card();
         card.setId(cardId);
         card.setTitle("Tarefa Teste");
-        TaskStatus taskStatus = new TaskStatus();
-        taskStatus.setId(2L);
-        card.setTaskStatus(taskStatus);
+        card.setTaskStatus(column(2L));
         card.setMovements(new ArrayList<>());
         card.setBlockHistories(new ArrayList<>());
 
+        when(columnCounterRepository.adjust(anyLong(), anyLong(), anyLong())).thenReturn(1);
         when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
-        doNothing().when(cardRepository).delete(card);
+        when(cardRepository.deleteAllByIdIn(List.of(cardId))).thenReturn(1);
 
         cardService.deleteCard(cardId);
 
         verify(cardRepository).findById(cardId);
-        verify(cardRepository).delete(card);
-        verifyNoInteractions(taskStatusRepository, cardMovementRepository, blockHistoryRepository);
+        verify(cardRepository).clearHistoryPointers(List.of(cardId));
+        verify(cardRepository).deleteAllByIdIn(List.of(cardId));
+        verify(columnCounterRepository).adjust(2L, -1, 0);
+        verify(cycleTimeService).forgetCards(List.of(cardId));
+        verify(cardSearchIndex).remove(List.of(new CardText(cardId, 4L, "Tarefa Teste", null)));
+        verify(cardMovementRepository).archiveMovementsOfCards(eq(List.of(cardId)), any(LocalDateTime.class));
+        verifyNoMoreInteractions(cardMovementRepository);
+        verifyNoInteractions(taskStatusRepository, blockHistoryRepository);
+    }
+
+    @Test
+    void deleteCard_CardBlocked_ThrowsTaskboardException() {
+        Long cardId = 1L;
+        Card card = new Card();
+        card.setId(cardId);
+        card.setBlocked(true);
+
+        when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cardService.deleteCard(cardId));
+        assertEquals("O cartão está bloqueado e não pode ser deletado. ID: " + cardId, exception.getMessage());
+        verify(cardRepository, never()).deleteAllByIdIn(anyList());
+    }
+
+    @Test
+    void deleteCards_MixedInput_DeletesValidCardsAndReportsRejected() {
+        Card card = new Card();
+        card.setId(1L);
+        card.setTaskStatus(column(3L));
+        Card blocked = new Card();
+        blocked.setId(2L);
+        blocked.setBlocked(true);
+
+        when(columnCounterRepository.adjust(anyLong(), anyLong(), anyLong())).thenReturn(1);
+        when(cardRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(card, blocked));
+
+        BulkOperationResultDTO result = cardService.deleteCards(List.of(1L, 2L, 3L));
+
+        assertEquals(List.of(1L), result.getProcessedIds());
+        assertEquals("O cartão está bloqueado e não pode ser deletado. ID: 2", result.getRejected().get(2L));
+        assertEquals("Cartão não encontrado com o ID: 3", result.getRejected().get(3L));
+        verify(cardRepository).clearHistoryPointers(List.of(1L));
+        verify(cardRepository).deleteAllByIdIn(List.of(1L));
+        verify(columnCounterRepository).adjust(3L, -1, 0);
+        verify(cycleTimeService).forgetCards(List.of(1L));
+        verify(cardSearchIndex).remove(List.of(new CardText(1L, 4L, null, null)));
+        verify(cardMovementRepository).archiveMovementsOfCards(eq(List.of(1L)), any(LocalDateTime.class));
+        verifyNoMoreInteractions(cardMovementRepository);
+        verifyNoInteractions(taskStatusRepository, blockHistoryRepository);
     }
 
     @Test
@@ -392,7 +796,36 @@ class CardServiceTest {
                 () -> cardService.deleteCard(cardId));
         assertEquals("Cartão não encontrado com o ID: " + cardId, exception.getMessage());
         verify(cardRepository).findById(cardId);
-        verify(cardRepository, never()).delete(any(Card.class));
+        verify(cardRepository, never()).deleteAllByIdIn(anyList());
         verifyNoInteractions(taskStatusRepository, cardMovementRepository, blockHistoryRepository);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findCards_InvalidCreatedRange_ThrowsTaskboardException() {
+        LocalDateTime now = LocalDateTime.of(2025, 7, 28, 18, 0);
+        CardFilter filter = new CardFilter(1L, null, null, null, now, now.minusDays(1));
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cardService.findCards(filter, PageRequest.of(0, 20)));
+        assertEquals("A data inicial de criação deve ser anterior à data final.", exception.getMessage());
+        verifyNoInteractions(cardRepository);
+    }
+
+    private TaskStatus column(Long id) {
+        Board board = new Board();
+        board.setId(4L);
+        TaskStatus taskStatus = new TaskStatus();
+        taskStatus.setId(id);
+        taskStatus.setBoard(board);
+        return taskStatus;
+    }
+
+    // Colunas do quadro como o cache devolve: o cartão está na 3 (prioridade 1) e a próxima coluna é a 2
+    private BoardLayout layout(Long boardId) {
+        return new BoardLayout(boardId, List.of(
+                new ColumnLayout(3L, Status.INICIAL, 1, boardId, null),
+                new ColumnLayout(2L, Status.PENDENTE, 2, boardId, null),
+                new ColumnLayout(5L, Status.FINAL, 3, boardId, null),
+                new ColumnLayout(6L, Status.CANCELADA, 4, boardId, null)));
+    }
+}
@@ -0,0 +1,211 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.ColumnOccupancy;
+import br.com.board.taskboard.dto.CumulativeFlowPoint;
+import br.com.board.taskboard.dto.CumulativeFlowRefresh;
+import br.com.board.taskboard.exception.TaskboardException;
+import br.com.board.taskboard.model.Status;
+import br.com.board.taskboard.util.DateUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CumulativeFlowServiceTest {
+
+    private static final int CARD_COUNT = 300;
+    private static final int HISTORY_DAYS = 80;
+    // IDs fora da faixa do gerador pooled, já que o histórico é inserido direto via JDBC
+    private static final long FIRST_ID = 6_000_000_000L;
+
+    @Autowired
+    private CumulativeFlowService cumulativeFlowService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private TaskStatusService taskStatusService;
+
+    @Autowired
+    private CardConsistencyService cardConsistencyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void refresh_AfterLiveOperations_MatchesHistoryAndRebuild() {
+        BoardDTO board = boardService.createBoard("Quadro fluxo cumulativo");
+        Long initialId = columnId(board, Status.INICIAL);
+        Long pendingId = columnId(board, Status.PENDENTE);
+        Long finalId = columnId(board, Status.FINAL);
+        List<Interval> history = insertHistory(new Long[] {initialId, pendingId, finalId});
+        cardConsistencyService.rebuildCounters();
+
+        // Reconstrução do zero: cada dia bate com a contagem feita direto nos intervalos do histórico
+        CumulativeFlowRefresh rebuild = cumulativeFlowService.rebuild(DateUtil.now());
+        assertTrue(rebuild.rebuilt());
+        LocalDate firstDay = LocalDate.now().minusDays(HISTORY_DAYS);
+        Map<LocalDate, Map<Long, Long>> flow = byDay(cumulativeFlowService.cumulativeFlow(
+                board.getId(), firstDay, LocalDate.now()));
+        for (LocalDate day = firstDay; !day.isAfter(LocalDate.now()); day = day.plusDays(1)) {
+            for (Long columnId : List.of(initialId, pendingId, finalId)) {
+                assertEquals(expectedCount(history, columnId, day),
+                        flow.getOrDefault(day, Map.of()).getOrDefault(columnId, 0L), columnId + " em " + day);
+            }
+        }
+
+        // Operações depois da reconstrução: criação, movimentação e exclusão (também de cartão antigo)
+        CardDTO created = cardService.createCard(board.getId(), "Cartão novo", "Entra no fluxo");
+        cardService.moveCard(created.getId(), pendingId);
+        CardDTO removed = cardService.createCard(board.getId(), "Cartão removido", "Sai do fluxo");
+        cardService.deleteCard(removed.getId());
+        cardService.deleteCard(FIRST_ID);
+
+        CumulativeFlowRefresh refresh = cumulativeFlowService.refresh(DateUtil.now());
+        assertFalse(refresh.rebuilt());
+        assertTrue(refresh.deltas() > 0);
+        assertEquals(0, cumulativeFlowService.verify(board.getId()));
+
+        // Hoje o fluxo acumulado é a ocupação atual das colunas
+        Map<Long, Long> today = byDay(cumulativeFlowService.cumulativeFlow(
+                board.getId(), LocalDate.now(), LocalDate.now())).get(LocalDate.now());
+        for (ColumnOccupancy column : taskStatusService.columnOccupancy(board.getId())) {
+            assertEquals(column.cardCount(), today.getOrDefault(column.taskStatusId(), 0L), column.name());
+        }
+
+        // A reconstrução chega ao mesmo resultado do incremental
+        cumulativeFlowService.rebuild(DateUtil.now());
+        assertEquals(0, cumulativeFlowService.verify(board.getId()));
+        assertEquals(today, byDay(cumulativeFlowService.cumulativeFlow(
+                board.getId(), LocalDate.now(), LocalDate.now())).get(LocalDate.now()));
+
+        long start = System.nanoTime();
+        List<CumulativeFlowPoint> year = cumulativeFlowService.cumulativeFlow(
+                board.getId(), LocalDate.now().minusYears(1), LocalDate.now());
+        System.out.printf("Fluxo cumulativo de 1 ano: %d pontos em %.1f ms%n", year.size(),
+                (System.nanoTime() - start) / 1e6);
+    }
+
+    @Test
+    void refresh_MovementCommittedAfterWatermark_IsAppliedWithinRescanWindow() {
+        BoardDTO board = boardService.createBoard("Quadro commit tardio");
+        Long initialId = columnId(board, Status.INICIAL);
+        cumulativeFlowService.refresh(DateUtil.now());
+
+        // Movimentação datada antes da marca d'água, como a de uma transação confirmada depois da execução
+        long cardId = FIRST_ID + 1_000_000;
+        Timestamp entry = Timestamp.valueOf(DateUtil.now().minusMinutes(2));
+        jdbcTemplate.update("insert into card (id, title, created_at, blocked, task_status_id) values (?, ?, ?, ?, ?)",
+                cardId, "Cartão atrasado", entry, false, initialId);
+        jdbcTemplate.update("insert into card_movement (id, card_id, task_status_id, entry_date, exit_date) " +
+                "values (?, ?, ?, ?, null)", cardId, cardId, initialId, entry);
+        jdbcTemplate.update("update card set current_movement_id = ? where id = ?", cardId, cardId);
+        cardConsistencyService.rebuildCounters();
+
+        CumulativeFlowRefresh refresh = cumulativeFlowService.refresh(DateUtil.now());
+        assertFalse(refresh.rebuilt());
+        assertEquals(0, cumulativeFlowService.verify(board.getId()));
+        assertEquals(1L, byDay(cumulativeFlowService.cumulativeFlow(board.getId(), LocalDate.now(), LocalDate.now()))
+                .get(LocalDate.now()).get(initialId));
+
+        // Execução seguinte sem eventos novos: refazer a janela não conta o mesmo cartão duas vezes
+        cumulativeFlowService.refresh(DateUtil.now());
+        assertEquals(0, cumulativeFlowService.verify(board.getId()));
+    }
+
+    @Test
+    void cumulativeFlow_NeverMaterialized_ThrowsTaskboardException() {
+        BoardDTO board = boardService.createBoard("Quadro sem fluxo");
+        jdbcTemplate.update("delete from cfd_watermark");
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> cumulativeFlowService.cumulativeFlow(board.getId(), LocalDate.now(), LocalDate.now()));
+        assertEquals("Fluxo cumulativo ainda não materializado.", exception.getMessage());
+
+        assertTrue(cumulativeFlowService.refresh().rebuilt());
+        assertNotNull(cumulativeFlowService.cumulativeFlow(board.getId(), LocalDate.now(), LocalDate.now()));
+    }
+
+    private List<Interval> insertHistory(Long[] columns) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime base = LocalDateTime.now().minusDays(HISTORY_DAYS);
+        List<Interval> history = new ArrayList<>();
+        List<Object[]> cards = new ArrayList<>();
+        List<Object[]> movements = new ArrayList<>();
+        List<Object[]> pointers = new ArrayList<>();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            long cardId = FIRST_ID + i;
+            LocalDateTime entry = base.plusDays(random.nextInt(40)).plusMinutes(random.nextInt(24 * 60));
+            // Cada cartão avança de 1 a 3 colunas, ficando até 12 dias em cada uma
+            int steps = 1 + random.nextInt(columns.length);
+            cards.add(new Object[] {cardId, "Cartão " + i, Timestamp.valueOf(entry), false, columns[steps - 1]});
+            for (int j = 0; j < steps; j++) {
+                long movementId = FIRST_ID + (long) i * columns.length + j;
+                boolean last = j == steps - 1;
+                LocalDateTime exit = last ? null : entry.plusHours(1 + random.nextInt(12 * 24));
+                movements.add(new Object[] {movementId, cardId, columns[j], Timestamp.valueOf(entry),
+                        exit == null ? null : Timestamp.valueOf(exit)});
+                history.add(new Interval(columns[j], entry, exit));
+                if (last) {
+                    pointers.add(new Object[] {movementId, cardId});
+                } else {
+                    entry = exit;
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into card (id, title, created_at, blocked, task_status_id) values (?, ?, ?, ?, ?)", cards);
+        jdbcTemplate.batchUpdate(
+                "insert into card_movement (id, card_id, task_status_id, entry_date, exit_date) values (?, ?, ?, ?, ?)",
+                movements);
+        jdbcTemplate.batchUpdate("update card set current_movement_id = ? where id = ?", pointers);
+        return history;
+    }
+
+    // Cartões na coluna no fim do dia
+    private long expectedCount(List<Interval> history, Long columnId, LocalDate day) {
+        return history.stream()
+                .filter(interval -> interval.columnId().equals(columnId))
+                .filter(interval -> !interval.entry().toLocalDate().isAfter(day))
+                .filter(interval -> interval.exit() == null || interval.exit().toLocalDate().isAfter(day))
+                .count();
+    }
+
+    // Coluna vazia pode ter linha com 0 ou nenhuma linha; só as contagens positivas entram no mapa
+    private Map<LocalDate, Map<Long, Long>> byDay(List<CumulativeFlowPoint> points) {
+        Map<LocalDate, Map<Long, Long>> byDay = new HashMap<>();
+        for (CumulativeFlowPoint point : points) {
+            if (point.cardCount() == 0) {
+                continue;
+            }
+            byDay.computeIfAbsent(point.date(), day -> new HashMap<>()).put(point.taskStatusId(), point.cardCount());
+        }
+        return byDay;
+    }
+
+    private Long columnId(BoardDTO board, Status status) {
+        return jdbcTemplate.queryForObject("select id from task_status where board_id = ? and status = ?",
+                Long.class, board.getId(), status.name());
+    }
+
+    private record Interval(Long columnId, LocalDateTime entry, LocalDateTime exit) {
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.ColumnTimePercentiles;
+import br.com.board.taskboard.dto.TimePercentiles;
+import br.com.board.taskboard.model.Status;
+import br.com.board.taskboard.util.DurationHistogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CycleTimeServiceTest {
+
+    private static final int CARD_COUNT = 2_000;
+    // IDs fora da faixa do gerador pooled, já que o histórico é inserido direto via JDBC
+    private static final long FIRST_ID = 7_000_000_000L;
+    private static final double MAX_RELATIVE_ERROR = 1.0 / (1 << (DurationHistogram.PRECISION_BITS + 1));
+
+    @Autowired
+    private CycleTimeService cycleTimeService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void percentiles_BackdatedHistory_WithinErrorBoundOfExactValues() {
+        BoardDTO board = boardService.createBoard("Quadro tempo de ciclo");
+        Long[] columns = {columnId(board, Status.INICIAL), columnId(board, Status.PENDENTE),
+                columnId(board, Status.FINAL)};
+        List<List<Long>> columnMinutes = List.of(new ArrayList<>(), new ArrayList<>());
+        List<Long> cycleMinutes = new ArrayList<>();
+        insertHistory(columns, columnMinutes, cycleMinutes);
+
+        cycleTimeService.rebuild();
+
+        TimePercentiles cycleTime = cycleTimeService.cycleTime(board.getId());
+        assertEquals(cycleMinutes.size(), cycleTime.count());
+        assertWithinBound(cycleMinutes, 50, cycleTime.p50Hours());
+        assertWithinBound(cycleMinutes, 85, cycleTime.p85Hours());
+        assertWithinBound(cycleMinutes, 95, cycleTime.p95Hours());
+
+        List<ColumnTimePercentiles> columnTime = cycleTimeService.columnTime(board.getId());
+        for (int i = 0; i < columnMinutes.size(); i++) {
+            TimePercentiles percentiles = columnTime.get(i).percentiles();
+            assertEquals(columns[i], columnTime.get(i).taskStatusId());
+            assertEquals(columnMinutes.get(i).size(), percentiles.count());
+            assertWithinBound(columnMinutes.get(i), 85, percentiles.p85Hours());
+        }
+        // Coluna FINAL: nenhuma movimentação fechada ainda
+        assertEquals(0, columnTime.get(2).percentiles().count());
+    }
+
+    @Test
+    void record_LiveOperations_MatchRebuildAndMergeAcrossBoards() {
+        BoardDTO board = boardService.createBoard("Quadro tempo de ciclo ao vivo");
+        BoardDTO other = boardService.createBoard("Outro quadro do portfólio");
+        Long pendingId = columnId(board, Status.PENDENTE);
+        Long finalId = columnId(board, Status.FINAL);
+        for (int i = 0; i < 3; i++) {
+            CardDTO card = cardService.createCard(board.getId(), "Cartão " + i, "Vai até o fim");
+            cardService.moveCard(card.getId(), pendingId);
+            cardService.moveCard(card.getId(), finalId);
+        }
+        CardDTO removed = cardService.createCard(board.getId(), "Cartão removido", "Apagado no fim");
+        cardService.moveCards(List.of(removed.getId()), pendingId);
+        cardService.moveCards(List.of(removed.getId()), finalId);
+        cardService.deleteCard(removed.getId());
+        CardDTO otherCard = cardService.createCard(other.getId(), "Cartão de outro quadro", "Também termina");
+        cardService.moveCard(otherCard.getId(), columnId(other, Status.PENDENTE));
+        cardService.moveCard(otherCard.getId(), columnId(other, Status.FINAL));
+
+        TimePercentiles incremental = cycleTimeService.cycleTime(board.getId());
+        List<ColumnTimePercentiles> incrementalColumns = cycleTimeService.columnTime(board.getId());
+        assertEquals(3, incremental.count());
+        assertEquals(3, incrementalColumns.get(0).percentiles().count());
+        assertEquals(4, cycleTimeService.portfolioCycleTime(List.of(board.getId(), other.getId())).count());
+
+        cycleTimeService.rebuild();
+
+        assertEquals(incremental, cycleTimeService.cycleTime(board.getId()));
+        assertEquals(incrementalColumns, cycleTimeService.columnTime(board.getId()));
+    }
+
+    @Test
+    void backfillIfPending_OutsideServerAndDaemon_LeavesItToExplicitRebuild() {
+        jdbcTemplate.update("insert into duration_histogram_backfill (id) values (1)");
+
+        // Os testes sobem sem modo (console): a subida não reconstrói os histogramas
+        cycleTimeService.backfillIfPending();
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from duration_histogram_backfill", Integer.class));
+
+        cycleTimeService.rebuild();
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from duration_histogram_backfill", Integer.class));
+    }
+
+    private void insertHistory(Long[] columns, List<List<Long>> columnMinutes, List<Long> cycleMinutes) {
+        SplittableRandom random = new SplittableRandom(3);
+        LocalDateTime base = LocalDateTime.now().minusDays(200).truncatedTo(ChronoUnit.MINUTES);
+        List<Object[]> cards = new ArrayList<>();
+        List<Object[]> movements = new ArrayList<>();
+        List<Object[]> pointers = new ArrayList<>();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            long cardId = FIRST_ID + i;
+            LocalDateTime createdAt = base.plusMinutes(random.nextInt(60 * 24 * 60));
+            int steps = 1 + random.nextInt(columns.length);
+            cards.add(new Object[] {cardId, "Cartão " + i, Timestamp.valueOf(createdAt), false, columns[steps - 1]});
+            LocalDateTime entry = createdAt;
+            for (int j = 0; j < steps; j++) {
+                long movementId = FIRST_ID + (long) i * columns.length + j;
+                boolean last = j == steps - 1;
+                // Minutos a semanas na coluna, com cauda longa
+                long minutes = last ? 0 : Math.round(Math.exp(3 + 6 * random.nextDouble()));
+                LocalDateTime exit = last ? null : entry.plusMinutes(minutes);
+                movements.add(new Object[] {movementId, cardId, columns[j], Timestamp.valueOf(entry),
+                        exit == null ? null : Timestamp.valueOf(exit)});
+                if (last) {
+                    pointers.add(new Object[] {movementId, cardId});
+                    if (j == columns.length - 1) {
+                        cycleMinutes.add(ChronoUnit.MINUTES.between(createdAt, entry));
+                    }
+                } else {
+                    columnMinutes.get(j).add(minutes);
+                    entry = exit;
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into card (id, title, created_at, blocked, task_status_id) values (?, ?, ?, ?, ?)", cards);
+        jdbcTemplate.batchUpdate(
+                "insert into card_movement (id, card_id, task_status_id, entry_date, exit_date) values (?, ?, ?, ?, ?)",
+                movements);
+        jdbcTemplate.batchUpdate("update card set current_movement_id = ? where id = ?", pointers);
+    }
+
+    private void assertWithinBound(List<Long> minutes, double percent, double hours) {
+        long[] sorted = minutes.stream().mapToLong(Long::longValue).sorted().toArray();
+        long exact = sorted[(int) Math.max(1, Math.ceil(percent / 100.0 * sorted.length)) - 1];
+        double estimate = hours * 60;
+        assertTrue(Math.abs(estimate - exact) <= exact * MAX_RELATIVE_ERROR + 1e-6,
+                "p" + percent + ": exato " + exact + " min, histograma " + estimate + " min");
+    }
+
+    private Long columnId(BoardDTO board, Status status) {
+        return jdbcTemplate.queryForObject("select id from task_status where board_id = ? and status = ?",
+                Long.class, board.getId(), status.name());
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.DeliveryForecast;
+import br.com.board.taskboard.exception.TaskboardException;
+import br.com.board.taskboard.model.Status;
+import br.com.board.taskboard.util.DateUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class DeliveryForecastServiceTest {
+
+    private static final int DELIVERY_DAYS = 30;
+    private static final int DELIVERIES_PER_DAY = 3;
+    // IDs fora da faixa do gerador pooled, já que o histórico é inserido direto via JDBC
+    private static final long FIRST_ID = 8_000_000_000L;
+
+    @Autowired
+    private DeliveryForecastService deliveryForecastService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void forecast_DeliveriesInLast30Days_ReturnsOrderedPercentileDates() {
+        BoardDTO board = boardService.createBoard("Quadro previsão");
+        insertDeliveries(board, FIRST_ID);
+
+        // 90 dias de janela: 30 com 3 entregas e 60 sem nenhuma, média de 1 cartão por dia
+        DeliveryForecast forecast = deliveryForecastService.forecast(board.getId(), 60);
+
+        assertEquals(60, forecast.cardCount());
+        assertEquals(0, forecast.unfinishedTrials());
+        LocalDate today = DateUtil.now().toLocalDate();
+        assertTrue(forecast.p50Date().isAfter(today.plusDays(40)), forecast.toString());
+        assertTrue(forecast.p95Date().isBefore(today.plusDays(90)), forecast.toString());
+        assertFalse(forecast.p85Date().isBefore(forecast.p50Date()));
+        assertFalse(forecast.p95Date().isBefore(forecast.p85Date()));
+
+        // Sem quantidade: cartões ainda em aberto no quadro
+        cardService.createCard(board.getId(), "Em aberto 1", "Ainda não entregue");
+        cardService.createCard(board.getId(), "Em aberto 2", "Ainda não entregue");
+        assertEquals(2, deliveryForecastService.forecast(board.getId(), null).cardCount());
+    }
+
+    @Test
+    void forecast_NoDeliveries_ThrowsTaskboardException() {
+        BoardDTO board = boardService.createBoard("Quadro sem entregas");
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> deliveryForecastService.forecast(board.getId(), 10));
+        assertTrue(exception.getMessage().startsWith("Nenhum cartão entregue"));
+    }
+
+    @Test
+    void forecast_BeyondSimulationHorizon_ReturnsNoDates() {
+        BoardDTO board = boardService.createBoard("Quadro previsão longa");
+        insertDeliveries(board, FIRST_ID + 1_000);
+
+        // 1 cartão por dia em média: 100 mil cartões não cabem em ThroughputSimulation.MAX_DAYS
+        DeliveryForecast forecast = deliveryForecastService.forecast(board.getId(), 100_000);
+
+        assertEquals(forecast.trials(), forecast.unfinishedTrials());
+        assertNull(forecast.p50Date());
+        assertNull(forecast.p85Date());
+        assertNull(forecast.p95Date());
+    }
+
+    private void insertDeliveries(BoardDTO board, long firstId) {
+        Long finalId = jdbcTemplate.queryForObject("select id from task_status where board_id = ? and status = ?",
+                Long.class, board.getId(), Status.FINAL.name());
+        List<Object[]> cards = new ArrayList<>();
+        List<Object[]> movements = new ArrayList<>();
+        List<Object[]> pointers = new ArrayList<>();
+        LocalDateTime today = DateUtil.now().toLocalDate().atStartOfDay();
+        for (int day = 1; day <= DELIVERY_DAYS; day++) {
+            for (int i = 0; i < DELIVERIES_PER_DAY; i++) {
+                long id = firstId + (long) day * DELIVERIES_PER_DAY + i;
+                Timestamp delivered = Timestamp.valueOf(today.minusDays(day).plusHours(9 + i));
+                cards.add(new Object[] {id, "Entregue " + id, delivered, false, finalId});
+                movements.add(new Object[] {id, id, finalId, delivered});
+                pointers.add(new Object[] {id, id});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into card (id, title, created_at, blocked, task_status_id) values (?, ?, ?, ?, ?)", cards);
+        jdbcTemplate.batchUpdate(
+                "insert into card_movement (id, card_id, task_status_id, entry_date) values (?, ?, ?, ?)", movements);
+        jdbcTemplate.batchUpdate("update card set current_movement_id = ? where id = ?", pointers);
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.ExportFormat;
+import br.com.board.taskboard.dto.ExportResult;
+import br.com.board.taskboard.model.Status;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag("scale")
+class HistoryExportServiceScaleTest {
+
+    private static final int CARD_COUNT = 10_000;
+    private static final int MOVEMENTS_PER_CARD = 10;
+    // IDs fora da faixa do gerador pooled, já que o histórico é inserido direto via JDBC
+    private static final long FIRST_ID = 4_000_000_000L;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private HistoryExportService historyExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void exportBoardHistory_100kMovements_StreamsEveryRowToFile() throws IOException {
+        BoardDTO board = boardService.createBoard("Quadro exportação");
+        Long initialId = jdbcTemplate.queryForObject(
+                "select id from task_status where board_id = ? and status = ?", Long.class,
+                board.getId(), Status.INICIAL.name());
+
+        LocalDateTime base = LocalDateTime.now().minusDays(90);
+        List<Object[]> cards = new ArrayList<>();
+        List<Object[]> movements = new ArrayList<>();
+        List<Object[]> pointers = new ArrayList<>();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            long cardId = FIRST_ID + i;
+            cards.add(new Object[] {cardId, "Cartão " + i, Timestamp.valueOf(base), false, initialId});
+            for (int j = 0; j < MOVEMENTS_PER_CARD; j++) {
+                long movementId = FIRST_ID + (long) i * MOVEMENTS_PER_CARD + j;
+                boolean last = j == MOVEMENTS_PER_CARD - 1;
+                movements.add(new Object[] {movementId, cardId, initialId, Timestamp.valueOf(base.plusHours(j)),
+                        last ? null : Timestamp.valueOf(base.plusHours(j + 1))});
+                if (last) {
+                    pointers.add(new Object[] {movementId, cardId});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into card (id, title, created_at, blocked, task_status_id) values (?, ?, ?, ?, ?)", cards);
+        jdbcTemplate.batchUpdate(
+                "insert into card_movement (id, card_id, task_status_id, entry_date, exit_date) values (?, ?, ?, ?, ?)",
+                movements);
+        jdbcTemplate.batchUpdate("update card set current_movement_id = ? where id = ?", pointers);
+
+        long start = System.nanoTime();
+        ExportResult result = historyExportService.exportBoardHistory(board.getId(), ExportFormat.NDJSON, directory);
+        long nanos = System.nanoTime() - start;
+        System.out.printf("Exportação de %d movimentações: %d ms, %.0f linhas/s, %d KB%n",
+                result.movementCount(), nanos / 1_000_000, result.movementCount() / (nanos / 1e9),
+                Files.size(result.movementsFile()) / 1024);
+
+        assertEquals(movements.size(), result.movementCount());
+        assertEquals(0, result.blockCount());
+        try (Stream<String> lines = Files.lines(result.movementsFile())) {
+            assertEquals(movements.size(), lines.count());
+        }
+        assertEquals(0, Files.size(result.blocksFile()));
+    }
+}
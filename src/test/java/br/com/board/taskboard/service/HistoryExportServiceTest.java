@@ -0,0 +1,163 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.ExportFormat;
+import br.com.board.taskboard.dto.ExportResult;
+import br.com.board.taskboard.exception.TaskboardException;
+import br.com.board.taskboard.model.BlockHistory;
+import br.com.board.taskboard.model.Board;
+import br.com.board.taskboard.model.Card;
+import br.com.board.taskboard.model.CardMovement;
+import br.com.board.taskboard.model.TaskStatus;
+import br.com.board.taskboard.repository.BlockHistoryRepository;
+import br.com.board.taskboard.repository.BoardRepository;
+import br.com.board.taskboard.repository.CardMovementRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HistoryExportServiceTest {
+
+    @Mock
+    private CardMovementRepository cardMovementRepository;
+
+    @Mock
+    private BlockHistoryRepository blockHistoryRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private HistoryExportService historyExportService;
+
+    @TempDir
+    Path directory;
+
+    private final Board board = new Board();
+    private final Card card = new Card();
+    private final TaskStatus taskStatus = new TaskStatus();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(historyExportService, "entityManager", entityManager);
+        board.setId(1L);
+        card.setId(2L);
+        taskStatus.setId(3L);
+    }
+
+    @Test
+    void exportBoardHistory_Ndjson_WritesOneEscapedObjectPerLine() throws IOException {
+        CardMovement movement = movement(10L, LocalDateTime.of(2025, 7, 28, 10, 0), null);
+        BlockHistory block = new BlockHistory();
+        block.setId(20L);
+        block.setCard(card);
+        block.setBlockedDate(LocalDateTime.of(2025, 7, 28, 11, 0));
+        block.setBlockedReason("Aguardando \"cliente\"\nsem retorno");
+
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(cardMovementRepository.streamByBoard(board)).thenReturn(Stream.of(movement));
+        when(blockHistoryRepository.streamByBoard(board)).thenReturn(Stream.of(block));
+
+        ExportResult result = historyExportService.exportBoardHistory(1L, ExportFormat.NDJSON, directory);
+
+        assertEquals(1, result.movementCount());
+        assertEquals(1, result.blockCount());
+        assertEquals(List.of("{\"id\":10,\"cardId\":2,\"taskStatusId\":3,\"entryDate\":\"2025-07-28T10:00\",\"exitDate\":null}"),
+                Files.readAllLines(result.movementsFile()));
+        assertEquals(List.of("{\"id\":20,\"cardId\":2,\"blockedDate\":\"2025-07-28T11:00\"," +
+                        "\"blockedReason\":\"Aguardando \\\"cliente\\\"\\nsem retorno\",\"unblockedDate\":null,\"unblockedReason\":null}"),
+                Files.readAllLines(result.blocksFile()));
+    }
+
+    @Test
+    void exportBoardHistory_Csv_WritesHeaderAndQuotesSpecialValues() throws IOException {
+        BlockHistory block = new BlockHistory();
+        block.setId(20L);
+        block.setCard(card);
+        block.setBlockedDate(LocalDateTime.of(2025, 7, 28, 11, 0));
+        block.setBlockedReason("Dependência, \"API\"");
+        block.setUnblockedDate(LocalDateTime.of(2025, 7, 28, 12, 30));
+        block.setUnblockedReason("Ok");
+
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(cardMovementRepository.streamByBoard(board)).thenReturn(Stream.of(
+                movement(10L, LocalDateTime.of(2025, 7, 28, 10, 0), LocalDateTime.of(2025, 7, 28, 12, 0))));
+        when(blockHistoryRepository.streamByBoard(board)).thenReturn(Stream.of(block));
+
+        ExportResult result = historyExportService.exportBoardHistory(1L, ExportFormat.CSV, directory);
+
+        assertTrue(result.movementsFile().toString().endsWith(".csv"));
+        assertEquals(List.of("id,cardId,taskStatusId,entryDate,exitDate", "10,2,3,2025-07-28T10:00,2025-07-28T12:00"),
+                Files.readAllLines(result.movementsFile()));
+        assertEquals(List.of("id,cardId,blockedDate,blockedReason,unblockedDate,unblockedReason",
+                        "20,2,2025-07-28T11:00,\"Dependência, \"\"API\"\"\",2025-07-28T12:30,Ok"),
+                Files.readAllLines(result.blocksFile()));
+    }
+
+    @Test
+    void exportBoardHistory_ManyRows_ClearsPersistenceContextPeriodically() {
+        int rows = HistoryExportService.CLEAR_EVERY * 3 + 10;
+        LocalDateTime entryDate = LocalDateTime.of(2025, 7, 28, 10, 0);
+
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(cardMovementRepository.streamByBoard(board))
+                .thenReturn(IntStream.range(0, rows).mapToObj(i -> movement((long) i, entryDate, null)));
+        when(blockHistoryRepository.streamByBoard(board)).thenReturn(Stream.empty());
+
+        ExportResult result = historyExportService.exportBoardHistory(1L, ExportFormat.NDJSON, directory);
+
+        assertEquals(rows, result.movementCount());
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void exportBoardHistory_BoardNotFound_ThrowsTaskboardException() {
+        when(boardRepository.findById(1L)).thenReturn(Optional.empty());
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> historyExportService.exportBoardHistory(1L, ExportFormat.CSV, directory));
+        assertEquals("Quadro não encontrado com o ID: 1", exception.getMessage());
+        verifyNoInteractions(cardMovementRepository, blockHistoryRepository);
+    }
+
+    @Test
+    void exportBoardHistory_MissingDirectory_ThrowsTaskboardException() {
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(cardMovementRepository.streamByBoard(board)).thenReturn(Stream.empty());
+
+        TaskboardException exception = assertThrows(TaskboardException.class,
+                () -> historyExportService.exportBoardHistory(1L, ExportFormat.CSV, directory.resolve("nao-existe")));
+        assertTrue(exception.getMessage().startsWith("Erro ao exportar histórico para "));
+    }
+
+    private CardMovement movement(Long id, LocalDateTime entryDate, LocalDateTime exitDate) {
+        CardMovement movement = new CardMovement();
+        movement.setId(id);
+        movement.setCard(card);
+        movement.setTaskStatus(taskStatus);
+        movement.setEntryDate(entryDate);
+        movement.setExitDate(exitDate);
+        return movement;
+    }
+}
@@ -0,0 +1,137 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.CardMovementDTO;
+import br.com.board.taskboard.model.CardMovement;
+import br.com.board.taskboard.model.Status;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag("scale")
+class ReadOnlyTransactionScaleTest {
+
+    private static final int HISTORY_LENGTH = 20_000;
+    private static final int ROUNDS = 3;
+    // IDs fora da faixa do gerador pooled, já que o histórico é inserido direto via JDBC
+    private static final long FIRST_ID = 5_000_000_000L;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardMovementService cardMovementService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void readOnlyTransaction_LargeHistory_SkipsFlushAndAllocatesLess() {
+        long cardId = insertCardWithHistory();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        long[] readWriteCost = null;
+        long[] readOnlyCost = null;
+        long readWriteFlushes = 0;
+        long readOnlyFlushes = 0;
+        // Primeiras rodadas aquecem o JIT; vale a última medição de cada modo
+        for (int round = 0; round < ROUNDS; round++) {
+            statistics.clear();
+            readWriteCost = measure(() -> readWrite.executeWithoutResult(status -> loadHistory(cardId)));
+            readWriteFlushes = statistics.getFlushCount();
+
+            statistics.clear();
+            readOnlyCost = measure(() -> readOnly.executeWithoutResult(status -> loadHistory(cardId)));
+            readOnlyFlushes = statistics.getFlushCount();
+        }
+        System.out.printf("Histórico com %d movimentações: leitura-escrita %d ms, %.1f MB, %d flush; " +
+                        "somente leitura %d ms, %.1f MB, %d flush%n", HISTORY_LENGTH,
+                readWriteCost[1] / 1_000_000, readWriteCost[0] / (1024.0 * 1024.0), readWriteFlushes,
+                readOnlyCost[1] / 1_000_000, readOnlyCost[0] / (1024.0 * 1024.0), readOnlyFlushes);
+
+        assertEquals(1, readWriteFlushes);
+        assertEquals(0, readOnlyFlushes);
+        assertTrue(readOnlyCost[0] < readWriteCost[0],
+                "Somente leitura: " + readOnlyCost[0] + " bytes, leitura-escrita: " + readWriteCost[0] + " bytes");
+
+        // O serviço já roda em modo somente leitura: nenhum flush ao terminar
+        statistics.clear();
+        List<CardMovementDTO> movements = cardMovementService.listMovements(cardId);
+        assertEquals(HISTORY_LENGTH, movements.size());
+        assertEquals(0, statistics.getFlushCount());
+    }
+
+    private void loadHistory(long cardId) {
+        List<CardMovement> movements = entityManager
+                .createQuery("select m from CardMovement m where m.card.id = :cardId", CardMovement.class)
+                .setParameter("cardId", cardId)
+                .getResultList();
+        assertEquals(HISTORY_LENGTH, movements.size());
+    }
+
+    // {bytes alocados, nanossegundos}
+    private long[] measure(Runnable action) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        action.run();
+        long nanos = System.nanoTime() - start;
+        return new long[] {threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore, nanos};
+    }
+
+    private long insertCardWithHistory() {
+        BoardDTO board = boardService.createBoard("Quadro somente leitura");
+        Long initialId = jdbcTemplate.queryForObject(
+                "select id from task_status where board_id = ? and status = ?", Long.class,
+                board.getId(), Status.INICIAL.name());
+        long cardId = FIRST_ID;
+        LocalDateTime base = LocalDateTime.now().minusYears(2);
+        jdbcTemplate.update("insert into card (id, title, created_at, blocked, task_status_id) values (?, ?, ?, ?, ?)",
+                cardId, "Cartão veterano", Timestamp.valueOf(base), false, initialId);
+        List<Object[]> movements = new ArrayList<>();
+        for (int i = 0; i < HISTORY_LENGTH; i++) {
+            boolean last = i == HISTORY_LENGTH - 1;
+            movements.add(new Object[] {FIRST_ID + i, cardId, initialId, Timestamp.valueOf(base.plusHours(i)),
+                    last ? null : Timestamp.valueOf(base.plusHours(i + 1))});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into card_movement (id, card_id, task_status_id, entry_date, exit_date) values (?, ?, ?, ?, ?)",
+                movements);
+        jdbcTemplate.update("update card set current_movement_id = ? where id = ?",
+                FIRST_ID + HISTORY_LENGTH - 1, cardId);
+        return cardId;
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.MovementTimeReport;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Compara o custo por linha do relatório montado em HashMap<String, Object> (formato antigo) e em record
+@Tag("scale")
+class ReportRowAllocationTest {
+
+    private static final int ROW_COUNT = 200_000;
+    private static final int WARMUP_ROUNDS = 3;
+
+    private final LocalDateTime entryDate = LocalDateTime.of(2025, 7, 28, 10, 0);
+    private final LocalDateTime exitDate = LocalDateTime.of(2025, 7, 28, 12, 0);
+
+    @Test
+    void movementTimeReport_ComparedWithHashMapRows_AllocatesLessPerRow() {
+        IntFunction<Object> mapRow = i -> {
+            Map<String, Object> result = new HashMap<>();
+            result.put("id", (long) i);
+            result.put("cardId", (long) i / 2);
+            result.put("taskStatusId", 3L + i % 4);
+            result.put("entryDate", entryDate);
+            result.put("exitDate", exitDate);
+            result.put("timeInHours", 2.0 + i % 10);
+            return result;
+        };
+        IntFunction<Object> recordRow = i ->
+                new MovementTimeReport((long) i, (long) i / 2, 3L + i % 4, entryDate, exitDate, 2.0 + i % 10);
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            build(mapRow);
+            build(recordRow);
+        }
+        long[] map = measure(mapRow);
+        long[] record = measure(recordRow);
+
+        System.out.printf("Relatório com %d linhas: HashMap %d bytes/linha, %.0f linhas/s; " +
+                        "record %d bytes/linha, %.0f linhas/s%n", ROW_COUNT,
+                map[0] / ROW_COUNT, ROW_COUNT / (map[1] / 1e9),
+                record[0] / ROW_COUNT, ROW_COUNT / (record[1] / 1e9));
+
+        assertTrue(record[0] * 2 < map[0], "record: " + record[0] + " bytes, HashMap: " + map[0] + " bytes");
+    }
+
+    // {bytes alocados, nanossegundos}
+    private long[] measure(IntFunction<Object> rowFactory) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        List<Object> rows = build(rowFactory);
+        long nanos = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        assertEquals(ROW_COUNT, rows.size());
+        return new long[] {allocated, nanos};
+    }
+
+    private List<Object> build(IntFunction<Object> rowFactory) {
+        List<Object> rows = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(rowFactory.apply(i));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.TaskStatusDTO;
+import br.com.board.taskboard.model.Card;
+import br.com.board.taskboard.model.Status;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag("scale")
+class TaskStatusServiceScaleTest {
+
+    private static final int CARD_COUNT = 100_000;
+    // IDs fora da faixa entregue pelo gerador pooled, já que os cartões são inseridos direto via JDBC
+    private static final long FIRST_CARD_ID = 1_000_000_000L;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private TaskStatusService taskStatusService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void listColumns_100kCards_UsesOneProjectionQueryWithoutLoadingCards() {
+        BoardDTO board = boardService.createBoard("Quadro grande");
+        Long initialColumnId = jdbcTemplate.queryForObject(
+                "select id from task_status where board_id = ? and status = ?", Long.class,
+                board.getId(), Status.INICIAL.name());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            batch.add(new Object[] {FIRST_CARD_ID + i, "Cartão " + i, now, false, initialColumnId});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into card (id, title, created_at, blocked, task_status_id) values (?, ?, ?, ?, ?)", batch);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+
+        List<TaskStatusDTO> columns = taskStatusService.listColumns(board.getId());
+
+        long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        System.out.printf("listColumns com %d cartões: %d consultas, %.1f MB alocados%n",
+                CARD_COUNT, statistics.getPrepareStatementCount(), allocatedBytes / (1024.0 * 1024.0));
+
+        assertEquals(4, columns.size());
+        assertEquals(CARD_COUNT, columns.get(0).getCardIds().size());
+        // findById do quadro + a projeção de colunas/cartões
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(Card.class.getName()).getLoadCount());
+        assertTrue(allocatedBytes < 64L * 1024 * 1024, "Alocação acima do esperado: " + allocatedBytes);
+    }
+}
@@ -1,12 +1,13 @@
 package br.com.board.taskboard.service;
 
+import br.com.board.taskboard.dto.ColumnCardRow;
 import br.com.board.taskboard.dto.TaskStatusDTO;
 import br.com.board.taskboard.exception.TaskboardException;
 import br.com.board.taskboard.model.Board;
-import br.com.board.taskboard.model.Card;
 import br.com.board.taskboard.model.Status;
 import br.com.board.taskboard.model.TaskStatus;
 import br.com.board.taskboard.repository.BoardRepository;
+import br.com.board.taskboard.repository.ColumnCounterRepository;
 import br.com.board.taskboard.repository.TaskStatusRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +34,12 @@ class TaskStatusServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private BoardLayoutCache boardLayoutCache;
+
+    @Mock
+    private ColumnCounterRepository columnCounterRepository;
+
     @InjectMocks
     private TaskStatusService taskStatusService;
 
@@ -69,6 +76,8 @@ class TaskStatusServiceTest {
         verify(taskStatusRepository).findByBoardAndStatus(board, Status.FINAL);
         verify(taskStatusRepository).findByBoardAndStatus(board, Status.CANCELADA);
         verify(taskStatusRepository, times(4)).save(any(TaskStatus.class));
+        verify(boardLayoutCache).invalidate(1L);
+        verify(columnCounterRepository).createForBoard(1L);
 
         verify(taskStatusRepository).save(argThat(taskStatus ->
             taskStatus.getName().equals("A Fazer") &&
@@ -175,34 +184,18 @@ class TaskStatusServiceTest {
         Board board = new Board();
         board.setId(boardId);
 
-        TaskStatus taskStatus1 = new TaskStatus();
-        taskStatus1.setId(2L);
-        taskStatus1.setName("A Fazer");
-        taskStatus1.setStatus(Status.INICIAL);
-        taskStatus1.setPriority(1);
-        taskStatus1.setBoard(board);
-        Card card1 = new Card();
-        card1.setId(3L);
-        taskStatus1.setCards(Arrays.asList(card1));
-
-        TaskStatus taskStatus2 = new TaskStatus();
-        taskStatus2.setId(4L);
-        taskStatus2.setName("Em progresso");
-        taskStatus2.setStatus(Status.PENDENTE);
-        taskStatus2.setPriority(2);
-        taskStatus2.setBoard(board);
-        Card card2 = new Card();
-        card2.setId(5L);
-        taskStatus2.setCards(Arrays.asList(card2));
-
-        List<TaskStatus> taskStatuses = Arrays.asList(taskStatus1, taskStatus2);
+        List<ColumnCardRow> rows = Arrays.asList(
+                new ColumnCardRow(2L, "A Fazer", 1, Status.INICIAL, 3L),
+                new ColumnCardRow(4L, "Em progresso", 2, Status.PENDENTE, 5L),
+                new ColumnCardRow(4L, "Em progresso", 2, Status.PENDENTE, 6L),
+                new ColumnCardRow(7L, "Concluído", 3, Status.FINAL, null));
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        when(taskStatusRepository.findByBoardOrderByPriority(board)).thenReturn(taskStatuses);
+        when(taskStatusRepository.findColumnCardRows(board)).thenReturn(rows);
 
         List<TaskStatusDTO> result = taskStatusService.listColumns(boardId);
 
-        assertEquals(2, result.size());
+        assertEquals(3, result.size());
         TaskStatusDTO dto1 = result.get(0);
         assertEquals(2L, dto1.getId());
         assertEquals("A Fazer", dto1.getName());
@@ -217,10 +210,15 @@ class TaskStatusServiceTest {
         assertEquals(2, dto2.getPriority());
         assertEquals(Status.PENDENTE, dto2.getStatus());
         assertEquals(boardId, dto2.getBoardId());
-        assertEquals(Arrays.asList(5L), dto2.getCardIds());
+        assertEquals(Arrays.asList(5L, 6L), dto2.getCardIds());
+
+        TaskStatusDTO dto3 = result.get(2);
+        assertEquals(7L, dto3.getId());
+        assertEquals(Status.FINAL, dto3.getStatus());
+        assertTrue(dto3.getCardIds().isEmpty());
 
         verify(boardRepository).findById(boardId);
-        verify(taskStatusRepository).findByBoardOrderByPriority(board);
+        verify(taskStatusRepository).findColumnCardRows(board);
     }
 
     @Test
@@ -243,12 +241,12 @@ class TaskStatusServiceTest {
         board.setId(boardId);
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        when(taskStatusRepository.findByBoardOrderByPriority(board)).thenReturn(Collections.emptyList());
+        when(taskStatusRepository.findColumnCardRows(board)).thenReturn(Collections.emptyList());
 
         List<TaskStatusDTO> result = taskStatusService.listColumns(boardId);
 
         assertTrue(result.isEmpty());
         verify(boardRepository).findById(boardId);
-        verify(taskStatusRepository).findByBoardOrderByPriority(board);
+        verify(taskStatusRepository).findColumnCardRows(board);
     }
 }
\ No newline at end of file
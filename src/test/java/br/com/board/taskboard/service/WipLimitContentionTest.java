@@ -0,0 +1,152 @@
+package br.com.board.taskboard.service;
+
+import br.com.board.taskboard.dto.BoardDTO;
+import br.com.board.taskboard.dto.CardDTO;
+import br.com.board.taskboard.dto.ColumnOccupancy;
+import br.com.board.taskboard.dto.NewCardDTO;
+import br.com.board.taskboard.exception.TaskboardException;
+import br.com.board.taskboard.model.Status;
+import br.com.board.taskboard.repository.ColumnCounterRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Várias threads disputam a entrada em uma coluna com limite de WIP
+@SpringBootTest
+@Tag("scale")
+class WipLimitContentionTest {
+
+    private static final int THREADS = 8;
+    private static final int CARDS_PER_THREAD = 10;
+    private static final int WIP_LIMIT = 5;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private TaskStatusService taskStatusService;
+
+    @Autowired
+    private ColumnCounterRepository columnCounterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentMoves_IntoLimitedColumn_NeverExceedLimit() throws Exception {
+        BoardDTO board = boardService.createBoard("Quadro WIP");
+        Long pendingId = columnId(board, Status.PENDENTE);
+        taskStatusService.setWipLimit(board.getId(), pendingId, WIP_LIMIT);
+        List<CardDTO> cards = cardService.createCards(board.getId(), IntStream.range(0, THREADS * CARDS_PER_THREAD)
+                .mapToObj(i -> new NewCardDTO("Cartão " + i, null)).toList());
+
+        AtomicInteger moved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            List<CardDTO> ownCards = cards.subList(t * CARDS_PER_THREAD, (t + 1) * CARDS_PER_THREAD);
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (CardDTO card : ownCards) {
+                    try {
+                        cardService.moveCard(card.getId(), pendingId);
+                        moved.incrementAndGet();
+                    } catch (TaskboardException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long nanos = System.nanoTime() - begin;
+        executor.shutdown();
+        System.out.printf("Limite de WIP %d disputado por %d threads: %d movidos, %d recusados em %d ms%n",
+                WIP_LIMIT, THREADS, moved.get(), rejected.get(), nanos / 1_000_000);
+
+        assertEquals(WIP_LIMIT, moved.get());
+        assertEquals(THREADS * CARDS_PER_THREAD - WIP_LIMIT, rejected.get());
+        assertEquals(WIP_LIMIT, jdbcTemplate.queryForObject(
+                "select count(*) from card where task_status_id = ?", Integer.class, pendingId));
+        ColumnOccupancy pending = taskStatusService.columnOccupancy(board.getId()).stream()
+                .filter(column -> column.taskStatusId().equals(pendingId)).findFirst().orElseThrow();
+        assertEquals(WIP_LIMIT, pending.cardCount());
+        assertEquals(WIP_LIMIT, pending.wipLimit());
+        // Movimentações recusadas voltaram inteiras: só os movidos têm movimentação na coluna
+        assertEquals(WIP_LIMIT, jdbcTemplate.queryForObject(
+                "select count(*) from card_movement where task_status_id = ?", Integer.class, pendingId));
+    }
+
+    @Test
+    void lockedLimitedColumn_DoesNotBlockOtherColumnsOfBoard() throws Exception {
+        BoardDTO board = boardService.createBoard("Quadro WIP isolamento");
+        Long pendingId = columnId(board, Status.PENDENTE);
+        Long cancelledId = columnId(board, Status.CANCELADA);
+        taskStatusService.setWipLimit(board.getId(), pendingId, WIP_LIMIT);
+        CardDTO card = cardService.createCard(board.getId(), "Cartão livre", null);
+
+        // Uma transação segura a linha do contador da coluna limitada enquanto o resto do quadro trabalha
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            columnCounterRepository.adjustWithinLimit(pendingId, 1, WIP_LIMIT);
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            status.setRollbackOnly();
+        }));
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+        try {
+            CompletableFuture<Void> otherColumns = CompletableFuture.runAsync(() -> {
+                CardDTO created = cardService.createCard(board.getId(), "Cartão novo", null);
+                cardService.moveCard(card.getId(), cancelledId);
+                cardService.moveCard(created.getId(), cancelledId);
+            });
+            otherColumns.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "select count(*) from card where task_status_id = ?", Integer.class, cancelledId));
+    }
+
+    private Long columnId(BoardDTO board, Status status) {
+        return jdbcTemplate.queryForObject("select id from task_status where board_id = ? and status = ?",
+                Long.class, board.getId(), status.name());
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.board.taskboard.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationHistogramTest {
+
+    private static final int SAMPLE_COUNT = 200_000;
+    private static final double[] PERCENTILES = {1, 25, 50, 85, 95, 99, 99.9, 100};
+    // Metade da largura relativa de uma faixa
+    private static final double MAX_RELATIVE_ERROR = 1.0 / (1 << (DurationHistogram.PRECISION_BITS + 1));
+
+    @Test
+    void percentile_LogNormalDurations_WithinRelativeErrorOfExactValue() {
+        long[] values = logNormalMinutes(new SplittableRandom(7), SAMPLE_COUNT);
+        DurationHistogram histogram = new DurationHistogram();
+        for (long value : values) {
+            histogram.record(value);
+        }
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        assertEquals(SAMPLE_COUNT, histogram.totalCount());
+        for (double percent : PERCENTILES) {
+            long exact = exactPercentile(sorted, percent);
+            long estimate = histogram.percentile(percent);
+            assertTrue(Math.abs(estimate - exact) <= exact * MAX_RELATIVE_ERROR,
+                    "p" + percent + ": exato " + exact + ", histograma " + estimate);
+        }
+    }
+
+    @Test
+    void merge_TwoHistograms_EqualsHistogramOfAllSamples() {
+        SplittableRandom random = new SplittableRandom(11);
+        long[] first = logNormalMinutes(random, SAMPLE_COUNT / 2);
+        long[] second = logNormalMinutes(random, SAMPLE_COUNT / 2);
+        DurationHistogram left = new DurationHistogram();
+        DurationHistogram right = new DurationHistogram();
+        DurationHistogram all = new DurationHistogram();
+        for (long value : first) {
+            left.record(value);
+            all.record(value);
+        }
+        for (long value : second) {
+            right.record(value);
+            all.record(value);
+        }
+
+        left.merge(right);
+
+        assertEquals(all.totalCount(), left.totalCount());
+        for (double percent : PERCENTILES) {
+            assertEquals(all.percentile(percent), left.percentile(percent), "p" + percent);
+        }
+    }
+
+    @Test
+    void bucketOf_SmallAndLargeValues_CoversEveryValueOnce() {
+        for (long value = 0; value < 128; value++) {
+            assertEquals(value, DurationHistogram.representativeValueOf(DurationHistogram.bucketOf(value)));
+        }
+        assertEquals(0, DurationHistogram.bucketOf(-5));
+        // Faixas contíguas: o menor valor de cada faixa vem logo depois do maior valor da anterior
+        for (int bucket = 1; bucket < 2_000; bucket++) {
+            long lowest = DurationHistogram.lowestValueOf(bucket);
+            assertEquals(bucket, DurationHistogram.bucketOf(lowest));
+            assertEquals(bucket - 1, DurationHistogram.bucketOf(lowest - 1));
+        }
+        assertTrue(DurationHistogram.bucketOf(Long.MAX_VALUE) < 8_000);
+    }
+
+    @Test
+    void add_NegativeCounts_RemovesSamples() {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.record(30);
+        histogram.record(600);
+        histogram.add(DurationHistogram.bucketOf(600), -1);
+
+        assertEquals(1, histogram.totalCount());
+        assertEquals(30, histogram.percentile(95));
+        assertEquals(0, new DurationHistogram().percentile(50));
+    }
+
+    // Durações de minutos a semanas, com cauda longa como os tempos de ciclo reais
+    private long[] logNormalMinutes(SplittableRandom random, int count) {
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble()))
+                    * Math.cos(2 * Math.PI * random.nextDouble());
+            values[i] = Math.round(Math.exp(7 + 1.5 * gaussian));
+        }
+        return values;
+    }
+
+    private long exactPercentile(long[] sorted, double percent) {
+        int rank = (int) Math.max(1, Math.ceil(percent / 100.0 * sorted.length));
+        return sorted[rank - 1];
+    }
+}
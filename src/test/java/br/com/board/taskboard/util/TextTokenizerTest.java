@@ -0,0 +1,31 @@
+package br.com.board.taskboard.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextTokenizerTest {
+
+    @Test
+    void forEachToken_AccentsAndPunctuation_FoldsToLowercaseAsciiTerms() {
+        assertEquals(List.of("revisao", "contrato", "v2", "ate", "sexta", "feira"),
+                tokens("Revisão do CONTRATO (v2) até sexta-feira!"));
+        assertEquals(List.of("acao", "configuracao", "pinguim"), tokens("Ação, configuração e pingüim"));
+    }
+
+    @Test
+    void forEachToken_StopWordsSingleLettersAndEmptyText_Skipped() {
+        assertEquals(List.of("deploy", "api"), tokens("o deploy da API e a  de"));
+        assertTrue(tokens("").isEmpty());
+        assertTrue(tokens(null).isEmpty());
+    }
+
+    private List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        TextTokenizer.forEachToken(text, tokens::add);
+        return tokens;
+    }
+}
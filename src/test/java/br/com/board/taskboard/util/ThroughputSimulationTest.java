@@ -0,0 +1,83 @@
+package br.com.board.taskboard.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThroughputSimulationTest {
+
+    private static final int TRIALS = 200_000;
+    private static final int ROUNDS = 3;
+
+    @Test
+    void simulate_ConstantThroughput_EveryTrialTakesSameDays() {
+        try (ForkJoinPool pool = new ForkJoinPool(2)) {
+            int[] days = ThroughputSimulation.simulate(new int[] {2}, 10, 5_000, 1L, pool);
+
+            assertTrue(Arrays.stream(days).allMatch(day -> day == 5));
+        }
+    }
+
+    @Test
+    void simulate_SameSeed_SameResultForAnyParallelism() {
+        int[] throughput = {0, 1, 3, 0, 2, 5, 1};
+        try (ForkJoinPool single = new ForkJoinPool(1); ForkJoinPool parallel = new ForkJoinPool(4)) {
+            assertArrayEquals(ThroughputSimulation.simulate(throughput, 40, 20_000, 99L, single),
+                    ThroughputSimulation.simulate(throughput, 40, 20_000, 99L, parallel));
+        }
+    }
+
+    @Test
+    void simulate_HalfDaysWithOneDelivery_AveragesTwoDaysPerCard() {
+        try (ForkJoinPool pool = new ForkJoinPool(2)) {
+            int[] days = ThroughputSimulation.simulate(new int[] {0, 1}, 50, TRIALS, 5L, pool);
+
+            double mean = Arrays.stream(days).average().orElseThrow();
+            assertEquals(100, mean, 2);
+        }
+    }
+
+    @Test
+    void simulate_NoThroughput_StopsAtMaxDays() {
+        try (ForkJoinPool pool = new ForkJoinPool(1)) {
+            int[] days = ThroughputSimulation.simulate(new int[] {0, 0}, 1, 10, 1L, pool);
+
+            assertTrue(Arrays.stream(days).allMatch(day -> day == ThroughputSimulation.MAX_DAYS));
+        }
+    }
+
+    // Mede tentativas/s com 1 thread até uma por processador; o ganho depende dos núcleos da máquina
+    @Test
+    @Tag("scale")
+    void simulate_MoreWorkers_ScalesWithCores() {
+        int[] throughput = new int[90];
+        for (int i = 0; i < throughput.length; i++) {
+            throughput[i] = i % 7 < 5 ? i % 4 : 0;
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        int[] baseline = null;
+        for (int parallelism = 1; parallelism <= processors; parallelism *= 2) {
+            try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+                long nanos = Long.MAX_VALUE;
+                int[] days = null;
+                // Primeiras rodadas aquecem o JIT; vale a melhor
+                for (int round = 0; round < ROUNDS; round++) {
+                    long start = System.nanoTime();
+                    days = ThroughputSimulation.simulate(throughput, 200, TRIALS, 42L, pool);
+                    nanos = Math.min(nanos, System.nanoTime() - start);
+                }
+                System.out.printf("Monte Carlo com %d thread(s): %d tentativas em %d ms, %.0f tentativas/s%n",
+                        parallelism, TRIALS, nanos / 1_000_000, TRIALS / (nanos / 1e9));
+                if (baseline == null) {
+                    baseline = days;
+                } else {
+                    assertArrayEquals(baseline, days);
+                }
+            }
+        }
+    }
+}
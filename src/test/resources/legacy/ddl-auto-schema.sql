@@ -0,0 +1,29 @@
+-- Esquema que o ddl-auto=update (Hibernate 6, MySQL8Dialect) gerava antes do Flyway, com os nomes de
+-- chave estrangeira gerados pelo Hibernate, e alguns dados da época (IDs por IDENTITY)
+
+create table board (created_at datetime(6) not null, id bigint not null auto_increment, updated_at datetime(6), name varchar(255) not null, primary key (id)) engine=InnoDB;
+create table task_status (priority integer not null, board_id bigint not null, id bigint not null auto_increment, name varchar(255) not null, status enum ('CANCELADA','FINAL','INICIAL','PENDENTE'), primary key (id)) engine=InnoDB;
+create table card (blocked bit not null, created_at datetime(6) not null, id bigint not null auto_increment, task_status_id bigint, blocked_reason varchar(255), description varchar(255), title varchar(255) not null, unblocked_reason varchar(255), primary key (id)) engine=InnoDB;
+create table card_movement (card_id bigint not null, entry_date datetime(6) not null, exit_date datetime(6), id bigint not null auto_increment, task_status_id bigint not null, primary key (id)) engine=InnoDB;
+create table block_history (blocked_date datetime(6) not null, card_id bigint not null, id bigint not null auto_increment, unblocked_date datetime(6), blocked_reason varchar(255) not null, unblocked_reason varchar(255), primary key (id)) engine=InnoDB;
+alter table task_status add constraint FKm1x6h1jk4g1b6hbr0xc2c4t0k foreign key (board_id) references board (id);
+alter table card add constraint FK8s1mqbbfcpysqrgqyi8gqe5v0 foreign key (task_status_id) references task_status (id);
+alter table card_movement add constraint FKhp0mx3q8dstx6n6nvke7ws3mu foreign key (card_id) references card (id) on delete cascade;
+alter table card_movement add constraint FKq0lvo2bqg8tba9ahh4ljwmrhr foreign key (task_status_id) references task_status (id);
+alter table block_history add constraint FK5b9v0mrgkyfwpcb1wcqkcs3r4 foreign key (card_id) references card (id) on delete cascade;
+
+insert into board (id, name, created_at) values (1, 'Quadro legado', '2025-01-06 09:00:00');
+insert into task_status (id, name, priority, board_id, status) values
+    (1, 'A fazer', 1, 1, 'INICIAL'), (2, 'Fazendo', 2, 1, 'PENDENTE'),
+    (3, 'Feito', 3, 1, 'FINAL'), (4, 'Cancelado', 4, 1, 'CANCELADA');
+-- Cartão 1: passou para "Fazendo" e está bloqueado; cartão 2: ainda em "A fazer"
+insert into card (id, title, created_at, blocked, blocked_reason, task_status_id) values
+    (1, 'Cartão legado bloqueado', '2025-01-06 10:00:00', true, 'Aguardando cliente', 2),
+    (2, 'Cartão legado', '2025-01-07 10:00:00', false, null, 1);
+insert into card_movement (id, card_id, task_status_id, entry_date, exit_date) values
+    (1, 1, 1, '2025-01-06 10:00:00', '2025-01-08 10:00:00'),
+    (2, 1, 2, '2025-01-08 10:00:00', null),
+    (3, 2, 1, '2025-01-07 10:00:00', null);
+insert into block_history (id, card_id, blocked_date, blocked_reason, unblocked_date, unblocked_reason) values
+    (1, 1, '2025-01-08 11:00:00', 'Dependência externa', '2025-01-08 15:00:00', 'Resolvido'),
+    (2, 1, '2025-01-09 11:00:00', 'Aguardando cliente', null, null);